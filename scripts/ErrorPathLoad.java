@@ -0,0 +1,74 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ErrorPathLoad {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("usage: java ErrorPathLoad.java <GET|POST> <url> <token> <expected status> "
+                    + "[clients] [requests per client] [json body]");
+            System.exit(2);
+        }
+        int expectedStatus = Integer.parseInt(args[3]);
+        int clients = args.length > 4 ? Integer.parseInt(args[4]) : 50;
+        int requestsPerClient = args.length > 5 ? Integer.parseInt(args[5]) : 200;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(args[1]))
+                .header("Authorization", args[2])
+                .timeout(Duration.ofSeconds(60));
+        HttpRequest request = args[0].equals("POST")
+                ? builder.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(args.length > 6 ? args[6] : "{}")).build()
+                : builder.GET().build();
+
+        long[] latencies = new long[clients * requestsPerClient];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        long started;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long sent = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != expectedStatus) {
+                                unexpected.incrementAndGet();
+                            }
+                        } catch (IOException ex) {
+                            unexpected.incrementAndGet();
+                        }
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                    return null;
+                });
+            }
+            started = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%d requests in %.1f s: %.0f req/s, %d not %d, p50 %.2f ms, p99 %.2f ms%n",
+                latencies.length, seconds, latencies.length / seconds, unexpected.get(), expectedStatus,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))] / 1e6;
+    }
+}
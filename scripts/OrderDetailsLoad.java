@@ -0,0 +1,71 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OrderDetailsLoad {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: java OrderDetailsLoad.java <order details url> <token> [clients] [requests per client]");
+            System.exit(2);
+        }
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int requestsPerClient = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(args[0]))
+                .header("Authorization", args[1])
+                .timeout(Duration.ofSeconds(120))
+                .GET()
+                .build();
+
+        long[] latencies = new long[clients * requestsPerClient];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        long started;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long sent = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException ex) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                    return null;
+                });
+            }
+            started = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%d clients, %d requests in %.1f s: %.0f req/s, %d failed, "
+                        + "p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                clients, latencies.length, seconds, latencies.length / seconds, failures.get(),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))] / 1e6;
+    }
+}
@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+jar=${1:?usage: cds-train.sh <boot jar> <output directory>}
+out=${2:?usage: cds-train.sh <boot jar> <output directory>}
+port=${CDS_TRAINING_PORT:-18080}
+source "$(dirname "$0")/lib/app.sh"
+
+rm -rf "$out"
+java -Djarmode=tools -jar "$jar" extract --destination "$out"
+APP_JAR="$out/$(basename "$jar")"
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+start_app "$work" "$port" java -XX:ArchiveClassesAtExit="$out/application.jsa" -jar "$APP_JAR"
+wait_until_healthy "http://localhost:$port" 120
+place_first_order "http://localhost:$port" 60
+exercise_endpoints "http://localhost:$port"
+stop_app
+
+if [[ ! -s $out/application.jsa ]]; then
+    echo "training run did not write $out/application.jsa" >&2
+    cat "$work/app.log" >&2
+    exit 1
+fi
+cp "$(dirname "$0")/run.sh" "$out/run.sh"
+echo "CDS archive written to $out/application.jsa"
@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+jar=${1:-$(ls target/ecommerce-app-*.jar | head -n 1)}
+clients=${CLIENTS:-50}
+requests=${REQUESTS_PER_CLIENT:-200}
+port=${BENCH_PORT:-18086}
+load=$(dirname "$0")/ErrorPathLoad.java
+source "$(dirname "$0")/lib/app.sh"
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+for traces in false true; do
+    rm -rf "$work/run"
+    mkdir -p "$work/run"
+    start_app "$work/run" "$port" java -Dapp.exceptions.stack-traces="$traces" -jar "$jar" \
+        --app.concurrency.enabled=false
+    wait_until_healthy "http://localhost:$port" 120
+    place_first_order "http://localhost:$port" 60
+    base="http://localhost:$port"
+    product=$(curl -s "$base/api/products/search?q=lamp" | json_field name)
+
+    echo "stack traces $traces:"
+    for path in 409 404 400; do
+        case $path in
+            409) args=(POST "$base/api/products/add" "$ADMIN_TOKEN" 409 "$clients" "$requests"
+                       "{\"name\":\"$product\",\"price\":1.00,\"vat\":23,\"quantity\":1}") ;;
+            404) args=(GET "$base/api/orders/get/999999999" "$ADMIN_TOKEN" 404 "$clients" "$requests") ;;
+            400) args=(POST "$base/api/orders/place-order" "$USER_TOKEN" 400 "$clients" "$requests"
+                       "{\"items\":[{\"productId\":$PRODUCT_ID,\"quantity\":1000000}]}") ;;
+        esac
+        java "$load" "${args[@]:0:4}" 10 50 "${args[@]:6}" > /dev/null
+        printf '  %s %s\n' "$path" "$(java "$load" "${args[@]}")"
+    done
+    stop_app
+done
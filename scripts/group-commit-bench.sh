@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+jar=${1:-$(ls target/ecommerce-app-*.jar | head -n 1)}
+clients=${CLIENTS:-50}
+requests=${REQUESTS_PER_CLIENT:-40}
+port=${BENCH_PORT:-18087}
+load=$(dirname "$0")/ErrorPathLoad.java
+source "$(dirname "$0")/lib/app.sh"
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+for grouped in false true; do
+    rm -rf "$work/run"
+    mkdir -p "$work/run"
+    DATASOURCE_URL="jdbc:h2:file:$work/run/db/ecommerce" start_app "$work/run" "$port" java -jar "$jar" \
+        --app.orders.group-commit.enabled="$grouped" --app.concurrency.enabled=false
+    base="http://localhost:$port"
+    wait_until_healthy "$base" 120
+    place_first_order "$base" 60
+    product=$(curl -s -X POST "$base/api/products/add" -H 'Content-Type: application/json' \
+        -H "Authorization: $ADMIN_TOKEN" \
+        -d "{\"name\":\"Bench mug $(now_ms)\",\"price\":9.99,\"vat\":23,\"quantity\":100000000}" | json_field id)
+    body="{\"items\":[{\"productId\":$product,\"quantity\":1}]}"
+
+    java "$load" POST "$base/api/orders/place-order" "$USER_TOKEN" 201 10 20 "$body" > /dev/null
+    printf '%-22s %s\n' "group commit $grouped:" \
+        "$(java "$load" POST "$base/api/orders/place-order" "$USER_TOKEN" 201 "$clients" "$requests" "$body")"
+    stop_app
+done
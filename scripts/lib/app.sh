@@ -0,0 +1,115 @@
+#!/usr/bin/env bash
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+json_field() {
+    sed -n "s/.*\"$1\":\"\{0,1\}\([^\",}]*\).*/\1/p"
+}
+
+start_app() {
+    local work=$1 port=$2
+    shift 2
+    "$@" \
+        --server.port="$port" \
+        --spring.datasource.url="${DATASOURCE_URL:-jdbc:h2:mem:startup-$port;DB_CLOSE_DELAY=-1}" \
+        --spring.jpa.hibernate.ddl-auto=create-drop \
+        --spring.jpa.show-sql=false \
+        --app.outbox.file-sink.path="$work/outbox/order-events.ndjson" \
+        --app.inventory.sequencer.journal-dir="$work/inventory" \
+        --app.analytics.directory="$work/analytics" \
+        --app.reactive.port="${REACTIVE_PORT:-0}" \
+        > "$work/app.log" 2>&1 &
+    APP_PID=$!
+}
+
+rss_kb() {
+    awk '/^VmRSS:/ { print $2 }' "/proc/$APP_PID/status"
+}
+
+stop_app() {
+    [[ -n ${APP_PID:-} ]] || return 0
+    kill -TERM "$APP_PID" 2>/dev/null || true
+    wait "$APP_PID" 2>/dev/null || true
+}
+
+wait_until_healthy() {
+    local base=$1 deadline=$(( $(now_ms) + $2 * 1000 ))
+    until curl -sf -o /dev/null "$base/actuator/health"; do
+        if (( $(now_ms) > deadline )) || ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "application did not become healthy, see its log" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+}
+
+login() {
+    curl -s -X POST "$1/api/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$2\",\"password\":\"$3\"}" | json_field token | grep -v '^null$'
+}
+
+place_first_order() {
+    local base=$1 deadline=$(( $(now_ms) + $2 * 1000 )) admin_token="" user_token product_id
+    until [[ -n $admin_token ]]; do
+        if (( $(now_ms) > deadline )); then
+            echo "admin login did not succeed in time" >&2
+            return 1
+        fi
+        admin_token=$(login "$base" admin admin || true)
+        [[ -n $admin_token ]] || sleep 0.05
+    done
+
+    product_id=$(curl -s -X POST "$base/api/products/add" -H 'Content-Type: application/json' \
+        -H "Authorization: $admin_token" \
+        -d "{\"name\":\"Desk lamp $(now_ms)\",\"price\":49.99,\"vat\":23,\"quantity\":1000}" | json_field id)
+
+    curl -s -o /dev/null -X POST "$base/api/auth/register" -H 'Content-Type: application/json' \
+        -d '{"firstName":"Anna","lastName":"Nowak","username":"shopper","email":"shopper@example.com",
+             "password":"Shopper123","phoneNumber":"123456789","country":"Poland","city":"Warsaw",
+             "street":"Main Street 1","postalCode":"00-001"}'
+    user_token=$(login "$base" shopper Shopper123)
+
+    ORDER_ID=$(curl -sf -X POST "$base/api/orders/place-order" -H 'Content-Type: application/json' \
+        -H "Authorization: $user_token" \
+        -d "{\"items\":[{\"productId\":$product_id,\"quantity\":2}]}" | json_field orderId)
+    ADMIN_TOKEN=$admin_token
+    USER_TOKEN=$user_token
+    PRODUCT_ID=$product_id
+    [[ -n $ORDER_ID ]]
+}
+
+exercise_endpoints() {
+    local base=$1 today
+    today=$(date +%F)
+    local requests=(
+        "GET /api/products/search?q=lamp"
+        "GET /api/products/autocomplete?q=de"
+        "GET /api/products/trending?window=1h&limit=10"
+        "GET /api/orders/get/$ORDER_ID $USER_TOKEN"
+        "GET /api/cart $USER_TOKEN"
+        "DELETE /api/cart/items/$PRODUCT_ID $USER_TOKEN"
+        "GET /api/admin/sales/daily?from=$today&to=$today $ADMIN_TOKEN"
+        "GET /api/admin/sales/products?from=$today&to=$today $ADMIN_TOKEN"
+        "GET /api/admin/orders/export?format=csv $ADMIN_TOKEN"
+        "GET /api/admin/orders/export?format=ndjson&gzip=true $ADMIN_TOKEN"
+        "GET /api/admin/analytics/order-lines?groupBy=product $ADMIN_TOKEN"
+        "GET /actuator/metrics $ADMIN_TOKEN"
+    )
+    local request method path token status failures=0
+    curl -s -o /dev/null -X POST "$base/api/cart/items" -H 'Content-Type: application/json' \
+        -H "Authorization: $USER_TOKEN" -d "{\"productId\":$PRODUCT_ID,\"quantity\":1}"
+    for request in "${requests[@]}"; do
+        read -r method path token <<< "$request"
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X "$method" "$base$path" ${token:+-H "Authorization: $token"})
+        if [[ $status != 2* ]]; then
+            echo "$method $path answered $status" >&2
+            failures=$(( failures + 1 ))
+        fi
+    done
+    curl -s -o /dev/null -X POST "$base/api/orders/place-order" -H 'Content-Type: application/json' \
+        -H "Authorization: $USER_TOKEN" -d "{\"items\":[{\"productId\":$PRODUCT_ID,\"quantity\":1}]}"
+    curl -s -o /dev/null -X DELETE "$base/api/auth/logout" -H "Authorization: $USER_TOKEN"
+    (( failures == 0 ))
+}
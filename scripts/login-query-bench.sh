@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+jar=${1:-$(ls target/ecommerce-app-*.jar | head -n 1)}
+clients=${CLIENTS:-50}
+requests=${REQUESTS_PER_CLIENT:-20}
+port=${BENCH_PORT:-18087}
+load=$(dirname "$0")/ErrorPathLoad.java
+source "$(dirname "$0")/lib/app.sh"
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+trace() {
+    cat "$work/run/db/ecommerce.trace.db" 2>/dev/null || true
+}
+
+statements() {
+    trace | grep -c '/\*SQL' || true
+}
+
+user_lookups() {
+    trace | grep '/\*SQL' | grep -ci 'from users' || true
+}
+
+body='{"username":"shopper","password":"Shopper123"}'
+for ttl in 0 300; do
+    rm -rf "$work/run"
+    mkdir -p "$work/run"
+    DATASOURCE_URL="jdbc:h2:file:$work/run/db/ecommerce;TRACE_LEVEL_FILE=2;TRACE_MAX_FILE_SIZE=4096" \
+        start_app "$work/run" "$port" java -jar "$jar" \
+        --app.concurrency.enabled=false --app.auth.credential-cache.ttl-seconds="$ttl"
+    wait_until_healthy "http://localhost:$port" 120
+    place_first_order "http://localhost:$port" 60
+    java "$load" POST "http://localhost:$port/api/auth/login" none 200 5 4 "$body" > /dev/null
+
+    sleep 2
+    all=$(statements)
+    users=$(user_lookups)
+    result=$(java "$load" POST "http://localhost:$port/api/auth/login" none 200 "$clients" "$requests" "$body")
+    sleep 2
+    all=$(( $(statements) - all ))
+    users=$(( $(user_lookups) - users ))
+
+    printf '%-22s %s\n' "cache ttl ${ttl}s:" "$result"
+    printf '%-22s %d statements, %d reading users, for %d logins\n' "" "$all" "$users" $(( clients * requests ))
+    stop_app
+done
@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+exe=${1:-target/ecommerce-app}
+port=${SMOKE_PORT:-18082}
+source "$(dirname "$0")/lib/app.sh"
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+start_app "$work" "$port" "$exe"
+if ! wait_until_healthy "http://localhost:$port" 30 \
+        || ! place_first_order "http://localhost:$port" 30 \
+        || ! exercise_endpoints "http://localhost:$port"; then
+    cat "$work/app.log" >&2
+    exit 1
+fi
+echo "native smoke test passed"
@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+jar=${1:-$(ls target/ecommerce-app-*.jar | head -n 1)}
+clients=${CLIENTS:-10000}
+requests=${REQUESTS_PER_CLIENT:-10}
+port=${BENCH_PORT:-18084}
+export REACTIVE_PORT=${BENCH_REACTIVE_PORT:-18085}
+load=$(dirname "$0")/OrderDetailsLoad.java
+source "$(dirname "$0")/lib/app.sh"
+
+ulimit -n 65536 2>/dev/null || echo "could not raise the open file limit, some connections may fail" >&2
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+sample_rss() {
+    while kill -0 "$APP_PID" 2>/dev/null; do
+        rss_kb >> "$work/rss" 2>/dev/null || true
+        sleep 0.1
+    done
+}
+
+for stack in servlet servlet-virtual reactive; do
+    rm -rf "$work/run"
+    mkdir -p "$work/run"
+    virtual=false
+    reactive=false
+    [[ $stack == servlet-virtual ]] && virtual=true
+    [[ $stack == reactive ]] && reactive=true
+    start_app "$work/run" "$port" java -jar "$jar" \
+        --spring.threads.virtual.enabled="$virtual" --server.tomcat.max-connections="$clients" \
+        --app.concurrency.enabled=false --app.reactive.enabled="$reactive"
+    wait_until_healthy "http://localhost:$port" 120
+    place_first_order "http://localhost:$port" 60
+    if [[ $stack == reactive ]]; then
+        url="http://localhost:$REACTIVE_PORT/api/orders/get/$ORDER_ID"
+    else
+        url="http://localhost:$port/api/orders/get/$ORDER_ID"
+    fi
+    java "$load" "$url" "$USER_TOKEN" 1000 5 > /dev/null
+    idle=$(rss_kb)
+
+    : > "$work/rss"
+    sample_rss &
+    sampler=$!
+    result=$(java "$load" "$url" "$USER_TOKEN" "$clients" "$requests")
+    kill "$sampler" 2>/dev/null || true
+    wait "$sampler" 2>/dev/null || true
+    peak=$(sort -n "$work/rss" | tail -n 1)
+    peak=${peak:-$idle}
+
+    printf '%-16s %s\n' "$stack:" "$result"
+    printf '%-16s RSS idle %d MB, peak %d MB, %d KB per in-flight request\n' "" \
+        $(( idle / 1024 )) $(( peak / 1024 )) $(( (peak - idle) / clients ))
+    stop_app
+done
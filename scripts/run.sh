@@ -0,0 +1,10 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+dir=$(cd "$(dirname "$0")" && pwd)
+jar=$(ls "$dir"/ecommerce-app-*.jar | head -n 1)
+cds=()
+if [[ -f $dir/application.jsa ]]; then
+    cds=(-XX:SharedArchiveFile="$dir/application.jsa")
+fi
+exec java ${cds[@]+"${cds[@]}"} ${JAVA_OPTS:-} -jar "$jar" "$@"
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+app_dir=${APP_DIR:-target/app}
+native_exe=${NATIVE_EXE:-target/ecommerce-app}
+runs=${RUNS:-5}
+port=${BENCH_PORT:-18081}
+source "$(dirname "$0")/lib/app.sh"
+
+if [[ -d $app_dir ]]; then
+    jar=$(ls "$app_dir"/ecommerce-app-*.jar | head -n 1)
+else
+    jar=$(ls target/ecommerce-app-*.jar | head -n 1)
+fi
+
+work=$(mktemp -d)
+trap 'stop_app; rm -rf "$work"' EXIT
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+measure() {
+    local label=$1 ready order i started
+    shift
+    : > "$work/ready"
+    : > "$work/order"
+    : > "$work/rss"
+    for (( i = 1; i <= runs; i++ )); do
+        rm -rf "$work/run"
+        mkdir -p "$work/run"
+        started=$(now_ms)
+        start_app "$work/run" "$port" "$@"
+        wait_until_healthy "http://localhost:$port" 120
+        ready=$(now_ms)
+        place_first_order "http://localhost:$port" 60
+        order=$(now_ms)
+        rss_kb >> "$work/rss"
+        stop_app
+        echo $(( ready - started )) >> "$work/ready"
+        echo $(( order - started )) >> "$work/order"
+    done
+    printf '%-12s %14s ms %24s ms %12s MB\n' "$label" "$(median < "$work/ready")" \
+        "$(median < "$work/order")" "$(( $(median < "$work/rss") / 1024 ))"
+}
+
+printf '%-12s %17s %27s %15s\n' "" "healthy (median)" "first place-order (median)" "RSS (median)"
+measure "JVM" java -jar "$jar"
+if [[ -f $app_dir/application.jsa ]]; then
+    measure "JVM + CDS" java -XX:SharedArchiveFile="$app_dir/application.jsa" -jar "$jar"
+fi
+if [[ -x $native_exe ]]; then
+    measure "native" "$native_exe"
+fi
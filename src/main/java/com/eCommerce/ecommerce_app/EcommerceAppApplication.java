@@ -1,13 +1,22 @@
 package com.eCommerce.ecommerce_app;
 
+import com.eCommerce.ecommerce_app.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ImportRuntimeHints(NativeHints.class)
 public class EcommerceAppApplication {
 
+	private static final int STARTUP_STEPS = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EcommerceAppApplication.class, args);
+		SpringApplication application = new SpringApplication(EcommerceAppApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,260 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+final class ColumnSegment {
+
+    static final int MAGIC = 0x4F464331;
+    static final int BATCH = 1024;
+
+    private final int rowCount;
+    private final int minDay;
+    private final int maxDay;
+    private final long maxOrderId;
+    private final long[] products;
+    private final String[] countries;
+    private final PackedColumn orderIds;
+    private final PackedColumn days;
+    private final PackedColumn productCodes;
+    private final PackedColumn countryCodes;
+    private final PackedColumn quantities;
+    private final PackedColumn net;
+    private final PackedColumn gross;
+
+    private ColumnSegment(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not an order fact segment");
+        }
+        this.rowCount = buffer.getInt(4);
+        this.minDay = buffer.getInt(8);
+        this.maxDay = buffer.getInt(12);
+        this.maxOrderId = buffer.getLong(16);
+        int position = 24;
+        this.products = new long[buffer.getInt(position)];
+        position += Integer.BYTES;
+        for (int i = 0; i < products.length; i++) {
+            products[i] = buffer.getLong(position);
+            position += Long.BYTES;
+        }
+        this.countries = new String[buffer.getInt(position)];
+        position += Integer.BYTES;
+        for (int i = 0; i < countries.length; i++) {
+            byte[] name = new byte[buffer.getShort(position) & 0xFFFF];
+            buffer.get(position + Short.BYTES, name);
+            countries[i] = new String(name, StandardCharsets.UTF_8);
+            position += Short.BYTES + name.length;
+        }
+        this.orderIds = PackedColumn.read(buffer, position, rowCount);
+        this.days = PackedColumn.read(buffer, orderIds.end(), rowCount);
+        this.productCodes = PackedColumn.read(buffer, days.end(), rowCount);
+        this.countryCodes = PackedColumn.read(buffer, productCodes.end(), rowCount);
+        this.quantities = PackedColumn.read(buffer, countryCodes.end(), rowCount);
+        this.net = PackedColumn.read(buffer, quantities.end(), rowCount);
+        this.gross = PackedColumn.read(buffer, net.end(), rowCount);
+    }
+
+    static ColumnSegment open(ByteBuffer buffer) {
+        return new ColumnSegment(buffer);
+    }
+
+    static ByteBuffer encode(List<OrderFact> facts) {
+        int count = facts.size();
+        Map<Long, Integer> productDictionary = new LinkedHashMap<>();
+        Map<String, Integer> countryDictionary = new LinkedHashMap<>();
+        long[][] columns = new long[7][count];
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        long maxOrderId = 0L;
+        for (int i = 0; i < count; i++) {
+            OrderFact fact = facts.get(i);
+            String country = fact.country() == null ? "" : fact.country().trim();
+            columns[0][i] = fact.orderId();
+            columns[1][i] = fact.epochDay();
+            columns[2][i] = productDictionary.computeIfAbsent(fact.productId(), id -> productDictionary.size());
+            columns[3][i] = countryDictionary.computeIfAbsent(country, name -> countryDictionary.size());
+            columns[4][i] = fact.quantity();
+            columns[5][i] = fact.netMinor();
+            columns[6][i] = fact.grossMinor();
+            minDay = Math.min(minDay, fact.epochDay());
+            maxDay = Math.max(maxDay, fact.epochDay());
+            maxOrderId = Math.max(maxOrderId, fact.orderId());
+        }
+
+        int size = 24 + Integer.BYTES + productDictionary.size() * Long.BYTES + Integer.BYTES;
+        for (String country : countryDictionary.keySet()) {
+            size += Short.BYTES + country.getBytes(StandardCharsets.UTF_8).length;
+        }
+        for (long[] column : columns) {
+            size += PackedColumn.encodedSize(column, count);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC).putInt(count).putInt(minDay).putInt(maxDay).putLong(maxOrderId);
+        out.putInt(productDictionary.size());
+        productDictionary.keySet().forEach(out::putLong);
+        out.putInt(countryDictionary.size());
+        for (String country : countryDictionary.keySet()) {
+            byte[] name = country.getBytes(StandardCharsets.UTF_8);
+            out.putShort((short) name.length).put(name);
+        }
+        for (long[] column : columns) {
+            PackedColumn.write(out, column, count);
+        }
+        return out.flip();
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    long maxOrderId() {
+        return maxOrderId;
+    }
+
+    void forEachOrderId(LongConsumer consumer) {
+        long[] batch = new long[BATCH];
+        for (int start = 0; start < rowCount; start += BATCH) {
+            int length = Math.min(BATCH, rowCount - start);
+            orderIds.decode(start, length, batch);
+            for (int i = 0; i < length; i++) {
+                consumer.accept(batch[i]);
+            }
+        }
+    }
+
+    void aggregate(int fromDay, int toDay, Long productId, String country, FactGroupBy groupBy,
+                   Map<String, long[]> totals) {
+        if (rowCount == 0 || maxDay < fromDay || minDay > toDay) {
+            return;
+        }
+        int productCode = productId == null ? -1 : indexOf(products, productId);
+        boolean[] countryMatches = country == null ? null : matches(countries, country.trim());
+        if ((productId != null && productCode < 0) || (country != null && countryMatches == null)) {
+            return;
+        }
+        boolean dayFilter = minDay < fromDay || maxDay > toDay;
+        int groups = switch (groupBy) {
+            case DAY -> maxDay - minDay + 1;
+            case PRODUCT -> products.length;
+            case COUNTRY -> countries.length;
+        };
+        long[] units = new long[groups];
+        long[] netTotals = new long[groups];
+        long[] grossTotals = new long[groups];
+        long[] lines = new long[groups];
+
+        long[] dayBatch = new long[BATCH];
+        long[] productBatch = new long[BATCH];
+        long[] countryBatch = new long[BATCH];
+        long[] quantityBatch = new long[BATCH];
+        long[] netBatch = new long[BATCH];
+        long[] grossBatch = new long[BATCH];
+        int[] selection = new int[BATCH];
+        for (int start = 0; start < rowCount; start += BATCH) {
+            int length = Math.min(BATCH, rowCount - start);
+            int selected = 0;
+            if (dayFilter || groupBy == FactGroupBy.DAY) {
+                days.decode(start, length, dayBatch);
+            }
+            if (dayFilter) {
+                for (int i = 0; i < length; i++) {
+                    if (dayBatch[i] >= fromDay && dayBatch[i] <= toDay) {
+                        selection[selected++] = i;
+                    }
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    selection[i] = i;
+                }
+                selected = length;
+            }
+            if (productCode >= 0 || groupBy == FactGroupBy.PRODUCT) {
+                productCodes.decode(start, length, productBatch);
+            }
+            if (productCode >= 0) {
+                selected = refine(selection, selected, productBatch, productCode);
+            }
+            if (countryMatches != null || groupBy == FactGroupBy.COUNTRY) {
+                countryCodes.decode(start, length, countryBatch);
+            }
+            if (countryMatches != null) {
+                int kept = 0;
+                for (int j = 0; j < selected; j++) {
+                    if (countryMatches[(int) countryBatch[selection[j]]]) {
+                        selection[kept++] = selection[j];
+                    }
+                }
+                selected = kept;
+            }
+            if (selected == 0) {
+                continue;
+            }
+
+            quantities.decode(start, length, quantityBatch);
+            net.decode(start, length, netBatch);
+            gross.decode(start, length, grossBatch);
+            long[] keys = groupBy == FactGroupBy.DAY ? dayBatch
+                    : groupBy == FactGroupBy.PRODUCT ? productBatch : countryBatch;
+            long keyBase = groupBy == FactGroupBy.DAY ? minDay : 0L;
+            for (int j = 0; j < selected; j++) {
+                int row = selection[j];
+                int group = (int) (keys[row] - keyBase);
+                units[group] += quantityBatch[row];
+                netTotals[group] += netBatch[row];
+                grossTotals[group] += grossBatch[row];
+                lines[group]++;
+            }
+        }
+
+        for (int group = 0; group < groups; group++) {
+            if (lines[group] == 0) {
+                continue;
+            }
+            String key = switch (groupBy) {
+                case DAY -> LocalDate.ofEpochDay(minDay + group).toString();
+                case PRODUCT -> Long.toString(products[group]);
+                case COUNTRY -> countries[group].isEmpty() ? "unknown" : countries[group];
+            };
+            long[] total = totals.computeIfAbsent(key, k -> new long[4]);
+            total[0] += units[group];
+            total[1] += netTotals[group];
+            total[2] += grossTotals[group];
+            total[3] += lines[group];
+        }
+    }
+
+    private static int refine(int[] selection, int selected, long[] column, long code) {
+        int kept = 0;
+        for (int j = 0; j < selected; j++) {
+            if (column[selection[j]] == code) {
+                selection[kept++] = selection[j];
+            }
+        }
+        return kept;
+    }
+
+    private static int indexOf(long[] dictionary, long value) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean[] matches(String[] dictionary, String value) {
+        boolean[] matches = new boolean[dictionary.length];
+        boolean any = false;
+        for (int i = 0; i < dictionary.length; i++) {
+            matches[i] = dictionary[i].equalsIgnoreCase(value);
+            any |= matches[i];
+        }
+        return any ? matches : null;
+    }
+}
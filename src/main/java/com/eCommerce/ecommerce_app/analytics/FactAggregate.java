@@ -0,0 +1,4 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+public record FactAggregate(String key, long units, long netMinor, long grossMinor, long lines) {
+}
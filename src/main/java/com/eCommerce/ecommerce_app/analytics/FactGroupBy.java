@@ -0,0 +1,7 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+public enum FactGroupBy {
+    DAY,
+    PRODUCT,
+    COUNTRY
+}
@@ -0,0 +1,92 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+final class FactJournal implements Closeable {
+
+    private static final int FIXED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES
+            + Long.BYTES + Long.BYTES + Short.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    FactJournal(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+    }
+
+    void append(OrderFact fact) throws IOException {
+        byte[] country = fact.country() == null ? new byte[0] : fact.country().getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < FIXED_BYTES + country.length) {
+            writeBuffer();
+        }
+        buffer.putLong(fact.orderId()).putInt(fact.epochDay()).putLong(fact.productId()).putInt(fact.quantity())
+                .putLong(fact.netMinor()).putLong(fact.grossMinor()).putShort((short) country.length).put(country);
+    }
+
+    void sync() throws IOException {
+        writeBuffer();
+        channel.force(false);
+    }
+
+    void truncate() throws IOException {
+        buffer.clear();
+        channel.truncate(0);
+        channel.position(0);
+    }
+
+    static List<OrderFact> replay(Path file) throws IOException {
+        List<OrderFact> facts = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return facts;
+        }
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(file));
+        while (records.remaining() >= FIXED_BYTES) {
+            long orderId = records.getLong();
+            int epochDay = records.getInt();
+            long productId = records.getLong();
+            int quantity = records.getInt();
+            long netMinor = records.getLong();
+            long grossMinor = records.getLong();
+            byte[] country = new byte[records.getShort() & 0xFFFF];
+            if (records.remaining() < country.length) {
+                break;
+            }
+            records.get(country);
+            facts.add(new OrderFact(orderId, epochDay, productId, new String(country, StandardCharsets.UTF_8),
+                    quantity, netMinor, grossMinor));
+        }
+        return facts;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
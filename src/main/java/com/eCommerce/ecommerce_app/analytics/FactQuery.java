@@ -0,0 +1,6 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import java.time.LocalDate;
+
+public record FactQuery(LocalDate from, LocalDate to, Long productId, String country, FactGroupBy groupBy, int limit) {
+}
@@ -0,0 +1,5 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+record OrderFact(long orderId, int epochDay, long productId, String country, int quantity, long netMinor,
+                 long grossMinor) {
+}
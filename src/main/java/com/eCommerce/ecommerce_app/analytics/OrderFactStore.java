@@ -0,0 +1,504 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.money.Money;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class OrderFactStore implements MeterBinder {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".ofc";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String REBUILD_MARKER = "rebuild.commit";
+    private static final int COUNTRY_CACHE_SIZE = 10_000;
+    private static final int COUNTRY_LOOKUP_CHUNK = 500;
+    private static final String LOAD_SQL = "select o.id, o.order_date, u.country, oi.product_id, oi.quantity, "
+            + "oi.net_price, oi.gross_price from orders o join order_items oi on oi.order_id = o.id "
+            + "left join users u on u.id = o.user_id where o.id > ? order by o.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final int segmentRows;
+    private final long catchUpWindow;
+    private final Queue<PendingOrder> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingOrders = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, String> countries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+            return size() > COUNTRY_CACHE_SIZE;
+        }
+    };
+    private final List<OrderFact> tail = new ArrayList<>();
+    private final List<TailChunk> tailChunks = new ArrayList<>();
+    private List<ColumnSegment> segments = new ArrayList<>();
+    private List<Path> segmentFiles = new ArrayList<>();
+    private OrderIdSet ingested = new OrderIdSet();
+    private FactJournal journal;
+    private long nextSegment;
+    private volatile Snapshot snapshot = new Snapshot(List.of(), List.of(), 0L);
+    private static final Logger log = LoggerFactory.getLogger(OrderFactStore.class);
+
+    public OrderFactStore(JdbcTemplate jdbcTemplate,
+                          @Value("${app.analytics.directory:data/analytics}") String directory,
+                          @Value("${app.analytics.segment-rows:65536}") int segmentRows,
+                          @Value("${app.analytics.catch-up-window:10000}") long catchUpWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Path.of(directory);
+        this.segmentRows = segmentRows;
+        this.catchUpWindow = catchUpWindow;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void open() throws IOException {
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            Files.createDirectories(directory);
+            recoverRebuild();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                files.forEach(segmentFiles::add);
+            }
+            Collections.sort(segmentFiles);
+            for (Path file : segmentFiles) {
+                ColumnSegment segment = map(file);
+                segment.forEachOrderId(ingested::add);
+                segments.add(segment);
+                nextSegment = Math.max(nextSegment, segmentNumber(file) + 1);
+            }
+
+            Path journalFile = directory.resolve("tail.journal");
+            Set<Long> replayed = new HashSet<>();
+            for (OrderFact fact : FactJournal.replay(journalFile)) {
+                if (replayed.contains(fact.orderId()) || !ingested.contains(fact.orderId())) {
+                    replayed.add(fact.orderId());
+                    tail.add(fact);
+                }
+            }
+            replayed.forEach(ingested::add);
+            journal = new FactJournal(journalFile);
+
+            long caughtUp = load(Math.max(0L, ingested.max() - catchUpWindow));
+            publish();
+            log.info("Order fact store opened with {} segments, {} tail rows and {} caught-up lines in {} ms",
+                    segments.size(), tail.size(), caughtUp, (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (journal != null) {
+                drain();
+                journal.close();
+                journal = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void record(Order order) {
+        List<Line> lines = new ArrayList<>(order.getOrderItems().size());
+        for (OrderItem item : order.getOrderItems()) {
+            lines.add(new Line(item.getProductId(), item.getQuantity(), item.getNetPrice().getMinorUnits(),
+                    item.getGrossPrice().getMinorUnits()));
+        }
+        pending.add(new PendingOrder(order.getId(), (int) order.getOrderDate().toLocalDate().toEpochDay(),
+                order.getUser().getId(), lines));
+        pendingOrders.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:1000}")
+    public int drain() {
+        lock.lock();
+        try {
+            if (journal == null) {
+                return 0;
+            }
+            List<PendingOrder> orders = new ArrayList<>();
+            for (PendingOrder order = pending.poll(); order != null; order = pending.poll()) {
+                pendingOrders.decrementAndGet();
+                orders.add(order);
+            }
+            if (orders.isEmpty()) {
+                return 0;
+            }
+
+            resolveCountries(orders);
+            int appended = 0;
+            try {
+                for (PendingOrder order : orders) {
+                    List<OrderFact> facts = new ArrayList<>(order.lines().size());
+                    for (Line line : order.lines()) {
+                        facts.add(new OrderFact(order.orderId(), order.epochDay(), line.productId(),
+                                countries.get(order.userId()), line.quantity(), line.netMinor(), line.grossMinor()));
+                    }
+                    if (append(order.orderId(), facts)) {
+                        appended++;
+                    }
+                }
+                journal.sync();
+            } catch (IOException ex) {
+                log.error("Could not persist order facts", ex);
+            }
+            publish();
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long rebuild() throws IOException {
+        lock.lock();
+        try {
+            if (journal == null) {
+                throw new IllegalStateException("Order fact store is not open");
+            }
+            long started = System.nanoTime();
+            long firstSegment = nextSegment;
+            List<Path> staged = new ArrayList<>();
+            OrderIdSet rebuilt = new OrderIdSet();
+            long lines;
+            try {
+                lines = stage(staged, rebuilt);
+                writeMarker(firstSegment, nextSegment - 1);
+            } catch (IOException | RuntimeException ex) {
+                for (Path file : staged) {
+                    Files.deleteIfExists(file);
+                }
+                throw ex;
+            }
+
+            List<ColumnSegment> rebuiltSegments = new ArrayList<>(staged.size());
+            List<Path> rebuiltFiles = new ArrayList<>(staged.size());
+            for (Path temp : staged) {
+                Path file = committed(temp);
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+                rebuiltFiles.add(file);
+                rebuiltSegments.add(map(file));
+            }
+            List<Path> obsolete = segmentFiles;
+            segments = rebuiltSegments;
+            segmentFiles = rebuiltFiles;
+            ingested = rebuilt;
+            tail.clear();
+            tailChunks.clear();
+            journal.truncate();
+            publish();
+            removeObsolete(obsolete);
+            log.info("Rebuilt order fact store with {} lines in {} segments in {} ms", lines, segments.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+            return lines;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<FactAggregate> aggregate(FactQuery query) {
+        Snapshot current = snapshot;
+        int fromDay = query.from() == null ? Integer.MIN_VALUE : (int) query.from().toEpochDay();
+        int toDay = query.to() == null ? Integer.MAX_VALUE : (int) query.to().toEpochDay();
+        Map<String, long[]> totals = new HashMap<>();
+        for (ColumnSegment segment : current.segments()) {
+            segment.aggregate(fromDay, toDay, query.productId(), query.country(), query.groupBy(), totals);
+        }
+        for (ColumnSegment chunk : current.tail()) {
+            chunk.aggregate(fromDay, toDay, query.productId(), query.country(), query.groupBy(), totals);
+        }
+
+        List<FactAggregate> results = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> results.add(new FactAggregate(key, total[0], total[1], total[2], total[3])));
+        results.sort(query.groupBy() == FactGroupBy.DAY
+                ? Comparator.comparing(FactAggregate::key)
+                : Comparator.comparingLong(FactAggregate::grossMinor).reversed().thenComparing(FactAggregate::key));
+        return results.size() > query.limit() ? new ArrayList<>(results.subList(0, query.limit())) : results;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("analytics.order-facts.segments", this, store -> store.snapshot.segments().size())
+                .register(registry);
+        Gauge.builder("analytics.order-facts.rows", this, store -> store.snapshot.rows())
+                .register(registry);
+        Gauge.builder("analytics.order-facts.pending", pendingOrders, AtomicInteger::get)
+                .register(registry);
+    }
+
+    private boolean append(long orderId, List<OrderFact> facts) throws IOException {
+        if (facts.isEmpty() || !ingested.add(orderId)) {
+            return false;
+        }
+        for (OrderFact fact : facts) {
+            journal.append(fact);
+        }
+        tail.addAll(facts);
+        if (tail.size() >= segmentRows) {
+            seal();
+        }
+        return true;
+    }
+
+    private long load(long afterOrderId) throws IOException {
+        long lines = forEachOrder(afterOrderId, facts -> append(facts.get(0).orderId(), facts));
+        journal.sync();
+        return lines;
+    }
+
+    private long stage(List<Path> staged, OrderIdSet rebuilt) throws IOException {
+        List<OrderFact> rows = new ArrayList<>();
+        long lines = forEachOrder(0L, facts -> {
+            if (rebuilt.add(facts.get(0).orderId())) {
+                rows.addAll(facts);
+                if (rows.size() >= segmentRows) {
+                    staged.add(stageSegment(rows));
+                    rows.clear();
+                }
+            }
+        });
+        if (!rows.isEmpty()) {
+            staged.add(stageSegment(rows));
+        }
+        return lines;
+    }
+
+    private long forEachOrder(long afterOrderId, OrderSink sink) throws IOException {
+        List<OrderFact> order = new ArrayList<>();
+        long[] lines = {0L};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(LOAD_SQL);
+                statement.setFetchSize(1000);
+                statement.setLong(1, afterOrderId);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                long orderId = rs.getLong(1);
+                if (!order.isEmpty() && order.get(0).orderId() != orderId) {
+                    acceptUnchecked(sink, order);
+                }
+                order.add(new OrderFact(orderId, (int) rs.getTimestamp(2).toLocalDateTime().toLocalDate().toEpochDay(),
+                        rs.getLong(4), rs.getString(3), rs.getInt(5), Money.of(rs.getBigDecimal(6)).getMinorUnits(),
+                        Money.of(rs.getBigDecimal(7)).getMinorUnits()));
+                lines[0]++;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (!order.isEmpty()) {
+            sink.accept(List.copyOf(order));
+        }
+        return lines[0];
+    }
+
+    private static void acceptUnchecked(OrderSink sink, List<OrderFact> order) {
+        try {
+            sink.accept(List.copyOf(order));
+            order.clear();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void seal() throws IOException {
+        if (tail.isEmpty()) {
+            return;
+        }
+        Path temp = stageSegment(tail);
+        Path file = committed(temp);
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        segments.add(map(file));
+        segmentFiles.add(file);
+        tail.clear();
+        tailChunks.clear();
+        journal.truncate();
+    }
+
+    private Path stageSegment(List<OrderFact> rows) throws IOException {
+        Path temp = directory.resolve(String.format("%s%08d%s%s", SEGMENT_PREFIX, nextSegment++, SEGMENT_SUFFIX,
+                TEMP_SUFFIX));
+        write(temp, ColumnSegment.encode(rows));
+        return temp;
+    }
+
+    private void writeMarker(long firstSegment, long lastSegment) throws IOException {
+        Path marker = directory.resolve(REBUILD_MARKER);
+        Path temp = marker.resolveSibling(REBUILD_MARKER + TEMP_SUFFIX);
+        write(temp, ByteBuffer.wrap((firstSegment + " " + lastSegment).getBytes(StandardCharsets.US_ASCII)));
+        Files.move(temp, marker, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void recoverRebuild() throws IOException {
+        Path marker = directory.resolve(REBUILD_MARKER);
+        boolean committed = Files.exists(marker);
+        long firstSegment = Long.MAX_VALUE;
+        long lastSegment = Long.MIN_VALUE;
+        if (committed) {
+            String[] range = Files.readString(marker, StandardCharsets.US_ASCII).trim().split(" ");
+            firstSegment = Long.parseLong(range[0]);
+            lastSegment = Long.parseLong(range[1]);
+        }
+        List<Path> obsolete = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX + TEMP_SUFFIX)) {
+                    long number = segmentNumber(committed(file));
+                    if (number >= firstSegment && number <= lastSegment) {
+                        Files.move(file, committed(file), StandardCopyOption.ATOMIC_MOVE);
+                    } else {
+                        Files.delete(file);
+                    }
+                } else if (name.endsWith(SEGMENT_SUFFIX) && segmentNumber(file) < firstSegment) {
+                    obsolete.add(file);
+                }
+            }
+        }
+        Files.deleteIfExists(directory.resolve(REBUILD_MARKER + TEMP_SUFFIX));
+        if (committed) {
+            log.info("Completing interrupted rebuild of the order fact store");
+            removeObsolete(obsolete);
+        }
+    }
+
+    private void removeObsolete(List<Path> obsolete) {
+        try {
+            for (Path file : obsolete) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory.resolve(REBUILD_MARKER));
+        } catch (IOException ex) {
+            log.warn("Could not remove segments replaced by a rebuild, retrying on next start", ex);
+        }
+    }
+
+    private void publish() {
+        int published = tailChunks.isEmpty() ? 0 : tailChunks.get(tailChunks.size() - 1).to();
+        if (tail.size() > published) {
+            int from = published;
+            while (!tailChunks.isEmpty() && tailChunks.get(tailChunks.size() - 1).rows() <= tail.size() - from) {
+                from = tailChunks.remove(tailChunks.size() - 1).from();
+            }
+            tailChunks.add(new TailChunk(from, tail.size(),
+                    ColumnSegment.open(ColumnSegment.encode(tail.subList(from, tail.size())))));
+        }
+
+        long rows = tail.size();
+        for (ColumnSegment segment : segments) {
+            rows += segment.rowCount();
+        }
+        List<ColumnSegment> chunks = new ArrayList<>(tailChunks.size());
+        for (TailChunk chunk : tailChunks) {
+            chunks.add(chunk.segment());
+        }
+        snapshot = new Snapshot(List.copyOf(segments), List.copyOf(chunks), rows);
+    }
+
+    private void resolveCountries(List<PendingOrder> orders) {
+        Set<Long> missing = new LinkedHashSet<>();
+        for (PendingOrder order : orders) {
+            if (!countries.containsKey(order.userId())) {
+                missing.add(order.userId());
+            }
+        }
+        List<Long> unknown = new ArrayList<>(missing);
+        for (int from = 0; from < unknown.size(); from += COUNTRY_LOOKUP_CHUNK) {
+            List<Long> chunk = unknown.subList(from, Math.min(unknown.size(), from + COUNTRY_LOOKUP_CHUNK));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("select id, country from users where id in (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> countries.put(rs.getLong(1), rs.getString(2) == null ? "" : rs.getString(2)),
+                    chunk.toArray());
+            for (Long userId : chunk) {
+                countries.putIfAbsent(userId, "");
+            }
+        }
+    }
+
+    private static void write(Path file, ByteBuffer encoded) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static Path committed(Path temp) {
+        String name = temp.getFileName().toString();
+        return temp.resolveSibling(name.substring(0, name.length() - TEMP_SUFFIX.length()));
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static ColumnSegment map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return ColumnSegment.open(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private interface OrderSink {
+        void accept(List<OrderFact> facts) throws IOException;
+    }
+
+    private record Snapshot(List<ColumnSegment> segments, List<ColumnSegment> tail, long rows) {
+    }
+
+    private record TailChunk(int from, int to, ColumnSegment segment) {
+
+        private int rows() {
+            return to - from;
+        }
+    }
+
+    private record PendingOrder(long orderId, int epochDay, long userId, List<Line> lines) {
+    }
+
+    private record Line(long productId, int quantity, long netMinor, long grossMinor) {
+    }
+}
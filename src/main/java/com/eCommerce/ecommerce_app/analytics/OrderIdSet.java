@@ -0,0 +1,37 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class OrderIdSet {
+
+    private static final int CHUNK_BITS = 16;
+
+    private final Map<Long, long[]> chunks = new HashMap<>();
+    private long max;
+
+    boolean add(long orderId) {
+        long[] chunk = chunks.computeIfAbsent(orderId >>> CHUNK_BITS, key -> new long[(1 << CHUNK_BITS) / Long.SIZE]);
+        int bit = (int) (orderId & ((1 << CHUNK_BITS) - 1));
+        long mask = 1L << (bit & (Long.SIZE - 1));
+        if ((chunk[bit >>> 6] & mask) != 0) {
+            return false;
+        }
+        chunk[bit >>> 6] |= mask;
+        max = Math.max(max, orderId);
+        return true;
+    }
+
+    boolean contains(long orderId) {
+        long[] chunk = chunks.get(orderId >>> CHUNK_BITS);
+        if (chunk == null) {
+            return false;
+        }
+        int bit = (int) (orderId & ((1 << CHUNK_BITS) - 1));
+        return (chunk[bit >>> 6] & (1L << (bit & (Long.SIZE - 1)))) != 0;
+    }
+
+    long max() {
+        return max;
+    }
+}
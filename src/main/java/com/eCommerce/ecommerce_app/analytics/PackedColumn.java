@@ -0,0 +1,112 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import java.nio.ByteBuffer;
+
+final class PackedColumn {
+
+    private static final int HEADER_BYTES = 1 + Long.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int dataOffset;
+    private final int width;
+    private final long base;
+    private final int rowCount;
+
+    private PackedColumn(ByteBuffer buffer, int dataOffset, int width, long base, int rowCount) {
+        this.buffer = buffer;
+        this.dataOffset = dataOffset;
+        this.width = width;
+        this.base = base;
+        this.rowCount = rowCount;
+    }
+
+    static int width(long[] values, int count) {
+        if (count == 0) {
+            return 1;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        long range = max - min;
+        if (range < 0) {
+            return Long.BYTES;
+        }
+        return range < 1L << 8 ? 1 : range < 1L << 16 ? 2 : range < 1L << 32 ? 4 : Long.BYTES;
+    }
+
+    static int encodedSize(long[] values, int count) {
+        return HEADER_BYTES + width(values, count) * count;
+    }
+
+    static void write(ByteBuffer out, long[] values, int count) {
+        int width = width(values, count);
+        long base = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            base = Math.min(base, values[i]);
+        }
+        if (count == 0 || width == Long.BYTES) {
+            base = 0L;
+        }
+        out.put((byte) width).putLong(base);
+        for (int i = 0; i < count; i++) {
+            long delta = values[i] - base;
+            switch (width) {
+                case 1 -> out.put((byte) delta);
+                case 2 -> out.putShort((short) delta);
+                case 4 -> out.putInt((int) delta);
+                default -> out.putLong(delta);
+            }
+        }
+    }
+
+    static PackedColumn read(ByteBuffer buffer, int offset, int rowCount) {
+        int width = buffer.get(offset);
+        if (width != 1 && width != 2 && width != 4 && width != Long.BYTES) {
+            throw new IllegalStateException("Corrupt column at offset " + offset);
+        }
+        return new PackedColumn(buffer, offset + HEADER_BYTES, width, buffer.getLong(offset + 1), rowCount);
+    }
+
+    int end() {
+        return dataOffset + width * rowCount;
+    }
+
+    long get(int row) {
+        int position = dataOffset + row * width;
+        return switch (width) {
+            case 1 -> base + (buffer.get(position) & 0xFFL);
+            case 2 -> base + (buffer.getShort(position) & 0xFFFFL);
+            case 4 -> base + (buffer.getInt(position) & 0xFFFFFFFFL);
+            default -> buffer.getLong(position);
+        };
+    }
+
+    void decode(int from, int length, long[] into) {
+        int position = dataOffset + from * width;
+        switch (width) {
+            case 1 -> {
+                for (int i = 0; i < length; i++) {
+                    into[i] = base + (buffer.get(position + i) & 0xFFL);
+                }
+            }
+            case 2 -> {
+                for (int i = 0; i < length; i++) {
+                    into[i] = base + (buffer.getShort(position + 2 * i) & 0xFFFFL);
+                }
+            }
+            case 4 -> {
+                for (int i = 0; i < length; i++) {
+                    into[i] = base + (buffer.getInt(position + 4 * i) & 0xFFFFFFFFL);
+                }
+            }
+            default -> {
+                for (int i = 0; i < length; i++) {
+                    into[i] = buffer.getLong(position + 8 * i);
+                }
+            }
+        }
+    }
+}
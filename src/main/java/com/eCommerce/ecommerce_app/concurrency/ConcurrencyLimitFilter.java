@@ -0,0 +1,145 @@
+package com.eCommerce.ecommerce_app.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String LIMITED_PATHS = "/api/**";
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String[] excludedPaths;
+    private final String[] criticalPaths;
+    private final String[] lowPaths;
+    private final int retryAfterSeconds;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter concurrencyLimiter, ObjectMapper objectMapper,
+                                  @Value("${app.concurrency.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency.excluded-paths:/api/admin/**}") String[] excludedPaths,
+                                  @Value("${app.concurrency.critical-paths:/api/orders/place-order}") String[] criticalPaths,
+                                  @Value("${app.concurrency.low-paths:/api/products/**}") String[] lowPaths,
+                                  @Value("${app.concurrency.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.excludedPaths = excludedPaths;
+        this.criticalPaths = criticalPaths;
+        this.lowPaths = lowPaths;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return !enabled || !pathMatcher.match(LIMITED_PATHS, path) || matchesAny(excludedPaths, path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(priorityOf(pathOf(request)));
+        if (permit == null) {
+            reject(request, response);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            release(permit, released, true);
+            throw ex;
+        }
+        if (!request.isAsyncStarted()) {
+            release(permit, released, response.getStatus() >= 500);
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                release(permit, released, response.getStatus() >= 500);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                release(permit, released, true);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                release(permit, released, true);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    RequestPriority priorityOf(String path) {
+        if (matchesAny(criticalPaths, path)) {
+            return RequestPriority.CRITICAL;
+        }
+        if (matchesAny(lowPaths, path)) {
+            return RequestPriority.LOW;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private boolean matchesAny(String[] patterns, String path) {
+        for (String pattern : patterns) {
+            if (!pattern.isBlank() && pathMatcher.match(pattern.trim(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release(ConcurrencyLimiter.Permit permit, AtomicBoolean released, boolean dropped) {
+        if (released.compareAndSet(false, true)) {
+            concurrencyLimiter.release(permit, dropped);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is busy. Please retry after " + retryAfterSeconds + " s.");
+        problem.setTitle("Service Overloaded");
+        problem.setType(URI.create("overloaded"));
+        problem.setProperty("path", request.getRequestURI());
+        problem.setProperty("errorCode", "overloaded");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,93 @@
+package com.eCommerce.ecommerce_app.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ConcurrencyLimiter implements MeterBinder {
+
+    private final VegasLimit limit;
+    private final Map<RequestPriority, Double> shares = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, LongAdder> rejected = new EnumMap<>(RequestPriority.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ConcurrencyLimiter(@Value("${app.concurrency.initial-limit:50}") int initialLimit,
+                              @Value("${app.concurrency.min-limit:10}") int minLimit,
+                              @Value("${app.concurrency.max-limit:500}") int maxLimit,
+                              @Value("${app.concurrency.probe-interval:1000}") int probeInterval,
+                              @Value("${app.concurrency.low-share:0.75}") double lowShare,
+                              @Value("${app.concurrency.normal-share:0.9}") double normalShare) {
+        this.limit = new VegasLimit(initialLimit, minLimit, maxLimit, probeInterval);
+        shares.put(RequestPriority.LOW, lowShare);
+        shares.put(RequestPriority.NORMAL, normalShare);
+        shares.put(RequestPriority.CRITICAL, 1.0);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    public Permit tryAcquire(RequestPriority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1, System.nanoTime());
+            }
+        }
+    }
+
+    public void release(Permit permit, boolean dropped) {
+        inFlight.decrementAndGet();
+        limit.onSample(System.nanoTime() - permit.startedNanos(), permit.inFlight(), dropped);
+    }
+
+    public int allowed(RequestPriority priority) {
+        return Math.max(1, (int) (limit.limit() * shares.get(priority)));
+    }
+
+    public int getLimit() {
+        return limit.limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected(RequestPriority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("concurrency.limit", this, ConcurrencyLimiter::getLimit)
+                .register(registry);
+        Gauge.builder("concurrency.in-flight", inFlight, AtomicInteger::get)
+                .register(registry);
+        TimeGauge.builder("concurrency.no-load-rtt", limit, TimeUnit.NANOSECONDS, VegasLimit::noLoadRttNanos)
+                .register(registry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            FunctionCounter.builder("concurrency.rejected", rejected.get(priority), LongAdder::sum)
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+
+    public record Permit(int inFlight, long startedNanos) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.eCommerce.ecommerce_app.concurrency;
+
+public enum RequestPriority {
+    LOW,
+    NORMAL,
+    CRITICAL
+}
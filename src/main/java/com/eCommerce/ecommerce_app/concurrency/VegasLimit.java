@@ -0,0 +1,68 @@
+package com.eCommerce.ecommerce_app.concurrency;
+
+final class VegasLimit {
+
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeInterval;
+    private double limit;
+    private long noLoadRttNanos;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long samplesInWindow;
+
+    VegasLimit(int initialLimit, int minLimit, int maxLimit, int probeInterval) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeInterval = probeInterval;
+        this.limit = initialLimit;
+    }
+
+    synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++samplesInWindow >= probeInterval) {
+            noLoadRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            samplesInWindow = 0;
+        }
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+
+        double step = Math.max(1.0, Math.log10(limit));
+        double next;
+        if (dropped) {
+            next = limit - step;
+        } else if (inFlight * 2 < limit) {
+            return;
+        } else {
+            double queued = Math.ceil(limit * (1.0 - (double) noLoadRttNanos / rttNanos));
+            if (queued <= step) {
+                next = limit + BETA * step;
+            } else if (queued < ALPHA * step) {
+                next = limit + step;
+            } else if (queued > BETA * step) {
+                next = limit - step;
+            } else {
+                return;
+            }
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized long noLoadRttNanos() {
+        return noLoadRttNanos;
+    }
+}
@@ -2,9 +2,17 @@ package com.eCommerce.ecommerce_app.config;
 
 import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.membership.MembershipFilters;
 import com.eCommerce.ecommerce_app.respositories.UserRepository;
-import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -13,16 +21,36 @@ public class DataInitializer {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MembershipFilters membershipFilters;
+    private final TaskExecutor taskExecutor;
+    private final boolean enabled;
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
     @Autowired
-    public DataInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public DataInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           MembershipFilters membershipFilters,
+                           @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                           @Value("${app.seed.admin.enabled:true}") boolean enabled) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.membershipFilters = membershipFilters;
+        this.taskExecutor = taskExecutor;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        if (!enabled) {
+            return;
+        }
+        taskExecutor.execute(this::init);
     }
 
-    @PostConstruct
     public void init() {
-        if (userRepository.findByUsername("admin").isEmpty()) {
+        try {
+            if (userRepository.findByUsername("admin").isPresent()) {
+                return;
+            }
             User admin = new User();
             admin.setUsername("admin");
             admin.setFirstName("admin");
@@ -37,6 +65,13 @@ public class DataInitializer {
             admin.getRoles().add(Role.ADMIN);
 
             userRepository.save(admin);
+            membershipFilters.emails().add(admin.getEmail());
+            membershipFilters.usernames().add(admin.getUsername());
+            log.info("Seeded admin user");
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Admin user already exists");
+        } catch (Exception ex) {
+            log.error("Error while seeding admin user", ex);
         }
     }
 }
@@ -0,0 +1,74 @@
+package com.eCommerce.ecommerce_app.config;
+
+import com.eCommerce.ecommerce_app.analytics.FactGroupBy;
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderDocument;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.entities.ProductDailySales;
+import com.eCommerce.ecommerce_app.entities.StockHold;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.entities.VatRate;
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.money.MoneyConverter;
+import com.eCommerce.ecommerce_app.requests.LoginRequestDto;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
+import com.eCommerce.ecommerce_app.requests.ProductRequestDto;
+import com.eCommerce.ecommerce_app.requests.RegistrationRequestDto;
+import com.eCommerce.ecommerce_app.requests.VatRateChangeRequestDto;
+import com.eCommerce.ecommerce_app.requests.VatRateRequestDto;
+import com.eCommerce.ecommerce_app.responses.CartItemDto;
+import com.eCommerce.ecommerce_app.responses.CartResponseDto;
+import com.eCommerce.ecommerce_app.responses.DailySalesDto;
+import com.eCommerce.ecommerce_app.responses.LoginResponseDto;
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.eCommerce.ecommerce_app.responses.OrderLineAggregateDto;
+import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductSalesDto;
+import com.eCommerce.ecommerce_app.responses.ProductSearchResultDto;
+import com.eCommerce.ecommerce_app.responses.ProductSuggestionDto;
+import com.eCommerce.ecommerce_app.responses.RegistrationResponseDto;
+import com.eCommerce.ecommerce_app.responses.TrendingProductDto;
+import com.eCommerce.ecommerce_app.responses.VatRateResponseDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> PERSISTENT_TYPES = List.of(Order.class, OrderItem.class, Product.class, User.class,
+            VatRate.class, OrderDocument.class, OutboxEvent.class, ProductDailySales.class,
+            ProductDailySales.Key.class, StockHold.class, MoneyConverter.class);
+
+    private static final List<Class<?>> ENUMS = List.of(Role.class, ExportFormat.class, FactGroupBy.class);
+
+    private static final List<Class<?>> DTOS = List.of(LoginRequestDto.class, OrderItemRequestDto.class,
+            PlaceOrderRequestDto.class, ProductRequestDto.class, RegistrationRequestDto.class,
+            VatRateChangeRequestDto.class, VatRateRequestDto.class, CartItemDto.class, CartResponseDto.class,
+            DailySalesDto.class, LoginResponseDto.class, OrderDetailsResponseDto.class,
+            OrderLineAggregateDto.class, PlaceOrderResponseDto.class, ProductResponseDto.class,
+            ProductSalesDto.class, ProductSearchResultDto.class, ProductSuggestionDto.class,
+            RegistrationResponseDto.class, TrendingProductDto.class, VatRateResponseDto.class);
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : PERSISTENT_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (Class<?> type : ENUMS) {
+            hints.reflection().registerType(type, MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        bindingHints.registerReflectionHints(hints.reflection(), DTOS.toArray(Class<?>[]::new));
+    }
+}
@@ -0,0 +1,28 @@
+package com.eCommerce.ecommerce_app.config;
+
+import com.eCommerce.ecommerce_app.services.FileOutboxSink;
+import com.eCommerce.ecommerce_app.services.LogOutboxSink;
+import com.eCommerce.ecommerce_app.services.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink outboxSink(@Value("${app.outbox.sink:file}") String sink,
+                                 @Value("${app.outbox.file-sink.path:data/outbox/order-events.ndjson}") String path) {
+        if ("log".equalsIgnoreCase(sink)) {
+            return new LogOutboxSink();
+        }
+        return new FileOutboxSink(Path.of(path));
+    }
+
+}
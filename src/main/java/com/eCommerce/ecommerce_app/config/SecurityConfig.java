@@ -1,20 +1,32 @@
 package com.eCommerce.ecommerce_app.config;
 
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthService authService) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
-                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).access(adminToken(authService))
+                        .anyRequest().permitAll())
                 .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()));
         return http.build();
     }
@@ -24,4 +36,11 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    static AuthorizationManager<RequestAuthorizationContext> adminToken(AuthService authService) {
+        return (authentication, context) -> {
+            String token = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            User user = token == null ? null : authService.getUserByToken(token);
+            return new AuthorizationDecision(user != null && user.getRoles().contains(Role.ADMIN));
+        };
+    }
 }
@@ -0,0 +1,35 @@
+package com.eCommerce.ecommerce_app.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter backgroundBeansStayEager() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (MeterBinder.class.isAssignableFrom(beanType) || runsInBackground(ClassUtils.getUserClass(beanType)));
+    }
+
+    private static boolean runsInBackground(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, EventListener.class)
+                    || method.isAnnotationPresent(PostConstruct.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.eCommerce.ecommerce_app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class StartupReport {
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final int topBeans;
+    private static final Logger log = LoggerFactory.getLogger(StartupReport.class);
+
+    public StartupReport(ApplicationStartup applicationStartup,
+                         @Value("${app.startup.report-top-beans:10}") int topBeans) {
+        this.applicationStartup = applicationStartup;
+        this.topBeans = topBeans;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        log.info("Application ready in {} ms", event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis());
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        List<StartupTimeline.TimelineEvent> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent step : buffering.getBufferedTimeline().getEvents()) {
+            if (BEAN_STEP.equals(step.getStartupStep().getName())) {
+                beans.add(step);
+            } else {
+                phases.merge(step.getStartupStep().getName(), step.getDuration(), Duration::plus);
+            }
+        }
+        phases.forEach((phase, duration) -> log.info("Startup phase {} took {} ms", phase, duration.toMillis()));
+        beans.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+        for (StartupTimeline.TimelineEvent bean : beans.subList(0, Math.min(topBeans, beans.size()))) {
+            log.info("Startup bean {} took {} ms", beanName(bean.getStartupStep()), bean.getDuration().toMillis());
+        }
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
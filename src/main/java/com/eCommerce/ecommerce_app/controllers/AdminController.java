@@ -0,0 +1,157 @@
+package com.eCommerce.ecommerce_app.controllers;
+
+import com.eCommerce.ecommerce_app.analytics.FactGroupBy;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.exceptions.ForbiddenException;
+import com.eCommerce.ecommerce_app.exceptions.UnauthorizedException;
+import com.eCommerce.ecommerce_app.responses.DailySalesDto;
+import com.eCommerce.ecommerce_app.responses.OrderLineAggregateDto;
+import com.eCommerce.ecommerce_app.responses.ProductSalesDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.OrderAnalyticsService;
+import com.eCommerce.ecommerce_app.services.OrderExportService;
+import com.eCommerce.ecommerce_app.services.OrderService;
+import com.eCommerce.ecommerce_app.services.SalesReportService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final OrderService orderService;
+    private final AuthService authService;
+    private final SalesReportService salesReportService;
+    private final OrderExportService orderExportService;
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    public AdminController(OrderService orderService, AuthService authService, SalesReportService salesReportService,
+                           @Lazy OrderExportService orderExportService,
+                           @Lazy OrderAnalyticsService orderAnalyticsService) {
+        this.orderService = orderService;
+        this.authService = authService;
+        this.salesReportService = salesReportService;
+        this.orderExportService = orderExportService;
+        this.orderAnalyticsService = orderAnalyticsService;
+    }
+
+    @PostMapping("/order-documents/rebuild")
+    public ResponseEntity<String> rebuildOrderDocuments(@RequestHeader(value = "Authorization", required = false) String token) {
+        requireAdmin(token);
+
+        int rebuilt = orderService.rebuildReadModel();
+        return ResponseEntity.ok("Rebuilt " + rebuilt + " order documents");
+    }
+
+    @GetMapping("/sales/daily")
+    public ResponseEntity<List<DailySalesDto>> dailySales(@RequestHeader(value = "Authorization", required = false) String token,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                          @RequestParam(required = false) Long productId) {
+        requireAdmin(token);
+
+        return ResponseEntity.ok(salesReportService.dailySales(from, to, productId));
+    }
+
+    @GetMapping("/sales/products")
+    public ResponseEntity<List<ProductSalesDto>> productSales(@RequestHeader(value = "Authorization", required = false) String token,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        requireAdmin(token);
+
+        return ResponseEntity.ok(salesReportService.productSales(from, to, limit));
+    }
+
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<String> rebuildSales(@RequestHeader(value = "Authorization", required = false) String token,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        requireAdmin(token);
+
+        int rows = salesReportService.rebuild(from, to);
+        return ResponseEntity.ok("Rebuilt " + rows + " daily sales rows");
+    }
+
+    @GetMapping("/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestHeader(value = "Authorization", required = false) String token,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                              @RequestParam(defaultValue = "csv") String format,
+                                                              @RequestParam(defaultValue = "false") boolean gzip) {
+        requireAdmin(token);
+
+        ExportFormat exportFormat = null;
+        for (ExportFormat candidate : ExportFormat.values()) {
+            if (candidate.name().equalsIgnoreCase(format)) {
+                exportFormat = candidate;
+            }
+        }
+        if (exportFormat == null || (from != null && to != null && from.isAfter(to))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ExportFormat selected = exportFormat;
+        String fileName = "orders" + (from != null ? "-from-" + from : "") + (to != null ? "-to-" + to : "")
+                + (selected == ExportFormat.CSV ? ".csv" : ".ndjson") + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : selected == ExportFormat.CSV ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+        StreamingResponseBody body = out -> orderExportService.export(from, to, selected, gzip, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(contentType)
+                .body(body);
+    }
+
+    @GetMapping("/analytics/order-lines")
+    public ResponseEntity<List<OrderLineAggregateDto>> orderLineAnalytics(@RequestHeader(value = "Authorization", required = false) String token,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                          @RequestParam(defaultValue = "day") String groupBy,
+                                                                          @RequestParam(required = false) Long productId,
+                                                                          @RequestParam(required = false) String country,
+                                                                          @RequestParam(defaultValue = "100") int limit) {
+        requireAdmin(token);
+
+        FactGroupBy grouping = null;
+        for (FactGroupBy candidate : FactGroupBy.values()) {
+            if (candidate.name().equalsIgnoreCase(groupBy)) {
+                grouping = candidate;
+            }
+        }
+        if (grouping == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(orderAnalyticsService.aggregate(from, to, grouping, productId, country, limit));
+    }
+
+    @PostMapping("/analytics/rebuild")
+    public ResponseEntity<String> rebuildAnalytics(@RequestHeader(value = "Authorization", required = false) String token) {
+        requireAdmin(token);
+
+        long lines = orderAnalyticsService.rebuild();
+        return ResponseEntity.ok("Rebuilt order analytics from " + lines + " order lines");
+    }
+
+    private void requireAdmin(String token) {
+        User user = token == null ? null : authService.getUserByToken(token);
+        if (user == null) {
+            throw new UnauthorizedException("Unauthorized: token is missing or invalid");
+        }
+        if (!user.getRoles().contains(Role.ADMIN)) {
+            throw new ForbiddenException("Access denied: insufficient permissions.");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.eCommerce.ecommerce_app.controllers;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.responses.CartResponseDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.CartService;
+import jakarta.validation.Valid;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cart")
+public class CartController {
+
+    private final CartService cartService;
+    private final AuthService authService;
+
+    public CartController(CartService cartService, AuthService authService) {
+        this.cartService = cartService;
+        this.authService = authService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CartResponseDto> getCart(@RequestHeader("Authorization") String token) {
+        User user = authService.getUserByToken(token);
+        if (user == null) {
+            return unauthorized();
+        }
+
+        return ResponseEntity.ok(cartService.getCart(user));
+    }
+
+    @PostMapping("/items")
+    public ResponseEntity<CartResponseDto> addItem(@RequestHeader("Authorization") String token,
+                                                   @Valid @RequestBody OrderItemRequestDto dto,
+                                                   BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            List<String> errors = bindingResult.getAllErrors().stream()
+                    .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                    .toList();
+
+            CartResponseDto response = new CartResponseDto();
+            response.setMessage("Validation failed: " + String.join(", ", errors));
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        User user = authService.getUserByToken(token);
+        if (user == null) {
+            return unauthorized();
+        }
+
+        return ResponseEntity.ok(cartService.addItem(user, dto));
+    }
+
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<CartResponseDto> removeItem(@RequestHeader("Authorization") String token,
+                                                      @PathVariable Long productId) {
+        User user = authService.getUserByToken(token);
+        if (user == null) {
+            return unauthorized();
+        }
+
+        return ResponseEntity.ok(cartService.removeItem(user, productId));
+    }
+
+    private static ResponseEntity<CartResponseDto> unauthorized() {
+        CartResponseDto response = new CartResponseDto();
+        response.setMessage("Unauthorized: invalid or missing token.");
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+}
@@ -5,11 +5,17 @@ import com.eCommerce.ecommerce_app.enums.Role;
 import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
 import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
 import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
+import com.eCommerce.ecommerce_app.respositories.OrderRepository;
 import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.OrderGroupCommitter;
 import com.eCommerce.ecommerce_app.services.OrderService;
+import com.eCommerce.ecommerce_app.services.RenderedOrderDetails;
 import jakarta.validation.Valid;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -20,12 +26,17 @@ import java.util.List;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final CacheControl ORDER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final OrderService orderService;
     private final AuthService authService;
+    private final OrderGroupCommitter orderGroupCommitter;
 
-    public OrderController(OrderService orderService, AuthService authService) {
+    public OrderController(OrderService orderService, AuthService authService,
+                           OrderGroupCommitter orderGroupCommitter) {
         this.orderService = orderService;
         this.authService = authService;
+        this.orderGroupCommitter = orderGroupCommitter;
     }
 
     @PostMapping("/place-order")
@@ -51,13 +62,16 @@ public class OrderController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
         }
 
-        PlaceOrderResponseDto response = orderService.placeOrder(user, dto);
+        PlaceOrderResponseDto response = orderGroupCommitter.isEnabled()
+                ? orderGroupCommitter.submit(user, dto)
+                : orderService.placeOrder(user, dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/get/{orderId}")
-    public ResponseEntity<OrderDetailsResponseDto> getOrderDetails(@RequestHeader("Authorization") String token,
-                                                                   @PathVariable Long orderId) {
+    public ResponseEntity<?> getOrderDetails(@RequestHeader("Authorization") String token,
+                                             @PathVariable Long orderId,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         OrderDetailsResponseDto response = new OrderDetailsResponseDto();
 
         User user = authService.getUserByToken(token);
@@ -66,16 +80,60 @@ public class OrderController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
         }
 
-        OrderDetailsResponseDto orderDetails = orderService.getOrderDetails(orderId);
+        RenderedOrderDetails stored = orderService.findRenderedOrderDetails(orderId);
+        Long ownerId;
+        Integer version;
+        if (stored != null) {
+            ownerId = stored.getOwnerId();
+            version = stored.getVersion();
+        } else {
+            OrderRepository.OrderVersionView orderVersion = orderService.getOrderVersion(orderId);
+            ownerId = orderVersion.getUserId();
+            version = orderVersion.getVersion();
+        }
 
         boolean isAdmin = user.getRoles().contains(Role.ADMIN);
-        boolean isOwner = orderDetails.getCustomer().getId().equals(user.getId());
+        boolean isOwner = ownerId.equals(user.getId());
 
         if (!isAdmin && !isOwner) {
             response.setMessage("Access denied: cannot view others' orders.");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
         }
 
-        return ResponseEntity.ok(orderDetails);
+        String eTag = orderETag(orderId, version);
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(ORDER_CACHE_CONTROL)
+                    .build();
+        }
+
+        RenderedOrderDetails orderDetails = stored != null ? stored : orderService.loadRenderedOrderDetails(orderId);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ORDER_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(orderDetails.getBody());
+    }
+
+    private static String orderETag(Long orderId, Integer version) {
+        return "\"order-" + orderId + "-v" + (version == null ? 0 : version) + "\"";
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -4,8 +4,12 @@ import com.eCommerce.ecommerce_app.entities.Product;
 import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.requests.ProductRequestDto;
 import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductSearchResultDto;
+import com.eCommerce.ecommerce_app.responses.ProductSuggestionDto;
+import com.eCommerce.ecommerce_app.responses.TrendingProductDto;
 import com.eCommerce.ecommerce_app.services.AuthService;
 import com.eCommerce.ecommerce_app.services.ProductService;
+import com.eCommerce.ecommerce_app.trending.TrendingWindow;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
@@ -68,5 +72,26 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSearchResultDto>> search(@RequestParam("q") String query,
+                                                               @RequestParam(defaultValue = "20") int limit,
+                                                               @RequestParam(defaultValue = "true") boolean inStockOnly) {
+        return ResponseEntity.ok(productService.search(query, limit, inStockOnly));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProductSuggestionDto>> autocomplete(@RequestParam("q") String prefix,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.autocomplete(prefix, limit));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingProductDto>> trending(@RequestParam(defaultValue = "1h") String window,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        return TrendingWindow.fromLabel(window)
+                .map(trendingWindow -> ResponseEntity.ok(productService.trending(trendingWindow, limit)))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
 
 }
@@ -0,0 +1,92 @@
+package com.eCommerce.ecommerce_app.controllers;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.entities.VatRate;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.requests.VatRateChangeRequestDto;
+import com.eCommerce.ecommerce_app.requests.VatRateRequestDto;
+import com.eCommerce.ecommerce_app.responses.VatRateResponseDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.VatRateService;
+import jakarta.validation.Valid;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/vat-rates")
+public class VatRateController {
+
+    private final VatRateService vatRateService;
+    private final AuthService authService;
+
+    public VatRateController(VatRateService vatRateService, AuthService authService) {
+        this.vatRateService = vatRateService;
+        this.authService = authService;
+    }
+
+    @PostMapping("/add")
+    public ResponseEntity<VatRateResponseDto> addVatRate(@RequestHeader("Authorization") String token,
+                                                         @Valid @RequestBody VatRateRequestDto dto,
+                                                         BindingResult bindingResult) {
+        VatRateResponseDto response = new VatRateResponseDto();
+
+        ResponseEntity<VatRateResponseDto> rejected = rejectRequest(token, bindingResult, response);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        VatRate vatRate = vatRateService.addVatRate(dto.getRate());
+        response.setId(vatRate.getId());
+        response.setRate(vatRate.getRate());
+        response.setMessage("VAT rate added successfully");
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/change")
+    public ResponseEntity<VatRateResponseDto> changeVatRate(@RequestHeader("Authorization") String token,
+                                                            @Valid @RequestBody VatRateChangeRequestDto dto,
+                                                            BindingResult bindingResult) {
+        VatRateResponseDto response = new VatRateResponseDto();
+
+        ResponseEntity<VatRateResponseDto> rejected = rejectRequest(token, bindingResult, response);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        int repriced = vatRateService.changeVatRate(dto.getOldRate(), dto.getNewRate());
+        response.setRate(dto.getNewRate());
+        response.setRepricedProducts(repriced);
+        response.setMessage("VAT rate changed successfully");
+
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<VatRateResponseDto> rejectRequest(String token, BindingResult bindingResult,
+                                                             VatRateResponseDto response) {
+        if (bindingResult.hasErrors()) {
+            List<String> errors = bindingResult.getAllErrors().stream()
+                    .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                    .toList();
+            response.setMessage("Validation failed: " + String.join(", ", errors));
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        User user = authService.getUserByToken(token);
+        if (user == null) {
+            response.setMessage("Unauthorized: invalid or missing token.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        if (!user.getRoles().contains(Role.ADMIN)) {
+            response.setMessage("Access denied: insufficient permissions.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        return null;
+    }
+}
@@ -1,16 +1,16 @@
 package com.eCommerce.ecommerce_app.entities;
 
+import com.eCommerce.ecommerce_app.money.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_order_date", columnList = "orderDate"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,13 +25,16 @@ public class Order {
 
     private LocalDateTime orderDate;
 
-    private BigDecimal totalNetValue;
+    private Money totalNetValue;
 
-    private BigDecimal totalGrossValue;
+    private Money totalGrossValue;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems;
 
+    @Version
+    private Integer version;
+
     public Long getId() {
         return id;
     }
@@ -56,19 +59,19 @@ public class Order {
         this.orderDate = orderDate;
     }
 
-    public BigDecimal getTotalNetValue() {
+    public Money getTotalNetValue() {
         return totalNetValue;
     }
 
-    public void setTotalNetValue(BigDecimal totalNetValue) {
+    public void setTotalNetValue(Money totalNetValue) {
         this.totalNetValue = totalNetValue;
     }
 
-    public BigDecimal getTotalGrossValue() {
+    public Money getTotalGrossValue() {
         return totalGrossValue;
     }
 
-    public void setTotalGrossValue(BigDecimal totalGrossValue) {
+    public void setTotalGrossValue(Money totalGrossValue) {
         this.totalGrossValue = totalGrossValue;
     }
 
@@ -79,4 +82,12 @@ public class Order {
     public void setOrderItems(List<OrderItem> orderItems) {
         this.orderItems = orderItems;
     }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,82 @@
+package com.eCommerce.ecommerce_app.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "order_documents")
+@Data
+@NoArgsConstructor
+public class OrderDocument implements Persistable<Long> {
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    private Integer orderVersion;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] document;
+
+    @Transient
+    private boolean isNew = true;
+
+    public OrderDocument(Long orderId, Long ownerId, Integer orderVersion, byte[] document) {
+        this.orderId = orderId;
+        this.ownerId = ownerId;
+        this.orderVersion = orderVersion;
+        this.document = document;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public Integer getOrderVersion() {
+        return orderVersion;
+    }
+
+    public void setOrderVersion(Integer orderVersion) {
+        this.orderVersion = orderVersion;
+    }
+
+    public byte[] getDocument() {
+        return document;
+    }
+
+    public void setDocument(byte[] document) {
+        this.document = document;
+    }
+}
@@ -1,5 +1,6 @@
 package com.eCommerce.ecommerce_app.entities;
 
+import com.eCommerce.ecommerce_app.money.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -21,15 +22,26 @@ public class OrderItem {
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
+    @Column(name = "product_id", insertable = false, updatable = false)
+    private Long productId;
+
+    private String productName;
+
+    private Money unitNetPrice;
+
+    private Money unitGrossPrice;
+
+    private BigDecimal vat;
+
     private Integer quantity;
 
-    private BigDecimal netPrice;
+    private Money netPrice;
 
-    private BigDecimal grossPrice;
+    private Money grossPrice;
 
     public Long getId() {
         return id;
@@ -55,6 +67,46 @@ public class OrderItem {
         this.product = product;
     }
 
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public Money getUnitNetPrice() {
+        return unitNetPrice;
+    }
+
+    public void setUnitNetPrice(Money unitNetPrice) {
+        this.unitNetPrice = unitNetPrice;
+    }
+
+    public Money getUnitGrossPrice() {
+        return unitGrossPrice;
+    }
+
+    public void setUnitGrossPrice(Money unitGrossPrice) {
+        this.unitGrossPrice = unitGrossPrice;
+    }
+
+    public BigDecimal getVat() {
+        return vat;
+    }
+
+    public void setVat(BigDecimal vat) {
+        this.vat = vat;
+    }
+
     public Integer getQuantity() {
         return quantity;
     }
@@ -63,19 +115,19 @@ public class OrderItem {
         this.quantity = quantity;
     }
 
-    public BigDecimal getNetPrice() {
+    public Money getNetPrice() {
         return netPrice;
     }
 
-    public void setNetPrice(BigDecimal netPrice) {
+    public void setNetPrice(Money netPrice) {
         this.netPrice = netPrice;
     }
 
-    public BigDecimal getGrossPrice() {
+    public Money getGrossPrice() {
         return grossPrice;
     }
 
-    public void setGrossPrice(BigDecimal grossPrice) {
+    public void setGrossPrice(Money grossPrice) {
         this.grossPrice = grossPrice;
     }
 }
@@ -0,0 +1,105 @@
+package com.eCommerce.ecommerce_app.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "product_daily_sales",
+        indexes = @Index(name = "idx_product_daily_sales_date", columnList = "sales_date"))
+@IdClass(ProductDailySales.Key.class)
+@Data
+@NoArgsConstructor
+public class ProductDailySales {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long unitsSold;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal netRevenue;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal grossRevenue;
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getNetRevenue() {
+        return netRevenue;
+    }
+
+    public void setNetRevenue(BigDecimal netRevenue) {
+        this.netRevenue = netRevenue;
+    }
+
+    public BigDecimal getGrossRevenue() {
+        return grossRevenue;
+    }
+
+    public void setGrossRevenue(BigDecimal grossRevenue) {
+        this.grossRevenue = grossRevenue;
+    }
+
+    public static class Key implements Serializable {
+
+        private Long productId;
+        private LocalDate salesDate;
+
+        public Key() {
+        }
+
+        public Key(Long productId, LocalDate salesDate) {
+            this.productId = productId;
+            this.salesDate = salesDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(productId, key.productId) && Objects.equals(salesDate, key.salesDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, salesDate);
+        }
+    }
+}
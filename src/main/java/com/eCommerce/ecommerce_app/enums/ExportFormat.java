@@ -0,0 +1,6 @@
+package com.eCommerce.ecommerce_app.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,10 @@
+package com.eCommerce.ecommerce_app.exceptions;
+
+public abstract class BusinessException extends RuntimeException {
+
+    private static final boolean STACK_TRACES_ENABLED = Boolean.getBoolean("app.exceptions.stack-traces");
+
+    protected BusinessException(String message) {
+        super(message, null, false, STACK_TRACES_ENABLED);
+    }
+}
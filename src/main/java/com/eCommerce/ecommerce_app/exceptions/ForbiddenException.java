@@ -0,0 +1,7 @@
+package com.eCommerce.ecommerce_app.exceptions;
+
+public class ForbiddenException extends BusinessException {
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
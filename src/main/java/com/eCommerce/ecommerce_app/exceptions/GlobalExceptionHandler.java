@@ -19,88 +19,101 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
+    private static final ProblemTemplate USER_ALREADY_EXISTS =
+            new ProblemTemplate(HttpStatus.CONFLICT, "User Already Exists", "user-already-exists");
+    private static final ProblemTemplate PRODUCT_ALREADY_EXISTS =
+            new ProblemTemplate(HttpStatus.CONFLICT, "Product Already Exists", "product-already-exists");
+    private static final ProblemTemplate PRODUCT_NOT_FOUND =
+            new ProblemTemplate(HttpStatus.NOT_FOUND, "Product Not Found", "product-not-found");
+    private static final ProblemTemplate INSUFFICIENT_STOCK =
+            new ProblemTemplate(HttpStatus.BAD_REQUEST, "Insufficient Stock", "insufficient-stock");
+    private static final ProblemTemplate ORDER_NOT_FOUND =
+            new ProblemTemplate(HttpStatus.NOT_FOUND, "Order Not Found", "order-not-found");
+    private static final ProblemTemplate VAT_RATE_NOT_FOUND =
+            new ProblemTemplate(HttpStatus.NOT_FOUND, "VAT Rate Not Found", "vat-rate-not-found");
+    private static final ProblemTemplate VAT_RATE_ALREADY_EXISTS =
+            new ProblemTemplate(HttpStatus.CONFLICT, "VAT Rate Already Exists", "vat-rate-already-exists");
+    private static final ProblemTemplate UNAUTHORIZED =
+            new ProblemTemplate(HttpStatus.UNAUTHORIZED, "Unauthorized", "unauthorized");
+    private static final ProblemTemplate FORBIDDEN =
+            new ProblemTemplate(HttpStatus.FORBIDDEN, "Access Denied", "access-denied");
+    private static final ProblemTemplate INTERNAL_ERROR =
+            new ProblemTemplate(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected Error", "internal-error");
+
 
     @ExceptionHandler(UserAlreadyExistException.class)
     public ResponseEntity<ProblemDetail> handleUserAlreadyExist(UserAlreadyExistException ex, HttpServletRequest request) {
-        ProblemDetail problem = createProblemDetail(
-                HttpStatus.CONFLICT,
-                "User Already Exists",
-                "user-already-exists",
-                ex.getMessage(),
-                request
-        );
+        ProblemDetail problem = createProblemDetail(USER_ALREADY_EXISTS, ex.getMessage(), request);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
     }
     @ExceptionHandler(ProductAlreadyExistsException.class)
     public ResponseEntity<ProblemDetail> handleProductAlreadyExists(ProductAlreadyExistsException ex, HttpServletRequest request) {
-        ProblemDetail problem = createProblemDetail(
-                HttpStatus.CONFLICT,
-                "Product Already Exists",
-                "product-already-exists",
-                ex.getMessage(),
-                request
-        );
+        ProblemDetail problem = createProblemDetail(PRODUCT_ALREADY_EXISTS, ex.getMessage(), request);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
     }
     @ExceptionHandler(ProductNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleProductNotFound(ProductNotFoundException ex, HttpServletRequest request) {
-        ProblemDetail problem = createProblemDetail(
-                HttpStatus.NOT_FOUND,
-                "Product Not Found",
-                "product-not-found",
-                ex.getMessage(),
-                request
-        );
+        ProblemDetail problem = createProblemDetail(PRODUCT_NOT_FOUND, ex.getMessage(), request);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
     }
     @ExceptionHandler(InsufficientStockException.class)
     public ResponseEntity<ProblemDetail> handleInsufficientStock(InsufficientStockException ex, HttpServletRequest request) {
-        ProblemDetail problem = createProblemDetail(
-                HttpStatus.BAD_REQUEST,
-                "Insufficient Stock",
-                "insufficient-stock",
-                ex.getMessage(),
-                request
-        );
+        ProblemDetail problem = createProblemDetail(INSUFFICIENT_STOCK, ex.getMessage(), request);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
     }
     @ExceptionHandler(OrderNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleOrderNotFound(OrderNotFoundException ex, HttpServletRequest request) {
-        ProblemDetail problem = createProblemDetail(
-                HttpStatus.NOT_FOUND,
-                "Order Not Found",
-                "order-not-found",
-                ex.getMessage(),
-                request
-        );
+        ProblemDetail problem = createProblemDetail(ORDER_NOT_FOUND, ex.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
+    }
+    @ExceptionHandler(VatRateNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleVatRateNotFound(VatRateNotFoundException ex, HttpServletRequest request) {
+        ProblemDetail problem = createProblemDetail(VAT_RATE_NOT_FOUND, ex.getMessage(), request);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
     }
+    @ExceptionHandler(VatRateAlreadyExistsException.class)
+    public ResponseEntity<ProblemDetail> handleVatRateAlreadyExists(VatRateAlreadyExistsException ex, HttpServletRequest request) {
+        ProblemDetail problem = createProblemDetail(VAT_RATE_ALREADY_EXISTS, ex.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ProblemDetail> handleUnauthorized(UnauthorizedException ex, HttpServletRequest request) {
+        ProblemDetail problem = createProblemDetail(UNAUTHORIZED, ex.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problem);
+    }
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ProblemDetail> handleForbidden(ForbiddenException ex, HttpServletRequest request) {
+        ProblemDetail problem = createProblemDetail(FORBIDDEN, ex.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(problem);
+    }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGenericException(Exception ex, HttpServletRequest request) {
-        log.info("Unexpected error occurred" + ex);
-        ProblemDetail problem = createProblemDetail(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "Unexpected Error",
-                "internal-error",
-                "An unexpected error occurred. Please try again later.",
-                request
-        );
+        log.error("Unexpected error occurred: {}", ex.getMessage(), ex);
+        ProblemDetail problem = createProblemDetail(INTERNAL_ERROR, "An unexpected error occurred. Please try again later.", request);
         problem.setProperty("debugMessage", ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problem);
     }
 
 
-    private ProblemDetail createProblemDetail(HttpStatus status, String title, String type, String detail, HttpServletRequest request) {
-        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, detail);
-        problem.setTitle(title);
-        problem.setType(URI.create(type));
+    private ProblemDetail createProblemDetail(ProblemTemplate template, String detail, HttpServletRequest request) {
+        ProblemDetail problem = ProblemDetail.forStatus(template.status());
+        problem.setDetail(detail);
+        problem.setTitle(template.title());
+        problem.setType(template.type());
 
         problem.setProperty("timestamp", LocalDateTime.now());
         problem.setProperty("path", request.getRequestURI());
-        problem.setProperty("errorCode", type);
+        problem.setProperty("errorCode", template.errorCode());
         problem.setProperty("messageForUser", detail);
 
         return problem;
     }
+
+    private record ProblemTemplate(HttpStatus status, String title, URI type, String errorCode) {
+
+        private ProblemTemplate(HttpStatus status, String title, String errorCode) {
+            this(status, title, URI.create(errorCode), errorCode);
+        }
+    }
 }
@@ -1,6 +1,6 @@
 package com.eCommerce.ecommerce_app.exceptions;
 
-public class InsufficientStockException extends RuntimeException {
+public class InsufficientStockException extends BusinessException {
     public InsufficientStockException(String message) {
         super(message);
     }
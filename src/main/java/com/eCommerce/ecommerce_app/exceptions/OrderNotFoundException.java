@@ -1,7 +1,7 @@
 package com.eCommerce.ecommerce_app.exceptions;
 
 
-public class OrderNotFoundException extends RuntimeException {
+public class OrderNotFoundException extends BusinessException {
     public OrderNotFoundException(String message) {
         super(message);
     }
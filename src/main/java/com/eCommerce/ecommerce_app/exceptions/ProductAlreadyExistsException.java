@@ -1,6 +1,6 @@
 package com.eCommerce.ecommerce_app.exceptions;
 
-public class ProductAlreadyExistsException extends RuntimeException {
+public class ProductAlreadyExistsException extends BusinessException {
     public ProductAlreadyExistsException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.eCommerce.ecommerce_app.exceptions;
 
-public class ProductNotFoundException extends RuntimeException {
+public class ProductNotFoundException extends BusinessException {
     public ProductNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package com.eCommerce.ecommerce_app.exceptions;
+
+public class UnauthorizedException extends BusinessException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
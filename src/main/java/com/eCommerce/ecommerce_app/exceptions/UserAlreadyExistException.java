@@ -1,6 +1,6 @@
 package com.eCommerce.ecommerce_app.exceptions;
 
-public class UserAlreadyExistException extends RuntimeException {
+public class UserAlreadyExistException extends BusinessException {
     public UserAlreadyExistException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package com.eCommerce.ecommerce_app.exceptions;
+
+public class VatRateAlreadyExistsException extends BusinessException {
+    public VatRateAlreadyExistsException(String message) {
+        super(message);
+    }
+}
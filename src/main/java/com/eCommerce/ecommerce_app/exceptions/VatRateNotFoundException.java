@@ -0,0 +1,7 @@
+package com.eCommerce.ecommerce_app.exceptions;
+
+public class VatRateNotFoundException extends BusinessException {
+    public VatRateNotFoundException(String message) {
+        super(message);
+    }
+}
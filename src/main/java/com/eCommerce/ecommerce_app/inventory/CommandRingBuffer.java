@@ -0,0 +1,65 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+final class CommandRingBuffer<T> {
+
+    private static final long FULL_PARK_NANOS = 1_000L;
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    CommandRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+    }
+
+    void publish(T item) {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed >= slots.length()) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        int index = (int) (sequence & mask);
+        slots.set(index, item);
+        published.set(index, sequence);
+    }
+
+    int drainTo(List<T> sink, int maxItems) {
+        long next = consumed;
+        int drained = 0;
+        while (drained < maxItems) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            sink.add(slots.get(index));
+            slots.set(index, null);
+            next++;
+            drained++;
+        }
+        consumed = next;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0L, claimed.get() - consumed);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,87 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class InventoryJournal implements Closeable {
+
+    static final int RECORD_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 1024);
+
+    InventoryJournal(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+    }
+
+    void append(long productId, int quantity) throws IOException {
+        if (buffer.remaining() < RECORD_BYTES) {
+            writeBuffer();
+        }
+        buffer.putLong(productId).putInt(quantity);
+    }
+
+    void sync() throws IOException {
+        writeBuffer();
+        channel.force(false);
+    }
+
+    long mark() throws IOException {
+        writeBuffer();
+        return channel.position();
+    }
+
+    void rollback(long mark) throws IOException {
+        buffer.clear();
+        channel.truncate(mark);
+        channel.position(mark);
+    }
+
+    void truncate() throws IOException {
+        buffer.clear();
+        channel.truncate(0);
+        channel.position(0);
+    }
+
+    static Map<Long, Integer> replay(Path file) throws IOException {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return quantities;
+        }
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(file));
+        while (records.remaining() >= RECORD_BYTES) {
+            quantities.put(records.getLong(), records.getInt());
+        }
+        return quantities;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
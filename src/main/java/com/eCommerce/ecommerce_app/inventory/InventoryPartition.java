@@ -0,0 +1,180 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+final class InventoryPartition implements Runnable {
+
+    private static final int MAX_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = 50_000L;
+
+    private final int id;
+    private final CommandRingBuffer<StockCommand> ring;
+    private final InventoryJournal journal;
+    private final LongFunction<Integer> loader;
+    private final Consumer<Map<Long, Integer>> flusher;
+    private final long flushIntervalNanos;
+    private final int flushThreshold;
+    private final Map<Long, Integer> quantities = new HashMap<>();
+    private final Map<Long, Integer> dirty = new HashMap<>();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private volatile boolean running = true;
+    private static final Logger log = LoggerFactory.getLogger(InventoryPartition.class);
+
+    InventoryPartition(int id, int ringSize, InventoryJournal journal, LongFunction<Integer> loader,
+                       Consumer<Map<Long, Integer>> flusher, long flushIntervalNanos, int flushThreshold) {
+        this.id = id;
+        this.ring = new CommandRingBuffer<>(ringSize);
+        this.journal = journal;
+        this.loader = loader;
+        this.flusher = flusher;
+        this.flushIntervalNanos = flushIntervalNanos;
+        this.flushThreshold = flushThreshold;
+    }
+
+    void submit(StockCommand command) {
+        ring.publish(command);
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    int queued() {
+        return ring.size();
+    }
+
+    long processed() {
+        return processed.sum();
+    }
+
+    long flushes() {
+        return flushes.sum();
+    }
+
+    @Override
+    public void run() {
+        List<StockCommand> batch = new ArrayList<>(MAX_BATCH);
+        long lastFlush = System.nanoTime();
+        while (running || ring.size() > 0) {
+            batch.clear();
+            int drained = ring.drainTo(batch, MAX_BATCH);
+            if (drained > 0) {
+                process(batch);
+            }
+
+            long now = System.nanoTime();
+            if (!dirty.isEmpty() && (dirty.size() >= flushThreshold || now - lastFlush >= flushIntervalNanos)) {
+                flush();
+                lastFlush = now;
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        flush();
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            log.warn("Could not close inventory journal of partition {}", id, ex);
+        }
+    }
+
+    void process(List<StockCommand> batch) {
+        List<ReservationResult> results = new ArrayList<>(batch.size());
+        long mark = -1;
+        try {
+            mark = journal.mark();
+            for (StockCommand command : batch) {
+                results.add(apply(command));
+            }
+            journal.sync();
+        } catch (IOException | RuntimeException ex) {
+            log.error("Inventory partition {} could not journal {} commands, reverting them", id, batch.size(), ex);
+            for (int i = results.size() - 1; i >= 0; i--) {
+                if (results.get(i).isReserved()) {
+                    revert(batch.get(i));
+                }
+            }
+            if (mark >= 0) {
+                rollbackJournal(mark);
+            }
+            for (StockCommand command : batch) {
+                command.getResult().completeExceptionally(ex);
+            }
+            return;
+        }
+
+        processed.add(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).getResult().complete(results.get(i));
+        }
+    }
+
+    void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            flusher.accept(new HashMap<>(dirty));
+            journal.truncate();
+            dirty.clear();
+            flushes.increment();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Inventory partition {} could not flush {} products, keeping them in the journal",
+                    id, dirty.size(), ex);
+        }
+    }
+
+    private ReservationResult apply(StockCommand command) throws IOException {
+        for (Map.Entry<Long, Integer> delta : command.getDeltas().entrySet()) {
+            Integer quantity = quantity(delta.getKey());
+            if (quantity == null || (command.isRequireAvailable() && quantity + delta.getValue() < 0)) {
+                return ReservationResult.shortage(delta.getKey());
+            }
+        }
+        for (Map.Entry<Long, Integer> delta : command.getDeltas().entrySet()) {
+            int updated = quantities.merge(delta.getKey(), delta.getValue(), Integer::sum);
+            dirty.put(delta.getKey(), updated);
+            journal.append(delta.getKey(), updated);
+        }
+        return ReservationResult.RESERVED;
+    }
+
+    private void revert(StockCommand command) {
+        for (Map.Entry<Long, Integer> delta : command.getDeltas().entrySet()) {
+            int reverted = quantities.merge(delta.getKey(), -delta.getValue(), Integer::sum);
+            dirty.put(delta.getKey(), reverted);
+        }
+    }
+
+    private void rollbackJournal(long mark) {
+        try {
+            journal.rollback(mark);
+        } catch (IOException | RuntimeException ex) {
+            log.error("Inventory partition {} could not drop the journal records of a reverted batch", id, ex);
+        }
+    }
+
+    private Integer quantity(Long productId) {
+        Integer quantity = quantities.get(productId);
+        if (quantity == null) {
+            quantity = loader.apply(productId);
+            if (quantity != null) {
+                quantities.put(productId, quantity);
+            }
+        }
+        return quantity;
+    }
+}
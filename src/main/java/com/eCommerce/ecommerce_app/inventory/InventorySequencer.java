@@ -0,0 +1,271 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class InventorySequencer implements MeterBinder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int partitionCount;
+    private final int ringSize;
+    private final Path journalDir;
+    private final long flushIntervalMillis;
+    private final int flushThreshold;
+    private final long timeoutMillis;
+    private final List<InventoryPartition> partitions = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private static final Logger log = LoggerFactory.getLogger(InventorySequencer.class);
+
+    public InventorySequencer(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${app.inventory.sequencer.enabled:false}") boolean enabled,
+                              @Value("${app.inventory.sequencer.partitions:4}") int partitionCount,
+                              @Value("${app.inventory.sequencer.ring-size:1024}") int ringSize,
+                              @Value("${app.inventory.sequencer.journal-dir:data/inventory}") String journalDir,
+                              @Value("${app.inventory.sequencer.flush-interval-ms:200}") long flushIntervalMillis,
+                              @Value("${app.inventory.sequencer.flush-threshold:512}") int flushThreshold,
+                              @Value("${app.inventory.sequencer.timeout-ms:5000}") long timeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.partitionCount = partitionCount;
+        this.ringSize = ringSize;
+        this.journalDir = Path.of(journalDir);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushThreshold = flushThreshold;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        recover();
+        for (int i = 0; i < partitionCount; i++) {
+            InventoryPartition partition = new InventoryPartition(i, ringSize,
+                    new InventoryJournal(journalDir.resolve("partition-" + i + ".journal")),
+                    this::loadQuantity, this::writeQuantities,
+                    TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis), flushThreshold);
+            Thread thread = new Thread(partition, "inventory-partition-" + i);
+            thread.setDaemon(true);
+            partitions.add(partition);
+            threads.add(thread);
+            thread.start();
+        }
+        log.info("Inventory sequencer started with {} partitions", partitionCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        partitions.forEach(InventoryPartition::stop);
+        for (Thread thread : threads) {
+            thread.join(timeoutMillis);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ReservationResult reserve(Map<Long, Integer> quantities) {
+        Map<Integer, Map<Long, Integer>> byPartition = split(quantities, -1);
+        Map<Integer, StockCommand> commands = new HashMap<>();
+        byPartition.forEach((partition, deltas) -> {
+            StockCommand command = new StockCommand(deltas, true);
+            partitions.get(partition).submit(command);
+            commands.put(partition, command);
+        });
+
+        ReservationResult shortage = null;
+        Map<Long, Integer> reserved = new HashMap<>();
+        try {
+            for (Map.Entry<Integer, StockCommand> command : commands.entrySet()) {
+                ReservationResult result = await(command.getValue());
+                if (result.isReserved()) {
+                    reserved.putAll(reservedBy(byPartition.get(command.getKey())));
+                } else {
+                    shortage = result;
+                }
+            }
+        } catch (IllegalStateException ex) {
+            releaseAbandoned(byPartition, commands);
+            throw ex;
+        }
+
+        if (shortage != null) {
+            if (!reserved.isEmpty()) {
+                release(reserved);
+            }
+            return shortage;
+        }
+        releaseOnRollback(quantities);
+        return ReservationResult.RESERVED;
+    }
+
+    public void release(Map<Long, Integer> quantities) {
+        List<StockCommand> commands = new ArrayList<>();
+        split(quantities, 1).forEach((partition, deltas) -> {
+            StockCommand command = new StockCommand(deltas, false);
+            partitions.get(partition).submit(command);
+            commands.add(command);
+        });
+        for (StockCommand command : commands) {
+            await(command);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < partitions.size(); i++) {
+            InventoryPartition partition = partitions.get(i);
+            String id = String.valueOf(i);
+            Gauge.builder("inventory.sequencer.queue", partition, InventoryPartition::queued)
+                    .tag("partition", id)
+                    .register(registry);
+            FunctionCounter.builder("inventory.sequencer.commands", partition, InventoryPartition::processed)
+                    .tag("partition", id)
+                    .register(registry);
+            FunctionCounter.builder("inventory.sequencer.flushes", partition, InventoryPartition::flushes)
+                    .tag("partition", id)
+                    .register(registry);
+        }
+    }
+
+    void recover() throws IOException {
+        if (!Files.isDirectory(journalDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(journalDir, "partition-*.journal")) {
+            for (Path journal : journals) {
+                Map<Long, Integer> quantities = InventoryJournal.replay(journal);
+                if (!quantities.isEmpty()) {
+                    writeQuantities(quantities);
+                    log.info("Recovered {} product quantities from {}", quantities.size(), journal.getFileName());
+                }
+                Files.delete(journal);
+            }
+        }
+    }
+
+    private Map<Integer, Map<Long, Integer>> split(Map<Long, Integer> quantities, int sign) {
+        if (partitions.isEmpty()) {
+            throw new IllegalStateException("Inventory sequencer is not running");
+        }
+        Map<Integer, Map<Long, Integer>> byPartition = new HashMap<>();
+        quantities.forEach((productId, quantity) -> byPartition
+                .computeIfAbsent(Math.floorMod(productId.hashCode(), partitions.size()), p -> new HashMap<>())
+                .merge(productId, sign * quantity, Integer::sum));
+        return byPartition;
+    }
+
+    private void releaseAbandoned(Map<Integer, Map<Long, Integer>> byPartition, Map<Integer, StockCommand> commands) {
+        Map<Long, Integer> reserved = new HashMap<>();
+        commands.forEach((partition, command) -> {
+            Map<Long, Integer> held = reservedBy(byPartition.get(partition));
+            CompletableFuture<ReservationResult> result = command.getResult();
+            if (!result.isDone()) {
+                result.thenAcceptAsync(late -> {
+                    if (late.isReserved()) {
+                        releaseQuietly(held);
+                    }
+                });
+            } else if (!result.isCompletedExceptionally() && result.join().isReserved()) {
+                reserved.putAll(held);
+            }
+        });
+        if (!reserved.isEmpty()) {
+            releaseQuietly(reserved);
+        }
+    }
+
+    private void releaseQuietly(Map<Long, Integer> quantities) {
+        try {
+            release(quantities);
+        } catch (IllegalStateException ex) {
+            log.error("Could not release abandoned inventory reservation {}", quantities, ex);
+        }
+    }
+
+    private static Map<Long, Integer> reservedBy(Map<Long, Integer> deltas) {
+        Map<Long, Integer> reserved = new HashMap<>();
+        deltas.forEach((productId, delta) -> reserved.put(productId, -delta));
+        return reserved;
+    }
+
+    private void releaseOnRollback(Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(quantities);
+                }
+            }
+        });
+    }
+
+    private ReservationResult await(StockCommand command) {
+        try {
+            return command.getResult().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for inventory", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Inventory command failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IllegalStateException("Inventory command timed out", ex);
+        }
+    }
+
+    private Integer loadQuantity(long productId) {
+        return jdbcTemplate.query("select quantity from products where id = ?",
+                (ResultSetExtractor<Integer>) rs -> rs.next() ? rs.getInt(1) : null, productId);
+    }
+
+    private void writeQuantities(Map<Long, Integer> quantities) {
+        List<Map.Entry<Long, Integer>> rows = new ArrayList<>(quantities.entrySet());
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "update products set quantity = ? where id = ?", rows, rows.size(), (ps, row) -> {
+                    ps.setInt(1, row.getValue());
+                    ps.setLong(2, row.getKey());
+                }));
+        eventPublisher.publishEvent(new StockLevelsChangedEvent(quantities));
+    }
+}
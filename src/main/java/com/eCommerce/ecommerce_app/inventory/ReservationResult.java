@@ -0,0 +1,24 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+public final class ReservationResult {
+
+    public static final ReservationResult RESERVED = new ReservationResult(null);
+
+    private final Long shortProductId;
+
+    private ReservationResult(Long shortProductId) {
+        this.shortProductId = shortProductId;
+    }
+
+    public static ReservationResult shortage(Long productId) {
+        return new ReservationResult(productId);
+    }
+
+    public boolean isReserved() {
+        return shortProductId == null;
+    }
+
+    public Long getShortProductId() {
+        return shortProductId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+final class StockCommand {
+
+    private final Map<Long, Integer> deltas;
+    private final boolean requireAvailable;
+    private final CompletableFuture<ReservationResult> result = new CompletableFuture<>();
+
+    StockCommand(Map<Long, Integer> deltas, boolean requireAvailable) {
+        this.deltas = deltas;
+        this.requireAvailable = requireAvailable;
+    }
+
+    Map<Long, Integer> getDeltas() {
+        return deltas;
+    }
+
+    boolean isRequireAvailable() {
+        return requireAvailable;
+    }
+
+    CompletableFuture<ReservationResult> getResult() {
+        return result;
+    }
+}
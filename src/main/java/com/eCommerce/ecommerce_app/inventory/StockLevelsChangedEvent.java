@@ -0,0 +1,16 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import java.util.Map;
+
+public final class StockLevelsChangedEvent {
+
+    private final Map<Long, Integer> quantities;
+
+    public StockLevelsChangedEvent(Map<Long, Integer> quantities) {
+        this.quantities = quantities;
+    }
+
+    public Map<Long, Integer> getQuantities() {
+        return quantities;
+    }
+}
@@ -0,0 +1,99 @@
+package com.eCommerce.ecommerce_app.membership;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public final class MembershipFilter {
+
+    private final String name;
+    private final double falsePositiveRate;
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    public MembershipFilter(String name, double falsePositiveRate) {
+        this.name = name;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean mightContain(String key) {
+        BloomFilter filter = current;
+        if (filter == null || key == null || filter.mightContain(key)) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    public void add(String key) {
+        if (key == null) {
+            return;
+        }
+        BloomFilter next = building;
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(key);
+        }
+        if (next != null && next != filter) {
+            next.put(key);
+        }
+    }
+
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public void rebuild(long expectedInsertions, Consumer<Consumer<String>> loader) {
+        lock.lock();
+        try {
+            BloomFilter next = new BloomFilter(Math.max(1024, expectedInsertions * 2), falsePositiveRate);
+            building = next;
+            try {
+                loader.accept(key -> {
+                    if (key != null) {
+                        next.put(key);
+                    }
+                });
+                current = next;
+            } finally {
+                building = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    public double observedFalsePositiveRate() {
+        long negatives = skipped.sum() + falsePositives.sum();
+        return negatives == 0 ? 0.0 : (double) falsePositives.sum() / negatives;
+    }
+
+    public double expectedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter == null ? 1.0 : filter.expectedFalsePositiveRate();
+    }
+
+    public long size() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.insertions();
+    }
+}
@@ -0,0 +1,85 @@
+package com.eCommerce.ecommerce_app.membership;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class MembershipFilters implements MeterBinder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MembershipFilter productNames;
+    private final MembershipFilter emails;
+    private final MembershipFilter usernames;
+    private static final Logger log = LoggerFactory.getLogger(MembershipFilters.class);
+
+    public MembershipFilters(JdbcTemplate jdbcTemplate,
+                             @Value("${app.membership.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productNames = new MembershipFilter("product-names", falsePositiveRate);
+        this.emails = new MembershipFilter("emails", falsePositiveRate);
+        this.usernames = new MembershipFilter("usernames", falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.membership.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${app.membership.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        load(productNames, "products", "name");
+        load(emails, "users", "email");
+        load(usernames, "users", "username");
+    }
+
+    public MembershipFilter productNames() {
+        return productNames;
+    }
+
+    public MembershipFilter emails() {
+        return emails;
+    }
+
+    public MembershipFilter usernames() {
+        return usernames;
+    }
+
+    private void load(MembershipFilter filter, String table, String column) {
+        Long count = jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+        filter.rebuild(count == null ? 0 : count, sink -> jdbcTemplate.query("select " + column + " from " + table,
+                (RowCallbackHandler) rs -> sink.accept(rs.getString(1))));
+        log.info("Loaded {} keys into the {} filter", filter.size(), filter.getName());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MembershipFilter filter : List.of(productNames, emails, usernames)) {
+            Gauge.builder("membership.filter.false-positive-rate", filter, MembershipFilter::observedFalsePositiveRate)
+                    .tag("filter", filter.getName())
+                    .register(registry);
+            Gauge.builder("membership.filter.expected-false-positive-rate", filter,
+                            MembershipFilter::expectedFalsePositiveRate)
+                    .tag("filter", filter.getName())
+                    .register(registry);
+            Gauge.builder("membership.filter.keys", filter, MembershipFilter::size)
+                    .tag("filter", filter.getName())
+                    .register(registry);
+            FunctionCounter.builder("membership.filter.skipped", filter, MembershipFilter::getSkipped)
+                    .tag("filter", filter.getName())
+                    .register(registry);
+            FunctionCounter.builder("membership.filter.false-positives", filter, MembershipFilter::getFalsePositives)
+                    .tag("filter", filter.getName())
+                    .register(registry);
+        }
+    }
+}
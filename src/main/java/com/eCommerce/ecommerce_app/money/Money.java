@@ -0,0 +1,98 @@
+package com.eCommerce.ecommerce_app.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount in the store's single currency, held as a count of minor units with a fixed scale of
+ * {@value #SCALE}. The shop prices everything in one currency with two decimal places, so the scale is not
+ * looked up per currency. Supporting currencies with another scale (JPY, BHD) needs a currency-aware type.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact());
+    }
+
+    public static long vatMultiplierBasisPoints(BigDecimal vatPercent) {
+        return BASIS_POINTS + vatPercent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public Money withVat(BigDecimal vatPercent) {
+        return applyBasisPoints(vatMultiplierBasisPoints(vatPercent));
+    }
+
+    public Money applyBasisPoints(long multiplierBasisPoints) {
+        return ofMinor(scaleHalfUp(minorUnits, multiplierBasisPoints));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    static long scaleHalfUp(long minorUnits, long multiplierBasisPoints) {
+        long product = Math.multiplyExact(minorUnits, multiplierBasisPoints);
+        long quotient = product / BASIS_POINTS;
+        long remainder = product % BASIS_POINTS;
+        if (Math.abs(remainder) * 2 >= BASIS_POINTS) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
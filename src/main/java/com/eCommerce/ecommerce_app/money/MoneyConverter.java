@@ -0,0 +1,20 @@
+package com.eCommerce.ecommerce_app.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return Money.of(dbData);
+    }
+}
@@ -0,0 +1,108 @@
+package com.eCommerce.ecommerce_app.reactive;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+@Component
+public class ReactiveReadHandler {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+    private final AuthService authService;
+    private final int maxProducts;
+
+    public ReactiveReadHandler(ReactiveReadRepository reactiveReadRepository, AuthService authService,
+                               @Value("${app.reactive.max-products:100}") int maxProducts) {
+        this.reactiveReadRepository = reactiveReadRepository;
+        this.authService = authService;
+        this.maxProducts = maxProducts;
+    }
+
+    public Mono<ServerResponse> orderDetails(ServerRequest request) {
+        String token = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        User user = token == null ? null : authService.getUserByToken(token);
+        if (user == null) {
+            return message(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token.");
+        }
+        Long orderId = parseId(request.pathVariable("orderId"));
+        if (orderId == null) {
+            return notFound(request, "order-not-found", "Order Not Found", "Order with id "
+                    + request.pathVariable("orderId") + " not found");
+        }
+
+        boolean isAdmin = user.getRoles().contains(Role.ADMIN);
+        return reactiveReadRepository.findOrderDocument(orderId)
+                .flatMap(document -> isAdmin || document.getOwnerId().equals(user.getId())
+                        ? ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(document.getBody())
+                        : forbidden())
+                .switchIfEmpty(Mono.defer(() -> reactiveReadRepository.findOrderDetails(orderId)
+                        .flatMap(details -> isAdmin || details.getCustomer().getId().equals(user.getId())
+                                ? ServerResponse.ok().bodyValue(details)
+                                : forbidden())))
+                .switchIfEmpty(Mono.defer(() -> notFound(request, "order-not-found", "Order Not Found",
+                        "Order with id " + orderId + " not found")));
+    }
+
+    public Mono<ServerResponse> product(ServerRequest request) {
+        Long id = parseId(request.pathVariable("id"));
+        if (id == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return reactiveReadRepository.findProduct(id)
+                .flatMap(product -> ServerResponse.ok().bodyValue(product))
+                .switchIfEmpty(Mono.defer(() -> notFound(request, "product-not-found", "Product Not Found",
+                        "Product with id " + id + " not found")));
+    }
+
+    public Mono<ServerResponse> products(ServerRequest request) {
+        Long afterId = parseId(request.queryParam("afterId").orElse("0"));
+        Long limit = parseId(request.queryParam("limit").orElse("20"));
+        if (afterId == null || limit == null || limit < 1) {
+            return ServerResponse.badRequest().build();
+        }
+        return ServerResponse.ok().body(
+                reactiveReadRepository.findProducts(afterId, (int) Math.min(limit, maxProducts)), ProductResponseDto.class);
+    }
+
+    private static Mono<ServerResponse> forbidden() {
+        return message(HttpStatus.FORBIDDEN, "Access denied: cannot view others' orders.");
+    }
+
+    private static Mono<ServerResponse> message(HttpStatus status, String message) {
+        OrderDetailsResponseDto response = new OrderDetailsResponseDto();
+        response.setMessage(message);
+        return ServerResponse.status(status).bodyValue(response);
+    }
+
+    private static Mono<ServerResponse> notFound(ServerRequest request, String errorCode, String title, String detail) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, detail);
+        problem.setTitle(title);
+        problem.setType(URI.create(errorCode));
+        problem.setProperty("path", request.path());
+        problem.setProperty("errorCode", errorCode);
+        problem.setProperty("messageForUser", detail);
+        return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(problem);
+    }
+
+    private static Long parseId(String value) {
+        try {
+            long id = Long.parseLong(value);
+            return id < 0 ? null : id;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
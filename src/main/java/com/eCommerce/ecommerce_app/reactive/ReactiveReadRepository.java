@@ -0,0 +1,167 @@
+package com.eCommerce.ecommerce_app.reactive;
+
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.services.RenderedOrderDetails;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Row;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ReactiveReadRepository {
+
+    private static final String JDBC_H2_PREFIX = "jdbc:h2:";
+    private static final String ORDER_DETAILS_SQL = "select o.id, o.total_net_value, o.total_gross_value, u.id, "
+            + "u.username, u.email, u.first_name, u.last_name, u.phone_number, u.country, u.city, u.street, "
+            + "u.postal_code, oi.product_id, coalesce(oi.product_name, p.name), oi.quantity, oi.net_price, "
+            + "oi.gross_price from orders o join users u on u.id = o.user_id "
+            + "left join order_items oi on oi.order_id = o.id left join products p on p.id = oi.product_id "
+            + "where o.id = :orderId order by oi.id";
+    private static final String ORDER_DOCUMENT_SQL = "select order_id, owner_id, order_version, document "
+            + "from order_documents where order_id = :orderId";
+    private static final String PRODUCT_SQL = "select id, name, price, vat, quantity from products where id = :id";
+    private static final String PRODUCTS_SQL = "select id, name, price, vat, quantity from products "
+            + "where id > :afterId order by id limit :limit";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(@Value("${spring.datasource.url}") String jdbcUrl,
+                                  @Value("${spring.datasource.username:sa}") String username,
+                                  @Value("${spring.datasource.password:}") String password,
+                                  @Value("${app.reactive.pool.max-size:20}") int maxPoolSize) {
+        if (!jdbcUrl.startsWith(JDBC_H2_PREFIX)) {
+            throw new IllegalArgumentException("The reactive read path needs an H2 datasource, got " + jdbcUrl);
+        }
+        H2ConnectionConfiguration configuration = H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(JDBC_H2_PREFIX.length()))
+                .username(username)
+                .password(password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(configuration))
+                .initialSize(Math.min(2, maxPoolSize))
+                .maxSize(maxPoolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public Mono<RenderedOrderDetails> findOrderDocument(long orderId) {
+        return databaseClient.sql(ORDER_DOCUMENT_SQL)
+                .bind("orderId", orderId)
+                .map((row, metadata) -> toRendered(row))
+                .one();
+    }
+
+    public Mono<OrderDetailsResponseDto> findOrderDetails(long orderId) {
+        return databaseClient.sql(ORDER_DETAILS_SQL)
+                .bind("orderId", orderId)
+                .map((row, metadata) -> new OrderDetailsRow(toOrderDetails(row), toItem(row)))
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(rows -> {
+                    OrderDetailsResponseDto dto = rows.get(0).order();
+                    List<OrderDetailsResponseDto.OrderItemInfoDto> items = new ArrayList<>(rows.size());
+                    for (OrderDetailsRow row : rows) {
+                        if (row.item() != null) {
+                            items.add(row.item());
+                        }
+                    }
+                    dto.setItems(items);
+                    return dto;
+                });
+    }
+
+    public Mono<ProductResponseDto> findProduct(long id) {
+        return databaseClient.sql(PRODUCT_SQL)
+                .bind("id", id)
+                .map((row, metadata) -> toProduct(row))
+                .one();
+    }
+
+    public Flux<ProductResponseDto> findProducts(long afterId, int limit) {
+        return databaseClient.sql(PRODUCTS_SQL)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> toProduct(row))
+                .all();
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    private static RenderedOrderDetails toRendered(Row row) {
+        ByteBuffer document = row.get(3, ByteBuffer.class);
+        byte[] body = new byte[document.remaining()];
+        document.get(body);
+        return new RenderedOrderDetails(row.get(0, Long.class), row.get(1, Long.class), row.get(2, Integer.class), body);
+    }
+
+    private static OrderDetailsResponseDto toOrderDetails(Row row) {
+        OrderDetailsResponseDto dto = new OrderDetailsResponseDto();
+        dto.setOrderId(row.get(0, Long.class));
+        dto.setTotalNet(money(row.get(1, BigDecimal.class)));
+        dto.setTotalGross(money(row.get(2, BigDecimal.class)));
+
+        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
+        customer.setId(row.get(3, Long.class));
+        customer.setUsername(row.get(4, String.class));
+        customer.setEmail(row.get(5, String.class));
+        customer.setFirstName(row.get(6, String.class));
+        customer.setLastName(row.get(7, String.class));
+        customer.setPhoneNumber(row.get(8, String.class));
+        customer.setCountry(row.get(9, String.class));
+        customer.setCity(row.get(10, String.class));
+        customer.setStreet(row.get(11, String.class));
+        customer.setPostalCode(row.get(12, String.class));
+        dto.setCustomer(customer);
+        return dto;
+    }
+
+    private static OrderDetailsResponseDto.OrderItemInfoDto toItem(Row row) {
+        Long productId = row.get(13, Long.class);
+        if (productId == null) {
+            return null;
+        }
+        OrderDetailsResponseDto.OrderItemInfoDto item = new OrderDetailsResponseDto.OrderItemInfoDto();
+        item.setProductId(productId);
+        item.setProductName(row.get(14, String.class));
+        item.setQuantity(row.get(15, Integer.class));
+        item.setNetPrice(money(row.get(16, BigDecimal.class)));
+        item.setGrossPrice(money(row.get(17, BigDecimal.class)));
+        return item;
+    }
+
+    private static ProductResponseDto toProduct(Row row) {
+        ProductResponseDto dto = new ProductResponseDto();
+        dto.setId(row.get(0, Long.class));
+        dto.setName(row.get(1, String.class));
+        dto.setPrice(row.get(2, BigDecimal.class));
+        dto.setVat(row.get(3, BigDecimal.class));
+        dto.setQuantity(row.get(4, Integer.class));
+        return dto;
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount).toBigDecimal();
+    }
+
+    private record OrderDetailsRow(OrderDetailsResponseDto order, OrderDetailsResponseDto.OrderItemInfoDto item) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.eCommerce.ecommerce_app.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ReactiveReadServer implements MeterBinder {
+
+    private final ReactiveReadHandler reactiveReadHandler;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String address;
+    private final int port;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder served = new LongAdder();
+    private volatile DisposableServer server;
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    public ReactiveReadServer(ReactiveReadHandler reactiveReadHandler, ObjectMapper objectMapper,
+                              @Value("${app.reactive.enabled:false}") boolean enabled,
+                              @Value("${app.reactive.address:127.0.0.1}") String address,
+                              @Value("${app.reactive.port:8081}") int port) {
+        this.reactiveReadHandler = reactiveReadHandler;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.address = address;
+        this.port = port;
+    }
+
+    static RouterFunction<ServerResponse> routes(ReactiveReadHandler handler) {
+        return RouterFunctions.route()
+                .GET("/api/orders/get/{orderId}", handler::orderDetails)
+                .GET("/api/products/{id}", handler::product)
+                .GET("/api/products", handler::products)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RouterFunction<ServerResponse> routes = routes(reactiveReadHandler).filter((request, next) -> {
+            inFlight.incrementAndGet();
+            return next.handle(request).doFinally(signal -> {
+                inFlight.decrementAndGet();
+                served.increment();
+            });
+        });
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        server = HttpServer.create()
+                .host(address)
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies)))
+                .bindNow();
+        log.info("Reactive read endpoints listening on {}:{}", address, server.port());
+    }
+
+    @PreDestroy
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            server = null;
+            running.disposeNow(Duration.ofSeconds(10));
+        }
+    }
+
+    public int getPort() {
+        DisposableServer running = server;
+        return running == null ? -1 : running.port();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reactive.requests.in-flight", inFlight, AtomicInteger::get)
+                .register(registry);
+        FunctionCounter.builder("reactive.requests.served", served, LongAdder::sum)
+                .register(registry);
+    }
+}
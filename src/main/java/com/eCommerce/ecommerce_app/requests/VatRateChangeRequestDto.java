@@ -0,0 +1,34 @@
+package com.eCommerce.ecommerce_app.requests;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class VatRateChangeRequestDto {
+
+    @NotNull(message = "Current VAT rate is required")
+    private BigDecimal oldRate;
+
+    @NotNull(message = "New VAT rate is required")
+    @DecimalMin(value = "0.0", message = "VAT rate cannot be negative")
+    private BigDecimal newRate;
+
+    public BigDecimal getOldRate() {
+        return oldRate;
+    }
+
+    public void setOldRate(BigDecimal oldRate) {
+        this.oldRate = oldRate;
+    }
+
+    public BigDecimal getNewRate() {
+        return newRate;
+    }
+
+    public void setNewRate(BigDecimal newRate) {
+        this.newRate = newRate;
+    }
+}
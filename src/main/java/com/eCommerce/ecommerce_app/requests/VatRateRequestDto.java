@@ -0,0 +1,23 @@
+package com.eCommerce.ecommerce_app.requests;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class VatRateRequestDto {
+
+    @NotNull(message = "VAT rate is required")
+    @DecimalMin(value = "0.0", message = "VAT rate cannot be negative")
+    private BigDecimal rate;
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+}
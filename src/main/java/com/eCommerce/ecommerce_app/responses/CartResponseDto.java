@@ -0,0 +1,28 @@
+package com.eCommerce.ecommerce_app.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CartResponseDto {
+
+    private List<CartItemDto> items;
+    private String message;
+
+    public List<CartItemDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CartItemDto> items) {
+        this.items = items;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,51 @@
+package com.eCommerce.ecommerce_app.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySalesDto {
+
+    private LocalDate date;
+    private Long unitsSold;
+    private BigDecimal netRevenue;
+    private BigDecimal grossRevenue;
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getNetRevenue() {
+        return netRevenue;
+    }
+
+    public void setNetRevenue(BigDecimal netRevenue) {
+        this.netRevenue = netRevenue;
+    }
+
+    public BigDecimal getGrossRevenue() {
+        return grossRevenue;
+    }
+
+    public void setGrossRevenue(BigDecimal grossRevenue) {
+        this.grossRevenue = grossRevenue;
+    }
+}
@@ -0,0 +1,59 @@
+package com.eCommerce.ecommerce_app.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineAggregateDto {
+
+    private String key;
+    private Long unitsSold;
+    private BigDecimal netRevenue;
+    private BigDecimal grossRevenue;
+    private Long lines;
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getNetRevenue() {
+        return netRevenue;
+    }
+
+    public void setNetRevenue(BigDecimal netRevenue) {
+        this.netRevenue = netRevenue;
+    }
+
+    public BigDecimal getGrossRevenue() {
+        return grossRevenue;
+    }
+
+    public void setGrossRevenue(BigDecimal grossRevenue) {
+        this.grossRevenue = grossRevenue;
+    }
+
+    public Long getLines() {
+        return lines;
+    }
+
+    public void setLines(Long lines) {
+        this.lines = lines;
+    }
+}
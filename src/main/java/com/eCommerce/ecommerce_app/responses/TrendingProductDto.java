@@ -0,0 +1,48 @@
+package com.eCommerce.ecommerce_app.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingProductDto {
+
+    private Long id;
+    private String name;
+    private long unitsSold;
+    private long maxOvercount;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public long getMaxOvercount() {
+        return maxOvercount;
+    }
+
+    public void setMaxOvercount(long maxOvercount) {
+        this.maxOvercount = maxOvercount;
+    }
+}
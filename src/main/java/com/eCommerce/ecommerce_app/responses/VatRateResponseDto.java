@@ -0,0 +1,46 @@
+package com.eCommerce.ecommerce_app.responses;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class VatRateResponseDto {
+
+    private Long id;
+    private BigDecimal rate;
+    private Integer repricedProducts;
+    private String message;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public Integer getRepricedProducts() {
+        return repricedProducts;
+    }
+
+    public void setRepricedProducts(Integer repricedProducts) {
+        this.repricedProducts = repricedProducts;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.eCommerce.ecommerce_app.respositories;
+
+import com.eCommerce.ecommerce_app.entities.OrderDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderDocumentRepository extends JpaRepository<OrderDocument, Long> {
+
+    @Modifying
+    @Query("delete from OrderDocument d where d.orderId between :fromId and :toId")
+    int deleteByOrderIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
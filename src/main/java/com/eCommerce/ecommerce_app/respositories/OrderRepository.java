@@ -2,8 +2,34 @@ package com.eCommerce.ecommerce_app.respositories;
 
 import com.eCommerce.ecommerce_app.entities.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Query("select o.id as id, o.user.id as userId, o.version as version from Order o where o.id = :orderId")
+    Optional<OrderVersionView> findVersionViewById(@Param("orderId") Long orderId);
+
+    @Query("select min(o.id) from Order o")
+    Long findMinId();
+
+    @Query("select max(o.id) from Order o")
+    Long findMaxId();
+
+    @Query("select distinct o from Order o join fetch o.user left join fetch o.orderItems " +
+            "where o.id between :fromId and :toId")
+    List<Order> findWithItemsByIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    interface OrderVersionView {
+        Long getId();
+
+        Long getUserId();
+
+        Integer getVersion();
+    }
 }
@@ -0,0 +1,37 @@
+package com.eCommerce.ecommerce_app.respositories;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "update outbox_events set claim_token = :claimToken, claimed_at = :now " +
+            "where id in (select id from outbox_events " +
+            "where claim_token is null or claimed_at < :staleBefore order by id limit :batchSize) " +
+            "and (claim_token is null or claimed_at < :staleBefore)", nativeQuery = true)
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("now") LocalDateTime now,
+                   @Param("staleBefore") LocalDateTime staleBefore,
+                   @Param("batchSize") int batchSize);
+
+    List<OutboxEvent> findByClaimTokenOrderById(String claimToken);
+
+    @Query("select e.createdAt from OutboxEvent e order by e.id limit 1")
+    LocalDateTime findOldestCreatedAt();
+
+    @Modifying
+    @Transactional
+    @Query("delete from OutboxEvent e where e.claimToken = :claimToken")
+    int deleteByClaimToken(@Param("claimToken") String claimToken);
+}
@@ -0,0 +1,56 @@
+package com.eCommerce.ecommerce_app.respositories;
+
+import com.eCommerce.ecommerce_app.entities.ProductDailySales;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, ProductDailySales.Key> {
+
+    @Query("select s.salesDate as date, sum(s.unitsSold) as unitsSold, sum(s.netRevenue) as netRevenue, " +
+            "sum(s.grossRevenue) as grossRevenue from ProductDailySales s " +
+            "where s.salesDate between :from and :to group by s.salesDate order by s.salesDate")
+    List<DailySalesView> findDailyTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select s.salesDate as date, s.unitsSold as unitsSold, s.netRevenue as netRevenue, " +
+            "s.grossRevenue as grossRevenue from ProductDailySales s " +
+            "where s.productId = :productId and s.salesDate between :from and :to order by s.salesDate")
+    List<DailySalesView> findDailyTotalsForProduct(@Param("productId") Long productId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    @Query("select s.productId as productId, p.name as productName, sum(s.unitsSold) as unitsSold, " +
+            "sum(s.netRevenue) as netRevenue, sum(s.grossRevenue) as grossRevenue " +
+            "from ProductDailySales s left join Product p on p.id = s.productId " +
+            "where s.salesDate between :from and :to group by s.productId, p.name order by sum(s.grossRevenue) desc")
+    List<ProductSalesView> findProductTotals(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    interface DailySalesView {
+        LocalDate getDate();
+
+        Long getUnitsSold();
+
+        BigDecimal getNetRevenue();
+
+        BigDecimal getGrossRevenue();
+    }
+
+    interface ProductSalesView {
+        Long getProductId();
+
+        String getProductName();
+
+        Long getUnitsSold();
+
+        BigDecimal getNetRevenue();
+
+        BigDecimal getGrossRevenue();
+    }
+}
@@ -2,9 +2,41 @@ package com.eCommerce.ecommerce_app.respositories;
 
 import com.eCommerce.ecommerce_app.entities.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     boolean existsByName(String name);
+
+    @Query("select min(p.id) from Product p where p.vat = :vat")
+    Long findMinIdByVat(@Param("vat") BigDecimal vat);
+
+    @Query("select max(p.id) from Product p where p.vat = :vat")
+    Long findMaxIdByVat(@Param("vat") BigDecimal vat);
+
+    @Modifying
+    @Query("update Product p set p.vat = :newVat, p.priceGorss = round(p.price * :multiplier / 10000, 2) "
+            + "where p.vat = :oldVat and p.id between :fromId and :toId")
+    int repriceByVat(@Param("oldVat") BigDecimal oldVat,
+                     @Param("newVat") BigDecimal newVat,
+                     @Param("multiplier") long multiplierBasisPoints,
+                     @Param("fromId") Long fromId,
+                     @Param("toId") Long toId);
+
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity - :quantity where p.id = :productId and p.quantity >= :quantity")
+    int reserveStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity + :quantity where p.id = :productId")
+    int releaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Query("select p.quantity from Product p where p.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") Long id);
 }
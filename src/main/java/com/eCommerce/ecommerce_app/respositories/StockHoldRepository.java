@@ -0,0 +1,31 @@
+package com.eCommerce.ecommerce_app.respositories;
+
+import com.eCommerce.ecommerce_app.entities.StockHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+
+    List<StockHold> findByUserIdOrderById(Long userId);
+
+    Optional<StockHold> findByUserIdAndProductId(Long userId, Long productId);
+
+    List<StockHold> findByUserIdAndProductIdIn(Long userId, Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from StockHold h where h.id = :holdId")
+    int deleteHold(@Param("holdId") Long holdId);
+
+    @Modifying
+    @Query("delete from StockHold h where h.id = :holdId and h.expiresAt <= :now")
+    int deleteExpiredHold(@Param("holdId") Long holdId, @Param("now") LocalDateTime now);
+}
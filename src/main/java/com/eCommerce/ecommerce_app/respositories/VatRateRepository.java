@@ -0,0 +1,16 @@
+package com.eCommerce.ecommerce_app.respositories;
+
+import com.eCommerce.ecommerce_app.entities.VatRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@Repository
+public interface VatRateRepository extends JpaRepository<VatRate, Long> {
+
+    boolean existsByRate(BigDecimal rate);
+
+    Optional<VatRate> findByRate(BigDecimal rate);
+}
@@ -0,0 +1,263 @@
+package com.eCommerce.ecommerce_app.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public final class AutocompleteTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::popularity).reversed()
+            .thenComparingInt(suggestion -> suggestion.name().length())
+            .thenComparingLong(Suggestion::productId);
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private final Node root;
+    private final int topK;
+    private final int size;
+
+    private AutocompleteTrie(Node root, int topK, int size) {
+        this.root = root;
+        this.topK = topK;
+        this.size = size;
+    }
+
+    public static AutocompleteTrie empty(int topK) {
+        return new AutocompleteTrie(Node.EMPTY, topK, 0);
+    }
+
+    public static AutocompleteTrie build(Collection<Suggestion> suggestions, int topK) {
+        List<Entry> entries = new ArrayList<>(suggestions.size());
+        for (Suggestion suggestion : suggestions) {
+            String key = Tokenizer.normalize(suggestion.name());
+            if (!key.isEmpty()) {
+                entries.add(new Entry(key, suggestion));
+            }
+        }
+        if (entries.isEmpty()) {
+            return empty(topK);
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+        return new AutocompleteTrie(build(entries, 0, entries.size(), 0, topK), topK, entries.size());
+    }
+
+    public AutocompleteTrie insert(Suggestion suggestion) {
+        String key = Tokenizer.normalize(suggestion.name());
+        if (key.isEmpty()) {
+            return this;
+        }
+        Node inserted = insert(root, key, 0, suggestion);
+        return inserted == root ? this : new AutocompleteTrie(inserted, topK, size + 1);
+    }
+
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = Tokenizer.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            key = key + ' ';
+        }
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int index = Arrays.binarySearch(node.firstChars, key.charAt(depth));
+            if (index < 0) {
+                return List.of();
+            }
+            String label = node.labels[index];
+            int remaining = key.length() - depth;
+            if (remaining < label.length()) {
+                if (!label.startsWith(key.substring(depth))) {
+                    return List.of();
+                }
+            } else if (!key.startsWith(label, depth)) {
+                return List.of();
+            }
+            node = node.children[index];
+            depth += label.length();
+        }
+        Suggestion[] top = node.top;
+        return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    private static Node build(List<Entry> entries, int from, int to, int depth, int topK) {
+        List<Suggestion> terminals = new ArrayList<>();
+        int start = from;
+        while (start < to && entries.get(start).key().length() == depth) {
+            terminals.add(entries.get(start).suggestion());
+            start++;
+        }
+        List<Character> firstChars = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        while (start < to) {
+            char first = entries.get(start).key().charAt(depth);
+            int end = start + 1;
+            while (end < to && entries.get(end).key().charAt(depth) == first) {
+                end++;
+            }
+            String lowest = entries.get(start).key();
+            String highest = entries.get(end - 1).key();
+            int split = depth + 1;
+            int limit = Math.min(lowest.length(), highest.length());
+            while (split < limit && lowest.charAt(split) == highest.charAt(split)) {
+                split++;
+            }
+            firstChars.add(first);
+            labels.add(lowest.substring(depth, split));
+            children.add(build(entries, start, end, split, topK));
+            start = end;
+        }
+
+        Suggestion[] terminalArray = terminals.toArray(NO_SUGGESTIONS);
+        Node[] childArray = children.toArray(new Node[0]);
+        char[] firstCharArray = new char[firstChars.size()];
+        for (int i = 0; i < firstCharArray.length; i++) {
+            firstCharArray[i] = firstChars.get(i);
+        }
+        Suggestion[] top = terminalArray.clone();
+        Arrays.sort(top, RANKING);
+        top = Arrays.copyOf(top, Math.min(top.length, topK));
+        for (Node child : childArray) {
+            top = merge(top, child.top, topK);
+        }
+        return new Node(firstCharArray, labels.toArray(new String[0]), childArray, terminalArray, top);
+    }
+
+    private Node insert(Node node, String key, int depth, Suggestion suggestion) {
+        if (depth == key.length()) {
+            for (Suggestion terminal : node.terminals) {
+                if (terminal.productId() == suggestion.productId()) {
+                    return node;
+                }
+            }
+            Suggestion[] terminals = Arrays.copyOf(node.terminals, node.terminals.length + 1);
+            terminals[terminals.length - 1] = suggestion;
+            return new Node(node.firstChars, node.labels, node.children, terminals, withSuggestion(node.top, suggestion));
+        }
+
+        char first = key.charAt(depth);
+        int index = Arrays.binarySearch(node.firstChars, first);
+        if (index < 0) {
+            Node leaf = new Node(new char[0], new String[0], new Node[0], new Suggestion[]{suggestion},
+                    new Suggestion[]{suggestion});
+            int position = -index - 1;
+            return new Node(insertAt(node.firstChars, position, first),
+                    insertAt(node.labels, position, key.substring(depth)),
+                    insertAt(node.children, position, leaf),
+                    node.terminals, withSuggestion(node.top, suggestion));
+        }
+
+        String label = node.labels[index];
+        Node child = node.children[index];
+        int common = 1;
+        while (common < label.length() && depth + common < key.length()
+                && label.charAt(common) == key.charAt(depth + common)) {
+            common++;
+        }
+
+        Node replacement;
+        String replacementLabel = label;
+        if (common == label.length()) {
+            replacement = insert(child, key, depth + common, suggestion);
+            if (replacement == child) {
+                return node;
+            }
+        } else {
+            Node lower = new Node(new char[]{label.charAt(common)}, new String[]{label.substring(common)},
+                    new Node[]{child}, NO_SUGGESTIONS, child.top);
+            replacement = insert(lower, key, depth + common, suggestion);
+            replacementLabel = label.substring(0, common);
+        }
+
+        String[] labels = node.labels.clone();
+        labels[index] = replacementLabel;
+        Node[] children = node.children.clone();
+        children[index] = replacement;
+        return new Node(node.firstChars, labels, children, node.terminals, withSuggestion(node.top, suggestion));
+    }
+
+    private Suggestion[] withSuggestion(Suggestion[] top, Suggestion suggestion) {
+        int position = 0;
+        while (position < top.length && RANKING.compare(top[position], suggestion) < 0) {
+            position++;
+        }
+        if (position >= topK) {
+            return top;
+        }
+        int length = Math.min(top.length + 1, topK);
+        Suggestion[] result = new Suggestion[length];
+        System.arraycopy(top, 0, result, 0, position);
+        result[position] = suggestion;
+        System.arraycopy(top, position, result, position + 1, length - position - 1);
+        return result;
+    }
+
+    private static Suggestion[] merge(Suggestion[] left, Suggestion[] right, int topK) {
+        if (right.length == 0) {
+            return left;
+        }
+        Suggestion[] result = new Suggestion[Math.min(left.length + right.length, topK)];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < result.length; k++) {
+            if (j == right.length || (i < left.length && RANKING.compare(left[i], right[j]) <= 0)) {
+                result[k] = left[i++];
+            } else {
+                result[k] = right[j++];
+            }
+        }
+        return result;
+    }
+
+    private static char[] insertAt(char[] array, int position, char value) {
+        char[] result = new char[array.length + 1];
+        System.arraycopy(array, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        return result;
+    }
+
+    private static <T> T[] insertAt(T[] array, int position, T value) {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        result[position] = value;
+        return result;
+    }
+
+    public record Suggestion(long productId, String name, long popularity) {
+    }
+
+    private record Entry(String key, Suggestion suggestion) {
+    }
+
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(new char[0], new String[0], new Node[0], NO_SUGGESTIONS, NO_SUGGESTIONS);
+
+        private final char[] firstChars;
+        private final String[] labels;
+        private final Node[] children;
+        private final Suggestion[] terminals;
+        private final Suggestion[] top;
+
+        private Node(char[] firstChars, String[] labels, Node[] children, Suggestion[] terminals, Suggestion[] top) {
+            this.firstChars = firstChars;
+            this.labels = labels;
+            this.children = children;
+            this.terminals = terminals;
+            this.top = top;
+        }
+    }
+}
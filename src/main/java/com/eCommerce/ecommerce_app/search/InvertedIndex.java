@@ -0,0 +1,324 @@
+package com.eCommerce.ecommerce_app.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public final class InvertedIndex {
+
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final double PREFIX_WEIGHT = 0.6;
+    private static final int PROBE_RATIO = 8;
+
+    private final ConcurrentSkipListMap<String, Postings> terms = new ConcurrentSkipListMap<>();
+    private final Map<Long, Document> byProductId = new ConcurrentHashMap<>();
+    private volatile Document[] documents = new Document[1024];
+    private volatile int documentCount;
+
+    public synchronized void add(long productId, String name, boolean inStock) {
+        Document existing = byProductId.get(productId);
+        if (existing != null) {
+            if (existing.name.equals(name)) {
+                existing.inStock = inStock;
+                return;
+            }
+            for (String token : new LinkedHashSet<>(Tokenizer.tokenize(existing.name))) {
+                terms.computeIfPresent(token, (t, postings) -> postings.without(existing.docId));
+            }
+        }
+
+        List<String> tokens = Tokenizer.tokenize(name);
+        int docId = documentCount;
+        Document document = new Document(docId, productId, name, Math.max(1, tokens.size()), inStock);
+        Document[] current = documents;
+        if (docId == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[docId] = document;
+        documents = current;
+
+        for (String token : new LinkedHashSet<>(tokens)) {
+            terms.computeIfAbsent(token, t -> new Postings()).append(docId);
+        }
+        byProductId.put(productId, document);
+        documentCount = docId + 1;
+    }
+
+    public void setInStock(long productId, boolean inStock) {
+        Document document = byProductId.get(productId);
+        if (document != null) {
+            document.inStock = inStock;
+        }
+    }
+
+    public int size() {
+        return byProductId.size();
+    }
+
+    public int termCount() {
+        return terms.size();
+    }
+
+    public List<Hit> search(String query, int limit, boolean inStockOnly) {
+        List<String> tokens = Tokenizer.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int count = documentCount;
+        Document[] docs = documents;
+
+        List<TermMatch> matches = new ArrayList<>();
+        for (String token : new LinkedHashSet<>(tokens)) {
+            TermMatch match = match(token, byProductId.size());
+            if (match.estimatedSize() == 0) {
+                return List.of();
+            }
+            matches.add(match);
+        }
+        matches.sort(Comparator.comparingLong(TermMatch::estimatedSize));
+
+        Matches candidates = Matches.union(matches.get(0), count);
+        for (int i = 1; i < matches.size() && candidates.size > 0; i++) {
+            TermMatch match = matches.get(i);
+            candidates = match.estimatedSize() > (long) candidates.size * PROBE_RATIO
+                    ? candidates.probe(match)
+                    : candidates.intersect(Matches.union(match, count));
+        }
+
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score)
+                .thenComparing(hit -> -hit.name().length())
+                .thenComparing(hit -> -hit.productId());
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking);
+        for (int i = 0; i < candidates.size; i++) {
+            Document document = docs[candidates.docIds[i]];
+            boolean inStock = document.inStock;
+            if (inStockOnly && !inStock) {
+                continue;
+            }
+            double score = candidates.weights[i] / Math.sqrt(document.termCount);
+            if (top.size() < limit || score > top.peek().score()) {
+                top.add(new Hit(document.productId, document.name, inStock, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(ranking.reversed());
+        return hits;
+    }
+
+    private TermMatch match(String token, int liveDocuments) {
+        List<Postings> lists = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        Postings exact = terms.get(token);
+        if (exact != null) {
+            lists.add(exact);
+            weights.add(idf(exact.size(), liveDocuments));
+        }
+        NavigableMap<String, Postings> completions = terms.subMap(token, false, token + Character.MAX_VALUE, false);
+        PriorityQueue<Completion> widest = new PriorityQueue<>(MAX_PREFIX_EXPANSIONS + 1,
+                Comparator.comparingInt(Completion::documentFrequency));
+        for (Postings postings : completions.values()) {
+            widest.add(new Completion(postings, postings.size()));
+            if (widest.size() > MAX_PREFIX_EXPANSIONS) {
+                widest.poll();
+            }
+        }
+        for (Completion completion : widest) {
+            lists.add(completion.postings());
+            weights.add(idf(completion.documentFrequency(), liveDocuments) * PREFIX_WEIGHT);
+        }
+        return new TermMatch(lists, weights);
+    }
+
+    private static double idf(int documentFrequency, int documentCount) {
+        return Math.log(1.0 + (double) documentCount / Math.max(1, documentFrequency));
+    }
+
+    public record Hit(long productId, String name, boolean inStock, double score) {
+    }
+
+    private record Completion(Postings postings, int documentFrequency) {
+    }
+
+    private record TermMatch(List<Postings> lists, List<Double> weights) {
+
+        private long estimatedSize() {
+            long size = 0;
+            for (Postings postings : lists) {
+                size += postings.size();
+            }
+            return size;
+        }
+    }
+
+    private static final class Document {
+        private final int docId;
+        private final long productId;
+        private final String name;
+        private final int termCount;
+        private volatile boolean inStock;
+
+        private Document(int docId, long productId, String name, int termCount, boolean inStock) {
+            this.docId = docId;
+            this.productId = productId;
+            this.name = name;
+            this.termCount = termCount;
+            this.inStock = inStock;
+        }
+    }
+
+    private static final class Postings {
+        private volatile int[] docIds = new int[4];
+        private volatile int size;
+
+        private void append(int docId) {
+            int[] current = docIds;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[size] = docId;
+            docIds = current;
+            size = size + 1;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private Postings without(int docId) {
+            int[] current = docIds;
+            int currentSize = size;
+            int index = Arrays.binarySearch(current, 0, currentSize, docId);
+            if (index < 0) {
+                return this;
+            }
+            if (currentSize == 1) {
+                return null;
+            }
+            Postings remaining = new Postings();
+            int[] ids = new int[Math.max(4, currentSize - 1)];
+            System.arraycopy(current, 0, ids, 0, index);
+            System.arraycopy(current, index + 1, ids, index, currentSize - index - 1);
+            remaining.docIds = ids;
+            remaining.size = currentSize - 1;
+            return remaining;
+        }
+    }
+
+    private static final class Matches {
+        private final int[] docIds;
+        private final double[] weights;
+        private final int size;
+
+        private Matches(int[] docIds, double[] weights, int size) {
+            this.docIds = docIds;
+            this.weights = weights;
+            this.size = size;
+        }
+
+        private static Matches union(TermMatch match, int count) {
+            List<Postings> lists = match.lists();
+            List<Double> weights = match.weights();
+            if (lists.isEmpty()) {
+                return new Matches(new int[0], new double[0], 0);
+            }
+            if (lists.size() == 1) {
+                Postings postings = lists.get(0);
+                int size = postings.size;
+                int[] ids = postings.docIds;
+                int visible = 0;
+                int[] docIds = new int[size];
+                double[] docWeights = new double[size];
+                double weight = weights.get(0);
+                for (int i = 0; i < size && ids[i] < count; i++) {
+                    docIds[visible] = ids[i];
+                    docWeights[visible++] = weight;
+                }
+                return new Matches(docIds, docWeights, visible);
+            }
+
+            int total = 0;
+            for (Postings postings : lists) {
+                total += postings.size;
+            }
+            long[] entries = new long[total];
+            int n = 0;
+            for (int list = 0; list < lists.size(); list++) {
+                Postings postings = lists.get(list);
+                int size = postings.size;
+                int[] ids = postings.docIds;
+                for (int i = 0; i < size && n < total; i++) {
+                    if (ids[i] < count) {
+                        entries[n++] = ((long) ids[i] << 32) | list;
+                    }
+                }
+            }
+            Arrays.sort(entries, 0, n);
+
+            int[] docIds = new int[n];
+            double[] docWeights = new double[n];
+            int size = 0;
+            for (int i = 0; i < n; i++) {
+                int docId = (int) (entries[i] >>> 32);
+                double weight = weights.get((int) entries[i]);
+                if (size > 0 && docIds[size - 1] == docId) {
+                    docWeights[size - 1] = Math.max(docWeights[size - 1], weight);
+                } else {
+                    docIds[size] = docId;
+                    docWeights[size++] = weight;
+                }
+            }
+            return new Matches(docIds, docWeights, size);
+        }
+
+        private Matches probe(TermMatch match) {
+            int[] docIds = new int[size];
+            double[] docWeights = new double[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                double best = 0;
+                for (int list = 0; list < match.lists().size(); list++) {
+                    Postings postings = match.lists().get(list);
+                    int postingsSize = postings.size;
+                    if (Arrays.binarySearch(postings.docIds, 0, postingsSize, this.docIds[i]) >= 0) {
+                        best = Math.max(best, match.weights().get(list));
+                    }
+                }
+                if (best > 0) {
+                    docIds[n] = this.docIds[i];
+                    docWeights[n++] = weights[i] + best;
+                }
+            }
+            return new Matches(docIds, docWeights, n);
+        }
+
+        private Matches intersect(Matches other) {
+            int[] docIds = new int[Math.min(size, other.size)];
+            double[] docWeights = new double[docIds.length];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < size && j < other.size) {
+                if (this.docIds[i] < other.docIds[j]) {
+                    i++;
+                } else if (this.docIds[i] > other.docIds[j]) {
+                    j++;
+                } else {
+                    docIds[n] = this.docIds[i];
+                    docWeights[n++] = weights[i++] + other.weights[j++];
+                }
+            }
+            return new Matches(docIds, docWeights, n);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.eCommerce.ecommerce_app.search;
+
+import com.eCommerce.ecommerce_app.entities.Product;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class ProductAutocomplete implements MeterBinder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int topK;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile AutocompleteTrie trie;
+    private static final Logger log = LoggerFactory.getLogger(ProductAutocomplete.class);
+
+    public ProductAutocomplete(JdbcTemplate jdbcTemplate,
+                               @Value("${app.search.autocomplete.top-k:10}") int topK) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.topK = topK;
+        this.trie = AutocompleteTrie.empty(topK);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search.autocomplete.refresh-interval-ms:600000}",
+            fixedDelayString = "${app.search.autocomplete.refresh-interval-ms:600000}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            long started = System.nanoTime();
+            List<AutocompleteTrie.Suggestion> suggestions = jdbcTemplate.query(
+                    "select p.id, p.name, coalesce(sum(oi.quantity), 0) from products p "
+                            + "left join order_items oi on oi.product_id = p.id group by p.id, p.name",
+                    (rs, rowNum) -> new AutocompleteTrie.Suggestion(rs.getLong(1), rs.getString(2), rs.getLong(3)));
+            trie = AutocompleteTrie.build(suggestions, topK);
+            log.info("Built autocomplete over {} product names in {} ms", trie.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void add(Product product) {
+        lock.lock();
+        try {
+            trie = trie.insert(new AutocompleteTrie.Suggestion(product.getId(), product.getName(), 0L));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<AutocompleteTrie.Suggestion> complete(String prefix, int limit) {
+        return trie.complete(prefix, Math.min(limit, topK));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("products.autocomplete.entries", this, autocomplete -> autocomplete.trie.size())
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eCommerce.ecommerce_app.search;
+
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.inventory.StockLevelsChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+public class ProductSearchIndex implements MeterBinder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InvertedIndex index = new InvertedIndex();
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    public ProductSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        jdbcTemplate.query("select id, name, quantity from products order by id",
+                (RowCallbackHandler) rs -> index.add(rs.getLong(1), rs.getString(2), rs.getInt(3) > 0));
+        log.info("Indexed {} products ({} terms) in {} ms", index.size(), index.termCount(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void add(Product product) {
+        index.add(product.getId(), product.getName(), product.getQuantity() != null && product.getQuantity() > 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockLevelsChanged(StockLevelsChangedEvent event) {
+        event.getQuantities().forEach((productId, quantity) -> index.setInStock(productId, quantity > 0));
+    }
+
+    public List<InvertedIndex.Hit> search(String query, int limit, boolean inStockOnly) {
+        return index.search(query, limit, inStockOnly);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("products.search.index.documents", index, InvertedIndex::size)
+                .register(registry);
+        Gauge.builder("products.search.index.terms", index, InvertedIndex::termCount)
+                .register(registry);
+    }
+}
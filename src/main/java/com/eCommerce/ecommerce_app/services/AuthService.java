@@ -3,6 +3,7 @@ package com.eCommerce.ecommerce_app.services;
 import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.enums.Role;
 import com.eCommerce.ecommerce_app.exceptions.UserAlreadyExistException;
+import com.eCommerce.ecommerce_app.membership.MembershipFilters;
 import com.eCommerce.ecommerce_app.requests.LoginRequestDto;
 import com.eCommerce.ecommerce_app.requests.RegistrationRequestDto;
 import com.eCommerce.ecommerce_app.responses.LoginResponseDto;
@@ -22,19 +23,27 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MembershipFilters membershipFilters;
+    private final CredentialCache credentialCache;
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
     private final Map<String, User> sessions = new ConcurrentHashMap<>();
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       MembershipFilters membershipFilters, CredentialCache credentialCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.membershipFilters = membershipFilters;
+        this.credentialCache = credentialCache;
     }
 
     public User registerUser(RegistrationRequestDto dto) {
         try {
-            if (userRepository.existsByEmail(dto.getEmail())) {
-                log.error("Registration failed: user with email {} already exists.", dto.getEmail());
-                throw new UserAlreadyExistException("A user with this email already exists");
+            if (membershipFilters.emails().mightContain(dto.getEmail())) {
+                if (userRepository.existsByEmail(dto.getEmail())) {
+                    log.error("Registration failed: user with email {} already exists.", dto.getEmail());
+                    throw new UserAlreadyExistException("A user with this email already exists");
+                }
+                membershipFilters.emails().recordFalsePositive();
             }
 
             User newUser = new User();
@@ -51,6 +60,8 @@ public class AuthService {
             newUser.getRoles().add(Role.USER);
 
             User savedUser = userRepository.save(newUser);
+            membershipFilters.emails().add(savedUser.getEmail());
+            membershipFilters.usernames().add(savedUser.getUsername());
 
             log.info("Registered user: {}", savedUser.getEmail());
 
@@ -64,15 +75,20 @@ public class AuthService {
         }
     }
     public LoginResponseDto login(LoginRequestDto dto) {
-        User user = userRepository.findByUsername(dto.getUsername())
-                .orElse(null);
+        if (dto.getUsername() == null || !membershipFilters.usernames().mightContain(dto.getUsername())) {
+            return new LoginResponseDto(null, "Invalid username or password");
+        }
+        CredentialCache.Credentials credentials = credentialCache.get(dto.getUsername()).orElse(null);
+        if (credentials == null) {
+            membershipFilters.usernames().recordFalsePositive();
+        }
 
-        if (user == null || !passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+        if (credentials == null || !passwordEncoder.matches(dto.getPassword(), credentials.passwordHash())) {
             return new LoginResponseDto(null, "Invalid username or password");
         }
 
         String token = UUID.randomUUID().toString();
-        sessions.put(token, user);
+        sessions.put(token, credentials.toSessionUser());
 
         return new LoginResponseDto(token, "Login successful");
     }
@@ -0,0 +1,299 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.entities.StockHold;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.exceptions.InsufficientStockException;
+import com.eCommerce.ecommerce_app.exceptions.ProductNotFoundException;
+import com.eCommerce.ecommerce_app.inventory.InventorySequencer;
+import com.eCommerce.ecommerce_app.inventory.StockLevelsChangedEvent;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.responses.CartItemDto;
+import com.eCommerce.ecommerce_app.responses.CartResponseDto;
+import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.StockHoldRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class CartService implements MeterBinder {
+
+    private final StockHoldRepository stockHoldRepository;
+    private final ProductRepository productRepository;
+    private final InventorySequencer inventorySequencer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration holdTtl;
+    private final long tickMillis;
+    private final int releaseBatchSize;
+    private final HoldTimingWheel wheel;
+    private final Map<Long, HeldItem> holdsById = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, HeldItem>> holdsByUser = new ConcurrentHashMap<>();
+    private final LongAdder expired = new LongAdder();
+    private volatile boolean holdsLoaded;
+    private static final Logger log = LoggerFactory.getLogger(CartService.class);
+
+    public CartService(StockHoldRepository stockHoldRepository,
+                       ProductRepository productRepository,
+                       InventorySequencer inventorySequencer,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${app.cart.hold-ttl-seconds:900}") long holdTtlSeconds,
+                       @Value("${app.cart.wheel.tick-ms:1000}") long tickMillis,
+                       @Value("${app.cart.wheel.slots:512}") int wheelSlots,
+                       @Value("${app.cart.release-batch-size:200}") int releaseBatchSize) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.productRepository = productRepository;
+        this.inventorySequencer = inventorySequencer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.holdTtl = Duration.ofSeconds(holdTtlSeconds);
+        this.tickMillis = tickMillis;
+        this.releaseBatchSize = releaseBatchSize;
+        this.wheel = new HoldTimingWheel(tickMillis, wheelSlots, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadHolds() {
+        List<StockHold> holds = stockHoldRepository.findAll();
+        for (StockHold hold : holds) {
+            remember(HeldItem.of(hold));
+        }
+        holdsLoaded = true;
+        log.info("Loaded {} stock holds", holds.size());
+    }
+
+    @Transactional
+    public CartResponseDto addItem(User user, OrderItemRequestDto dto) {
+        Long productId = dto.getProductId();
+        int quantity = dto.getQuantity();
+        if (!reserveStock(productId, quantity)) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException("Product ID not found: " + productId));
+            throw new InsufficientStockException("Not enough stock for product: " + product.getName());
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(holdTtl);
+        StockHold hold = stockHoldRepository.findByUserIdAndProductId(user.getId(), productId)
+                .orElseGet(() -> new StockHold(user.getId(), productId, 0, expiresAt));
+        hold.setQuantity(hold.getQuantity() + quantity);
+        hold.setExpiresAt(expiresAt);
+        HeldItem held = HeldItem.of(stockHoldRepository.save(hold));
+        AfterCommit.run(() -> remember(held));
+
+        return cart(stockHoldRepository.findByUserIdOrderById(user.getId()), "Item added to cart");
+    }
+
+    @Transactional
+    public CartResponseDto removeItem(User user, Long productId) {
+        stockHoldRepository.findByUserIdAndProductId(user.getId(), productId).ifPresent(hold -> {
+            if (stockHoldRepository.deleteHold(hold.getId()) == 1) {
+                releaseStock(productId, hold.getQuantity());
+            }
+            AfterCommit.run(() -> forget(hold.getId()));
+        });
+
+        return cart(stockHoldRepository.findByUserIdOrderById(user.getId()), "Item removed from cart");
+    }
+
+    public CartResponseDto getCart(User user) {
+        Map<Long, HeldItem> held = holdsByUser.getOrDefault(user.getId(), Map.of());
+        List<CartItemDto> items = held.values().stream()
+                .sorted(Comparator.comparingLong(HeldItem::productId))
+                .map(HeldItem::toDto)
+                .toList();
+
+        CartResponseDto response = new CartResponseDto();
+        response.setItems(items);
+        response.setMessage(items.isEmpty() ? "Cart is empty" : "Cart fetched successfully");
+        return response;
+    }
+
+    @Transactional
+    public Map<Long, Integer> claimHolds(Long userId, Collection<Long> productIds) {
+        Map<Long, Integer> claimed = new HashMap<>();
+        if (holdsLoaded && !holdsByUser.containsKey(userId)) {
+            return claimed;
+        }
+
+        List<Long> claimedIds = new ArrayList<>();
+        for (StockHold hold : stockHoldRepository.findByUserIdAndProductIdIn(userId, productIds)) {
+            if (stockHoldRepository.deleteHold(hold.getId()) == 1) {
+                claimed.merge(hold.getProductId(), hold.getQuantity(), Integer::sum);
+                claimedIds.add(hold.getId());
+            }
+        }
+        if (!claimedIds.isEmpty()) {
+            AfterCommit.run(() -> claimedIds.forEach(this::forget));
+        }
+        return claimed;
+    }
+
+    public void restoreHolds(Long userId, Map<Long, Integer> claimed) {
+        Map<Long, HeldItem> previous = holdsByUser.getOrDefault(userId, Map.of());
+        List<HeldItem> restored = new ArrayList<>(claimed.size());
+        claimed.forEach((productId, quantity) -> {
+            HeldItem held = previous.get(productId);
+            LocalDateTime expiresAt = held != null ? held.expiresAt() : LocalDateTime.now().plus(holdTtl);
+            restored.add(HeldItem.of(stockHoldRepository.save(new StockHold(userId, productId, quantity, expiresAt))));
+        });
+        if (!restored.isEmpty()) {
+            AfterCommit.run(() -> restored.forEach(this::remember));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.wheel.tick-ms:1000}")
+    public void releaseExpiredHolds() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < due.size(); from += releaseBatchSize) {
+            List<Long> batch = due.subList(from, Math.min(due.size(), from + releaseBatchSize));
+            try {
+                releaseBatch(batch);
+            } catch (RuntimeException ex) {
+                log.warn("Could not release {} expired stock holds, retrying on next tick", batch.size(), ex);
+                long retryAt = System.currentTimeMillis() + tickMillis;
+                for (Long holdId : batch) {
+                    if (holdsById.containsKey(holdId)) {
+                        wheel.schedule(holdId, retryAt);
+                    }
+                }
+            }
+        }
+    }
+
+    public int activeHolds() {
+        return holdsById.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cart.holds.active", holdsById, Map::size)
+                .register(registry);
+        FunctionCounter.builder("cart.holds.expired", expired, LongAdder::sum)
+                .register(registry);
+    }
+
+    int releaseBatch(List<Long> holdIds) {
+        List<Long> released = new ArrayList<>(holdIds.size());
+        List<HeldItem> extended = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, Integer> releasedStock = new HashMap<>();
+            for (StockHold hold : stockHoldRepository.findAllById(holdIds)) {
+                if (stockHoldRepository.deleteExpiredHold(hold.getId(), now) == 1) {
+                    releasedStock.merge(hold.getProductId(), hold.getQuantity(), Integer::sum);
+                    released.add(hold.getId());
+                } else {
+                    extended.add(HeldItem.of(hold));
+                }
+            }
+            releasedStock.forEach(this::releaseStock);
+        });
+
+        for (Long holdId : holdIds) {
+            forget(holdId);
+        }
+        extended.forEach(this::remember);
+        expired.add(released.size());
+        return released.size();
+    }
+
+    private boolean reserveStock(Long productId, int quantity) {
+        if (inventorySequencer.isEnabled()) {
+            return inventorySequencer.reserve(Map.of(productId, quantity)).isReserved();
+        }
+        if (productRepository.reserveStock(productId, quantity) != 1) {
+            return false;
+        }
+        publishStockLevel(productId);
+        return true;
+    }
+
+    private void releaseStock(Long productId, int quantity) {
+        if (inventorySequencer.isEnabled()) {
+            AfterCommit.run(() -> inventorySequencer.release(Map.of(productId, quantity)));
+        } else {
+            productRepository.releaseStock(productId, quantity);
+            publishStockLevel(productId);
+        }
+    }
+
+    private void publishStockLevel(Long productId) {
+        productRepository.findQuantityById(productId).ifPresent(quantity ->
+                eventPublisher.publishEvent(new StockLevelsChangedEvent(Map.of(productId, quantity))));
+    }
+
+    private void remember(HeldItem held) {
+        HeldItem previous = holdsById.put(held.holdId(), held);
+        if (previous != null && previous.userId() != held.userId()) {
+            removeFromUser(previous);
+        }
+        holdsByUser.computeIfAbsent(held.userId(), userId -> new ConcurrentHashMap<>()).put(held.productId(), held);
+        wheel.schedule(held.holdId(), held.expiresAtMillis());
+    }
+
+    private void forget(Long holdId) {
+        HeldItem held = holdsById.remove(holdId);
+        if (held != null) {
+            removeFromUser(held);
+        }
+        wheel.cancel(holdId);
+    }
+
+    private void removeFromUser(HeldItem held) {
+        holdsByUser.computeIfPresent(held.userId(), (userId, items) -> {
+            items.remove(held.productId(), held);
+            return items.isEmpty() ? null : items;
+        });
+    }
+
+    private static CartResponseDto cart(List<StockHold> holds, String message) {
+        CartResponseDto response = new CartResponseDto();
+        response.setItems(holds.stream()
+                .map(hold -> new CartItemDto(hold.getProductId(), hold.getQuantity(), hold.getExpiresAt()))
+                .toList());
+        response.setMessage(message);
+        return response;
+    }
+
+    private record HeldItem(long holdId, long userId, long productId, int quantity, LocalDateTime expiresAt) {
+
+        private static HeldItem of(StockHold hold) {
+            return new HeldItem(hold.getId(), hold.getUserId(), hold.getProductId(), hold.getQuantity(),
+                    hold.getExpiresAt());
+        }
+
+        private long expiresAtMillis() {
+            return expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        private CartItemDto toDto() {
+            return new CartItemDto(productId, quantity, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Component
+public class CredentialCache implements MeterBinder {
+
+    private final Function<String, Credentials> loader;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Autowired
+    public CredentialCache(JdbcTemplate jdbcTemplate,
+                           @Value("${app.auth.credential-cache.max-size:10000}") int maxSize,
+                           @Value("${app.auth.credential-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(username -> query(jdbcTemplate, username), maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    CredentialCache(Function<String, Credentials> loader, int maxSize, Duration ttl) {
+        this.loader = loader;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<Credentials> get(String username) {
+        while (true) {
+            Slot slot = slots.get(username);
+            if (slot != null) {
+                if (System.nanoTime() - slot.loadedAt() < ttlNanos) {
+                    if (slot.credentials().isDone()) {
+                        hits.increment();
+                    } else {
+                        coalesced.increment();
+                    }
+                    return Optional.ofNullable(await(slot.credentials()));
+                }
+                slots.remove(username, slot);
+                continue;
+            }
+            Slot created = new Slot(new CompletableFuture<>(), System.nanoTime());
+            if (slots.putIfAbsent(username, created) == null) {
+                return Optional.ofNullable(load(username, created));
+            }
+        }
+    }
+
+    public void invalidate(String username) {
+        invalidations.incrementAndGet();
+        if (username != null) {
+            slots.remove(username);
+        }
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    private Credentials load(String username, Slot slot) {
+        long generation = invalidations.get();
+        loads.increment();
+        Credentials credentials;
+        try {
+            credentials = loader.apply(username);
+        } catch (RuntimeException ex) {
+            slots.remove(username, slot);
+            slot.credentials().completeExceptionally(ex);
+            throw ex;
+        }
+        slot.credentials().complete(credentials);
+        if (invalidations.get() != generation) {
+            slots.remove(username, slot);
+        } else if (slots.size() > maxSize) {
+            evict();
+        }
+        return credentials;
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        slots.values().removeIf(slot -> now - slot.loadedAt() >= ttlNanos);
+        Iterator<Slot> iterator = slots.values().iterator();
+        while (slots.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static Credentials await(CompletableFuture<Credentials> credentials) {
+        try {
+            return credentials.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Credentials query(JdbcTemplate jdbcTemplate, String username) {
+        return jdbcTemplate.query("select u.id, u.password, r.roles from users u "
+                        + "left join user_roles r on r.user_id = u.id where u.username = ? order by u.id",
+                (ResultSetExtractor<Credentials>) rs -> {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    long userId = rs.getLong(1);
+                    String passwordHash = rs.getString(2);
+                    int roleMask = 0;
+                    do {
+                        if (rs.getLong(1) == userId && rs.getString(3) != null) {
+                            roleMask |= 1 << Role.valueOf(rs.getString(3)).ordinal();
+                        }
+                    } while (rs.next());
+                    return new Credentials(userId, username, passwordHash, roleMask);
+                }, username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.credential-cache.size", this, CredentialCache::size)
+                .register(registry);
+        FunctionCounter.builder("auth.credential-cache.hits", this, CredentialCache::getHits)
+                .register(registry);
+        FunctionCounter.builder("auth.credential-cache.loads", this, CredentialCache::getLoads)
+                .register(registry);
+        FunctionCounter.builder("auth.credential-cache.coalesced", this, CredentialCache::getCoalesced)
+                .register(registry);
+    }
+
+    public record Credentials(long userId, String username, String passwordHash, int roleMask) {
+
+        public Set<Role> roles() {
+            Set<Role> roles = EnumSet.noneOf(Role.class);
+            for (Role role : Role.values()) {
+                if ((roleMask & (1 << role.ordinal())) != 0) {
+                    roles.add(role);
+                }
+            }
+            return roles;
+        }
+
+        public User toSessionUser() {
+            User user = new User();
+            user.setId(userId);
+            user.setUsername(username);
+            user.getRoles().addAll(roles());
+            return user;
+        }
+    }
+
+    private record Slot(CompletableFuture<Credentials> credentials, long loadedAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CredentialCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CredentialCache credentialCache;
+
+    public CredentialCacheInvalidator(EntityManagerFactory entityManagerFactory, CredentialCache credentialCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.credentialCache = credentialCache;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+        if (event.getEntity() instanceof User && event.getOldState() != null) {
+            Object oldUsername = event.getOldState()[event.getPersister().getPropertyIndex("username")];
+            if (oldUsername instanceof String username) {
+                credentialCache.invalidate(username);
+                AfterCommit.run(() -> credentialCache.invalidate(username));
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        invalidate(event.getAffectedOwnerOrNull());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        invalidate(event.getAffectedOwnerOrNull());
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        invalidate(event.getAffectedOwnerOrNull());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    void invalidate(Object entity) {
+        if (entity instanceof User user) {
+            String username = user.getUsername();
+            credentialCache.invalidate(username);
+            AfterCommit.run(() -> credentialCache.invalidate(username));
+        }
+    }
+}
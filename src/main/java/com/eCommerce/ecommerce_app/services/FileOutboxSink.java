@@ -0,0 +1,50 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) throws IOException {
+        lock.lock();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE))) {
+                for (OutboxEvent event : events) {
+                    String envelope = "{\"id\":" + event.getId()
+                            + ",\"type\":\"" + event.getEventType()
+                            + "\",\"aggregateId\":" + event.getAggregateId()
+                            + ",\"createdAt\":\"" + event.getCreatedAt()
+                            + "\",\"payload\":";
+                    out.write(envelope.getBytes(StandardCharsets.UTF_8));
+                    out.write(event.getPayload());
+                    out.write('}');
+                    out.write('\n');
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.eCommerce.ecommerce_app.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+final class HoldTimingWheel {
+
+    private final long tickMillis;
+    private final List<List<Entry>> slots;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long currentTick;
+
+    HoldTimingWheel(long tickMillis, int slotCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    synchronized void schedule(long holdId, long deadlineMillis) {
+        Entry previous = entries.remove(holdId);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Entry entry = new Entry(holdId, deadlineTick);
+        slots.get(slotOf(deadlineTick)).add(entry);
+        entries.put(holdId, entry);
+    }
+
+    synchronized boolean cancel(long holdId) {
+        Entry entry = entries.remove(holdId);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    synchronized List<Long> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick <= currentTick) {
+            return List.of();
+        }
+
+        List<Long> expired = new ArrayList<>();
+        long steps = Math.min(nowTick - currentTick, slots.size());
+        for (long step = 1; step <= steps; step++) {
+            Iterator<Entry> slot = slots.get(slotOf(currentTick + step)).iterator();
+            while (slot.hasNext()) {
+                Entry entry = slot.next();
+                if (entry.cancelled) {
+                    slot.remove();
+                } else if (entry.deadlineTick <= nowTick) {
+                    slot.remove();
+                    entries.remove(entry.holdId);
+                    expired.add(entry.holdId);
+                }
+            }
+        }
+        currentTick = nowTick;
+        return expired;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private int slotOf(long tick) {
+        return (int) (tick % slots.size());
+    }
+
+    private static final class Entry {
+        private final long holdId;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Entry(long holdId, long deadlineTick) {
+            this.holdId = holdId;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LogOutboxSink.class);
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("{} {} {}", event.getEventType(), event.getAggregateId(),
+                    new String(event.getPayload(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.analytics.FactAggregate;
+import com.eCommerce.ecommerce_app.analytics.FactGroupBy;
+import com.eCommerce.ecommerce_app.analytics.FactQuery;
+import com.eCommerce.ecommerce_app.analytics.OrderFactStore;
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.responses.OrderLineAggregateDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Lazy
+public class OrderAnalyticsService {
+
+    private final OrderFactStore orderFactStore;
+    private final int maxGroups;
+    private static final Logger log = LoggerFactory.getLogger(OrderAnalyticsService.class);
+
+    public OrderAnalyticsService(OrderFactStore orderFactStore,
+                                 @Value("${app.analytics.max-groups:1000}") int maxGroups) {
+        this.orderFactStore = orderFactStore;
+        this.maxGroups = maxGroups;
+    }
+
+    public List<OrderLineAggregateDto> aggregate(LocalDate from, LocalDate to, FactGroupBy groupBy, Long productId,
+                                                 String country, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, maxGroups));
+        List<FactAggregate> aggregates = orderFactStore.aggregate(
+                new FactQuery(from, to, productId, country, groupBy, boundedLimit));
+        List<OrderLineAggregateDto> result = new ArrayList<>(aggregates.size());
+        for (FactAggregate aggregate : aggregates) {
+            result.add(new OrderLineAggregateDto(aggregate.key(), aggregate.units(),
+                    Money.ofMinor(aggregate.netMinor()).toBigDecimal(),
+                    Money.ofMinor(aggregate.grossMinor()).toBigDecimal(), aggregate.lines()));
+        }
+        return result;
+    }
+
+    public long rebuild() {
+        try {
+            return orderFactStore.rebuild();
+        } catch (IOException ex) {
+            log.error("Error while rebuilding order analytics", ex);
+            throw new RuntimeException("An error occurred while rebuilding order analytics.");
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class OrderDetailsCache implements MeterBinder {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Slot> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger staleSlots = new AtomicInteger();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OrderDetailsCache(ObjectMapper objectMapper,
+                             @Value("${app.orders.details-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    public RenderedOrderDetails render(OrderDetailsResponseDto dto, Integer version) {
+        try {
+            return new RenderedOrderDetails(dto.getOrderId(), dto.getCustomer().getId(), version,
+                    objectMapper.writeValueAsBytes(dto));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize details of order " + dto.getOrderId(), ex);
+        }
+    }
+
+    public RenderedOrderDetails get(Long orderId) {
+        Entry cached = entries.get(orderId);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached.rendered();
+    }
+
+    public void put(RenderedOrderDetails rendered) {
+        long weight = weight(rendered);
+        if (weight > maxBytes) {
+            return;
+        }
+        Entry[] replaced = new Entry[1];
+        Entry stored = entries.compute(rendered.getOrderId(), (orderId, previous) -> {
+            replaced[0] = previous;
+            return new Entry(rendered, previous == null ? sequence.incrementAndGet() : previous.sequence());
+        });
+        if (replaced[0] == null) {
+            insertionOrder.offer(new Slot(rendered.getOrderId(), stored.sequence()));
+            usedBytes.addAndGet(weight);
+        } else {
+            usedBytes.addAndGet(weight - weight(replaced[0].rendered()));
+        }
+        evictOverBudget();
+    }
+
+    public void invalidate(Long orderId) {
+        Entry removed = entries.remove(orderId);
+        if (removed != null) {
+            usedBytes.addAndGet(-weight(removed.rendered()));
+            if (staleSlots.incrementAndGet() > entries.size()) {
+                discardStaleSlots();
+            }
+        }
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    int queuedSlots() {
+        return insertionOrder.size();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.details.cache.size.bytes", usedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("orders.details.cache.max.bytes", () -> maxBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("orders.details.cache.entries", entries, Map::size)
+                .register(registry);
+        Gauge.builder("orders.details.cache.hit.ratio", this, OrderDetailsCache::hitRatio)
+                .register(registry);
+        FunctionCounter.builder("orders.details.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("orders.details.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("orders.details.cache.evictions", evictions, LongAdder::sum)
+                .register(registry);
+    }
+
+    private void evictOverBudget() {
+        while (usedBytes.get() > maxBytes) {
+            Slot eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            Entry live = entries.get(eldest.orderId());
+            if (live != null && live.sequence() == eldest.sequence() && entries.remove(eldest.orderId(), live)) {
+                usedBytes.addAndGet(-weight(live.rendered()));
+                evictions.increment();
+            } else {
+                staleSlots.decrementAndGet();
+            }
+        }
+    }
+
+    private void discardStaleSlots() {
+        insertionOrder.removeIf(slot -> {
+            Entry live = entries.get(slot.orderId());
+            return live == null || live.sequence() != slot.sequence();
+        });
+        staleSlots.set(0);
+    }
+
+    private static long weight(RenderedOrderDetails rendered) {
+        return rendered.getBody().length + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private record Entry(RenderedOrderDetails rendered, long sequence) {
+    }
+
+    private record Slot(Long orderId, long sequence) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+final class OrderDetailsMapper {
+
+    private OrderDetailsMapper() {
+    }
+
+    static OrderDetailsResponseDto toDto(Order order) {
+        OrderDetailsResponseDto dto = new OrderDetailsResponseDto();
+
+        dto.setOrderId(order.getId());
+
+        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
+        User user = order.getUser();
+
+        customer.setId(user.getId());
+        customer.setUsername(user.getUsername());
+        customer.setEmail(user.getEmail());
+        customer.setFirstName(user.getFirstName());
+        customer.setLastName(user.getLastName());
+        customer.setPhoneNumber(user.getPhoneNumber());
+        customer.setCountry(user.getCountry());
+        customer.setCity(user.getCity());
+        customer.setStreet(user.getStreet());
+        customer.setPostalCode(user.getPostalCode());
+
+        dto.setCustomer(customer);
+
+        List<OrderDetailsResponseDto.OrderItemInfoDto> items = order.getOrderItems()
+                .stream()
+                .map(item -> {
+                    OrderDetailsResponseDto.OrderItemInfoDto itemDto = new OrderDetailsResponseDto.OrderItemInfoDto();
+                    itemDto.setProductId(item.getProductId() != null ? item.getProductId() : item.getProduct().getId());
+                    itemDto.setProductName(item.getProductName() != null ? item.getProductName() : item.getProduct().getName());
+                    itemDto.setQuantity(item.getQuantity());
+                    itemDto.setNetPrice(item.getNetPrice().toBigDecimal());
+                    itemDto.setGrossPrice(item.getGrossPrice().toBigDecimal());
+                    return itemDto;
+                })
+                .collect(Collectors.toList());
+
+        dto.setItems(items);
+
+        dto.setTotalNet(order.getTotalNetValue().toBigDecimal());
+        dto.setTotalGross(order.getTotalGrossValue().toBigDecimal());
+
+        return dto;
+    }
+}
@@ -0,0 +1,24 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+import com.eCommerce.ecommerce_app.respositories.OutboxEventRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+public class OrderEventOutbox {
+
+    public static final String ORDER_PLACED = "OrderPlaced";
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OrderEventOutbox(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    public void orderPlaced(RenderedOrderDetails rendered) {
+        outboxEventRepository.save(new OutboxEvent(ORDER_PLACED, rendered.getOrderId(), rendered.getBody(),
+                LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.eCommerce.ecommerce_app.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+record OrderExportRow(long orderId, LocalDateTime orderDate, long userId, BigDecimal orderTotalNet,
+                      BigDecimal orderTotalGross, long itemId, long productId, String productName, int quantity,
+                      BigDecimal unitNetPrice, BigDecimal unitGrossPrice, BigDecimal vat, BigDecimal netPrice,
+                      BigDecimal grossPrice) {
+}
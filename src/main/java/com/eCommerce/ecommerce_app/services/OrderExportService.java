@@ -0,0 +1,112 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@Lazy
+public class OrderExportService {
+
+    private static final String SELECT_SQL = "select o.id, o.order_date, o.user_id, o.total_net_value, o.total_gross_value, "
+            + "oi.id, oi.product_id, oi.product_name, oi.quantity, oi.unit_net_price, oi.unit_gross_price, oi.vat, "
+            + "oi.net_price, oi.gross_price from orders o join order_items oi on oi.order_id = o.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private static final Logger log = LoggerFactory.getLogger(OrderExportService.class);
+
+    public OrderExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                              @Value("${app.export.orders.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public long export(LocalDate from, LocalDate to, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, 64 * 1024) : null;
+        long rows;
+        try (OrderExportWriter writer = OrderExportWriter.of(format, compressed != null ? compressed : out,
+                objectMapper.getFactory())) {
+            rows = stream(from, to, writer);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (compressed != null) {
+            compressed.finish();
+        }
+        out.flush();
+        log.info("Exported {} order lines as {} in {} ms", rows, format, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long stream(LocalDate from, LocalDate to, OrderExportWriter writer) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Timestamp> args = new ArrayList<>(2);
+        if (from != null) {
+            sql.append(args.isEmpty() ? " where" : " and").append(" o.order_date >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(args.isEmpty() ? " where" : " and").append(" o.order_date < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        sql.append(" order by o.id, oi.id");
+
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            lazyQueryExecution(connection, true);
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setTimestamp(i + 1, args.get(i));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    long written = 0;
+                    while (rs.next()) {
+                        writer.write(new OrderExportRow(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime(),
+                                rs.getLong(3), rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getLong(6),
+                                rs.getLong(7), rs.getString(8), rs.getInt(9), rs.getBigDecimal(10),
+                                rs.getBigDecimal(11), rs.getBigDecimal(12), rs.getBigDecimal(13),
+                                rs.getBigDecimal(14)));
+                        written++;
+                    }
+                    return written;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                lazyQueryExecution(connection, false);
+            }
+        });
+        return rows == null ? 0L : rows;
+    }
+
+    private static void lazyQueryExecution(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("set lazy_query_execution " + enabled);
+        }
+    }
+}
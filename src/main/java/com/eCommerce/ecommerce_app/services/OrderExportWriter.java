@@ -0,0 +1,174 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+abstract class OrderExportWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static OrderExportWriter of(ExportFormat format, OutputStream out, JsonFactory jsonFactory) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return format == ExportFormat.CSV ? new Csv(writer) : new Ndjson(writer, jsonFactory);
+    }
+
+    abstract void write(OrderExportRow row) throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    private static final class Csv extends OrderExportWriter {
+
+        private final Writer writer;
+
+        private Csv(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write("order_id,order_date,user_id,order_total_net,order_total_gross,item_id,product_id,"
+                    + "product_name,quantity,unit_net_price,unit_gross_price,vat,net_price,gross_price\n");
+        }
+
+        @Override
+        void write(OrderExportRow row) throws IOException {
+            writer.write(Long.toString(row.orderId()));
+            writer.write(',');
+            writer.write(row.orderDate().toString());
+            writer.write(',');
+            writer.write(Long.toString(row.userId()));
+            writer.write(',');
+            writeDecimal(row.orderTotalNet());
+            writer.write(',');
+            writeDecimal(row.orderTotalGross());
+            writer.write(',');
+            writer.write(Long.toString(row.itemId()));
+            writer.write(',');
+            writer.write(Long.toString(row.productId()));
+            writer.write(',');
+            writeText(row.productName());
+            writer.write(',');
+            writer.write(Integer.toString(row.quantity()));
+            writer.write(',');
+            writeDecimal(row.unitNetPrice());
+            writer.write(',');
+            writeDecimal(row.unitGrossPrice());
+            writer.write(',');
+            writeDecimal(row.vat());
+            writer.write(',');
+            writeDecimal(row.netPrice());
+            writer.write(',');
+            writeDecimal(row.grossPrice());
+            writer.write('\n');
+        }
+
+        private void writeDecimal(BigDecimal value) throws IOException {
+            if (value != null) {
+                writer.write(value.toPlainString());
+            }
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (startsFormula(value)) {
+                writer.write("\"'");
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static boolean startsFormula(String value) {
+            if (value.isEmpty()) {
+                return false;
+            }
+            char first = value.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class Ndjson extends OrderExportWriter {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+        private long openOrderId = -1L;
+
+        private Ndjson(Writer writer, JsonFactory jsonFactory) throws IOException {
+            this.writer = writer;
+            this.generator = jsonFactory.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(OrderExportRow row) throws IOException {
+            if (row.orderId() != openOrderId) {
+                finishOrder();
+                openOrderId = row.orderId();
+                generator.writeStartObject();
+                generator.writeNumberField("orderId", row.orderId());
+                generator.writeStringField("orderDate", row.orderDate().toString());
+                generator.writeNumberField("userId", row.userId());
+                writeDecimal("totalNet", row.orderTotalNet());
+                writeDecimal("totalGross", row.orderTotalGross());
+                generator.writeArrayFieldStart("items");
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("itemId", row.itemId());
+            generator.writeNumberField("productId", row.productId());
+            generator.writeStringField("productName", row.productName());
+            generator.writeNumberField("quantity", row.quantity());
+            writeDecimal("unitNetPrice", row.unitNetPrice());
+            writeDecimal("unitGrossPrice", row.unitGrossPrice());
+            writeDecimal("vat", row.vat());
+            writeDecimal("netPrice", row.netPrice());
+            writeDecimal("grossPrice", row.grossPrice());
+            generator.writeEndObject();
+        }
+
+        private void writeDecimal(String field, BigDecimal value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+
+        private void finishOrder() throws IOException {
+            if (openOrderId >= 0) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.flush();
+                writer.write('\n');
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finishOrder();
+            generator.close();
+            writer.flush();
+        }
+    }
+}
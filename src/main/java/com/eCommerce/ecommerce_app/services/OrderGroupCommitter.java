@@ -0,0 +1,235 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.exceptions.InsufficientStockException;
+import com.eCommerce.ecommerce_app.exceptions.ProductNotFoundException;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
+import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class OrderGroupCommitter implements MeterBinder {
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+    private final BlockingQueue<QueuedOrder> queue = new LinkedBlockingQueue<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder committed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+    private volatile boolean running;
+    private Thread worker;
+    private static final Logger log = LoggerFactory.getLogger(OrderGroupCommitter.class);
+
+    public OrderGroupCommitter(OrderService orderService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.orders.group-commit.enabled:false}") boolean enabled,
+                               @Value("${app.orders.group-commit.window-micros:2000}") long windowMicros,
+                               @Value("${app.orders.group-commit.max-batch-size:64}") int maxBatchSize,
+                               @Value("${app.orders.group-commit.timeout-ms:10000}") long timeoutMillis) {
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drain, "order-group-commit");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PlaceOrderResponseDto submit(User user, PlaceOrderRequestDto dto) {
+        if (!running) {
+            return orderService.placeOrder(user, dto);
+        }
+        QueuedOrder queued = new QueuedOrder(user, dto, new CompletableFuture<>(), new AtomicBoolean());
+        queue.add(queued);
+        try {
+            try {
+                return queued.result().get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                if (queued.taken().compareAndSet(false, true)) {
+                    queue.remove(queued);
+                    abandoned.increment();
+                    throw new IllegalStateException("Timed out waiting for order placement, the order was not placed", ex);
+                }
+                return queued.result().get();
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Order placement failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for order placement", ex);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.group-commit.queue", queue, BlockingQueue::size)
+                .register(registry);
+        FunctionCounter.builder("orders.group-commit.batches", batches, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("orders.group-commit.orders", committed, LongAdder::sum)
+                .tag("result", "committed")
+                .register(registry);
+        FunctionCounter.builder("orders.group-commit.orders", rejected, LongAdder::sum)
+                .tag("result", "rejected")
+                .register(registry);
+        FunctionCounter.builder("orders.group-commit.orders", abandoned, LongAdder::sum)
+                .tag("result", "timed-out")
+                .register(registry);
+    }
+
+    void commit(List<QueuedOrder> queuedOrders) {
+        List<QueuedOrder> batch = queuedOrders.stream()
+                .filter(queued -> queued.taken().compareAndSet(false, true))
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<QueuedOrder> accepted = new ArrayList<>(batch.size());
+        List<PlaceOrderResponseDto> responses;
+        try {
+            responses = transactionTemplate.execute(status -> {
+                accepted.clear();
+                Set<Long> productIds = new HashSet<>();
+                for (QueuedOrder queued : batch) {
+                    for (OrderItemRequestDto item : queued.dto().getItems()) {
+                        productIds.add(item.getProductId());
+                    }
+                }
+
+                Map<Long, Product> products = orderService.loadProducts(productIds);
+                List<Order> orders = new ArrayList<>(batch.size());
+                for (QueuedOrder queued : batch) {
+                    try {
+                        orders.add(orderService.prepareOrder(queued.user(), queued.dto(), products));
+                        accepted.add(queued);
+                    } catch (ProductNotFoundException | InsufficientStockException ex) {
+                        rejected.increment();
+                        queued.result().completeExceptionally(ex);
+                    }
+                }
+                return orderService.saveOrders(orders);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} orders failed, placing them one by one", batch.size(), ex);
+            for (QueuedOrder queued : batch) {
+                if (!queued.result().isDone()) {
+                    placeAlone(queued);
+                }
+            }
+            return;
+        }
+
+        batches.increment();
+        committed.add(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).result().complete(responses.get(i));
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            List<QueuedOrder> batch = new ArrayList<>(maxBatchSize);
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    QueuedOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                for (QueuedOrder queued : batch) {
+                    if (queued.taken().compareAndSet(false, true)) {
+                        placeAlone(queued);
+                    }
+                }
+                return;
+            }
+
+            try {
+                commit(batch);
+            } catch (RuntimeException ex) {
+                log.error("Unexpected error in order group commit", ex);
+            } finally {
+                for (QueuedOrder queued : batch) {
+                    queued.result().completeExceptionally(new IllegalStateException("Order group commit failed"));
+                }
+            }
+        }
+    }
+
+    private void placeAlone(QueuedOrder queued) {
+        try {
+            queued.result().complete(orderService.placeOrder(queued.user(), queued.dto()));
+            committed.increment();
+        } catch (RuntimeException ex) {
+            queued.result().completeExceptionally(ex);
+        }
+    }
+
+    record QueuedOrder(User user, PlaceOrderRequestDto dto, CompletableFuture<PlaceOrderResponseDto> result,
+                       AtomicBoolean taken) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.eCommerce.ecommerce_app.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class OrderItemSnapshotBackfill {
+
+    private static final String SELECT_CHUNK =
+            "SELECT id FROM order_items WHERE product_name IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_CHUNK =
+            "UPDATE order_items oi SET " +
+                    "product_name = (SELECT p.name FROM products p WHERE p.id = oi.product_id), " +
+                    "vat = (SELECT p.vat FROM products p WHERE p.id = oi.product_id), " +
+                    "unit_net_price = ROUND(oi.net_price / oi.quantity, 2), " +
+                    "unit_gross_price = ROUND(oi.gross_price / oi.quantity, 2) " +
+                    "WHERE oi.id BETWEEN ? AND ? AND oi.product_name IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private static final Logger log = LoggerFactory.getLogger(OrderItemSnapshotBackfill.class);
+
+    public OrderItemSnapshotBackfill(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.orders.snapshot-backfill.enabled:true}") boolean enabled,
+                                     @Value("${app.orders.snapshot-backfill.chunk-size:1000}") int chunkSize,
+                                     @Value("${app.orders.snapshot-backfill.pause-millis:50}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::backfill, "order-item-snapshot-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public int backfill() {
+        long lastId = 0L;
+        int updated = 0;
+        try {
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(SELECT_CHUNK, Long.class, lastId, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long firstId = ids.get(0);
+                lastId = ids.get(ids.size() - 1);
+                updated += jdbcTemplate.update(UPDATE_CHUNK, firstId, lastId);
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+            if (updated > 0) {
+                log.info("Backfilled product snapshots for {} order items", updated);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Order item snapshot backfill interrupted after {} rows", updated);
+        } catch (RuntimeException ex) {
+            log.error("Order item snapshot backfill failed after {} rows", updated, ex);
+        }
+        return updated;
+    }
+}
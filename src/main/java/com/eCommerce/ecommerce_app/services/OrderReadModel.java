@@ -0,0 +1,131 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderDocument;
+import com.eCommerce.ecommerce_app.respositories.OrderDocumentRepository;
+import com.eCommerce.ecommerce_app.respositories.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+public class OrderReadModel {
+
+    private final OrderDocumentRepository orderDocumentRepository;
+    private final OrderRepository orderRepository;
+    private final OrderDetailsCache orderDetailsCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildChunkSize;
+    private final int rebuildThreads;
+    private static final Logger log = LoggerFactory.getLogger(OrderReadModel.class);
+
+    public OrderReadModel(OrderDocumentRepository orderDocumentRepository,
+                          OrderRepository orderRepository,
+                          OrderDetailsCache orderDetailsCache,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.orders.read-model.rebuild-chunk-size:500}") int rebuildChunkSize,
+                          @Value("${app.orders.read-model.rebuild-threads:4}") int rebuildThreads) {
+        this.orderDocumentRepository = orderDocumentRepository;
+        this.orderRepository = orderRepository;
+        this.orderDetailsCache = orderDetailsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.rebuildThreads = rebuildThreads;
+    }
+
+    public RenderedOrderDetails record(Order order) {
+        RenderedOrderDetails rendered = orderDetailsCache.render(OrderDetailsMapper.toDto(order), order.getVersion());
+        orderDocumentRepository.save(toDocument(rendered));
+        AfterCommit.run(() -> orderDetailsCache.put(rendered));
+        return rendered;
+    }
+
+    public RenderedOrderDetails backfill(Order order) {
+        RenderedOrderDetails rendered = orderDetailsCache.render(OrderDetailsMapper.toDto(order), order.getVersion());
+        try {
+            orderDocumentRepository.save(toDocument(rendered));
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Order document {} was written concurrently", order.getId());
+        }
+        orderDetailsCache.put(rendered);
+        return rendered;
+    }
+
+    public RenderedOrderDetails find(Long orderId) {
+        RenderedOrderDetails cached = orderDetailsCache.get(orderId);
+        if (cached != null) {
+            return cached;
+        }
+        return orderDocumentRepository.findById(orderId)
+                .map(document -> {
+                    RenderedOrderDetails rendered = new RenderedOrderDetails(document.getOrderId(),
+                            document.getOwnerId(), document.getOrderVersion(), document.getDocument());
+                    orderDetailsCache.put(rendered);
+                    return rendered;
+                })
+                .orElse(null);
+    }
+
+    public int rebuild() {
+        Long minId = orderRepository.findMinId();
+        Long maxId = orderRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long fromId = minId; fromId <= maxId; fromId += rebuildChunkSize) {
+                long from = fromId;
+                long to = Math.min(maxId, fromId + rebuildChunkSize - 1);
+                chunks.add(executor.submit(() -> rebuildChunk(from, to)));
+            }
+
+            int rebuilt = 0;
+            for (Future<Integer> chunk : chunks) {
+                rebuilt += chunk.get();
+            }
+            log.info("Rebuilt {} order documents", rebuilt);
+            return rebuilt;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Order document rebuild interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Order document rebuild failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildChunk(long fromId, long toId) {
+        Integer rebuilt = transactionTemplate.execute(status -> {
+            List<Order> orders = orderRepository.findWithItemsByIdRange(fromId, toId);
+            orderDocumentRepository.deleteByOrderIdRange(fromId, toId);
+            orderDocumentRepository.flush();
+            List<OrderDocument> documents = new ArrayList<>(orders.size());
+            for (Order order : orders) {
+                documents.add(toDocument(orderDetailsCache.render(OrderDetailsMapper.toDto(order), order.getVersion())));
+                orderDetailsCache.invalidate(order.getId());
+            }
+            orderDocumentRepository.saveAll(documents);
+            return documents.size();
+        });
+        return rebuilt == null ? 0 : rebuilt;
+    }
+
+    private static OrderDocument toDocument(RenderedOrderDetails rendered) {
+        return new OrderDocument(rendered.getOrderId(), rendered.getOwnerId(), rendered.getVersion(), rendered.getBody());
+    }
+}
@@ -1,5 +1,6 @@
 package com.eCommerce.ecommerce_app.services;
 
+import com.eCommerce.ecommerce_app.analytics.OrderFactStore;
 import com.eCommerce.ecommerce_app.entities.Order;
 import com.eCommerce.ecommerce_app.entities.OrderItem;
 import com.eCommerce.ecommerce_app.entities.Product;
@@ -7,142 +8,257 @@ import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.exceptions.InsufficientStockException;
 import com.eCommerce.ecommerce_app.exceptions.OrderNotFoundException;
 import com.eCommerce.ecommerce_app.exceptions.ProductNotFoundException;
+import com.eCommerce.ecommerce_app.inventory.InventorySequencer;
+import com.eCommerce.ecommerce_app.inventory.ReservationResult;
+import com.eCommerce.ecommerce_app.inventory.StockLevelsChangedEvent;
+import com.eCommerce.ecommerce_app.money.Money;
 import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
 import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
 import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
 import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
 import com.eCommerce.ecommerce_app.respositories.OrderRepository;
 import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.UserRepository;
+import com.eCommerce.ecommerce_app.trending.TrendingProducts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class OrderService {
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final OrderReadModel orderReadModel;
+    private final OrderEventOutbox orderEventOutbox;
+    private final SalesReportService salesReportService;
+    private final TrendingProducts trendingProducts;
+    private final OrderFactStore orderFactStore;
+    private final CartService cartService;
+    private final InventorySequencer inventorySequencer;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
 
-    public OrderService(ProductRepository productRepository, OrderRepository orderRepository) {
+    public OrderService(ProductRepository productRepository, OrderRepository orderRepository,
+                        UserRepository userRepository, OrderReadModel orderReadModel,
+                        OrderEventOutbox orderEventOutbox, SalesReportService salesReportService,
+                        TrendingProducts trendingProducts, OrderFactStore orderFactStore, CartService cartService, InventorySequencer inventorySequencer,
+                        ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.orderReadModel = orderReadModel;
+        this.orderEventOutbox = orderEventOutbox;
+        this.salesReportService = salesReportService;
+        this.trendingProducts = trendingProducts;
+        this.orderFactStore = orderFactStore;
+        this.cartService = cartService;
+        this.inventorySequencer = inventorySequencer;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public PlaceOrderResponseDto placeOrder(User user, PlaceOrderRequestDto dto) {
         try {
-            List<OrderItem> orderItems = new ArrayList<>();
-            BigDecimal totalNet = BigDecimal.ZERO;
-            BigDecimal totalGross = BigDecimal.ZERO;
-            List<String> summaries = new ArrayList<>();
-
+            Map<Long, Product> products = new HashMap<>();
             for (OrderItemRequestDto itemDto : dto.getItems()) {
-                Product product = productRepository.findById(itemDto.getProductId())
-                        .orElseThrow(() -> new ProductNotFoundException("Product ID not found: " + itemDto.getProductId()));
-
-                if (product.getQuantity() < itemDto.getQuantity()) {
-                    throw new InsufficientStockException("Not enough stock for product: " + product.getName());
+                if (!products.containsKey(itemDto.getProductId())) {
+                    Product product = productRepository.findById(itemDto.getProductId())
+                            .orElseThrow(() -> new ProductNotFoundException("Product ID not found: " + itemDto.getProductId()));
+                    products.put(product.getId(), product);
                 }
+            }
 
-                product.setQuantity(product.getQuantity() - itemDto.getQuantity());
-                productRepository.save(product);
+            Order saved = orderRepository.save(prepareOrder(user, dto, products));
+            return publish(saved);
+        } catch (ProductNotFoundException | InsufficientStockException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Error while placing order", ex);
+            throw new RuntimeException("An unexpected error occurred while placing the order.");
+        }
+    }
 
-                BigDecimal net = product.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
-                BigDecimal gross = product.getPriceGorss().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
+    public Map<Long, Product> loadProducts(Collection<Long> productIds) {
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            products.put(product.getId(), product);
+        }
+        return products;
+    }
 
-                OrderItem orderItem = new OrderItem();
-                orderItem.setProduct(product);
-                orderItem.setQuantity(itemDto.getQuantity());
-                orderItem.setNetPrice(net);
-                orderItem.setGrossPrice(gross);
-                orderItems.add(orderItem);
+    public Order prepareOrder(User user, PlaceOrderRequestDto dto, Map<Long, Product> products) {
+        List<Long> productIds = new ArrayList<>(dto.getItems().size());
+        for (OrderItemRequestDto itemDto : dto.getItems()) {
+            if (!products.containsKey(itemDto.getProductId())) {
+                throw new ProductNotFoundException("Product ID not found: " + itemDto.getProductId());
+            }
+            productIds.add(itemDto.getProductId());
+        }
 
-                totalNet = totalNet.add(net);
-                totalGross = totalGross.add(gross);
+        Map<Long, Integer> claimed = cartService.claimHolds(user.getId(), productIds);
+        Map<Long, Integer> unused = new HashMap<>(claimed);
+        Map<Long, Integer> missing = new LinkedHashMap<>();
+        for (OrderItemRequestDto itemDto : dto.getItems()) {
+            int fromHold = Math.min(unused.getOrDefault(itemDto.getProductId(), 0), itemDto.getQuantity());
+            if (fromHold > 0) {
+                unused.merge(itemDto.getProductId(), -fromHold, Integer::sum);
+            }
+            if (itemDto.getQuantity() > fromHold) {
+                missing.merge(itemDto.getProductId(), itemDto.getQuantity() - fromHold, Integer::sum);
+            }
+        }
 
-                summaries.add(product.getName() + " x" + itemDto.getQuantity());
+        try {
+            if (inventorySequencer.isEnabled()) {
+                reserveWithSequencer(unused, missing, products);
+            } else {
+                reserveWithEntities(productIds, unused, missing, products);
             }
+        } catch (InsufficientStockException ex) {
+            cartService.restoreHolds(user.getId(), claimed);
+            throw ex;
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>(dto.getItems().size());
+        long totalNetMinor = 0L;
+        long totalGrossMinor = 0L;
+        Order order = new Order();
+
+        for (OrderItemRequestDto itemDto : dto.getItems()) {
+            Product product = products.get(itemDto.getProductId());
 
-            Order order = new Order();
-            order.setUser(user);
-            order.setOrderDate(LocalDateTime.now());
-            order.setTotalNetValue(totalNet);
-            order.setTotalGrossValue(totalGross);
+            Money unitNet = Money.of(product.getPrice());
+            Money unitGross = Money.of(product.getPriceGorss());
+            Money net = unitNet.times(itemDto.getQuantity());
+            Money gross = unitGross.times(itemDto.getQuantity());
 
-            for (OrderItem item : orderItems) {
-                item.setOrder(order);
+            OrderItem orderItem = new OrderItem();
+            orderItem.setOrder(order);
+            orderItem.setProduct(product);
+            orderItem.setProductId(product.getId());
+            orderItem.setProductName(product.getName());
+            orderItem.setUnitNetPrice(unitNet);
+            orderItem.setUnitGrossPrice(unitGross);
+            orderItem.setVat(product.getVat());
+            orderItem.setQuantity(itemDto.getQuantity());
+            orderItem.setNetPrice(net);
+            orderItem.setGrossPrice(gross);
+            orderItems.add(orderItem);
+
+            totalNetMinor = Math.addExact(totalNetMinor, net.getMinorUnits());
+            totalGrossMinor = Math.addExact(totalGrossMinor, gross.getMinorUnits());
+        }
+
+        order.setUser(userRepository.getReferenceById(user.getId()));
+        order.setOrderDate(LocalDateTime.now());
+        order.setTotalNetValue(Money.ofMinor(totalNetMinor));
+        order.setTotalGrossValue(Money.ofMinor(totalGrossMinor));
+        order.setOrderItems(orderItems);
+        return order;
+    }
+
+    public List<PlaceOrderResponseDto> saveOrders(List<Order> orders) {
+        List<PlaceOrderResponseDto> responses = new ArrayList<>(orders.size());
+        for (Order saved : orderRepository.saveAll(orders)) {
+            responses.add(publish(saved));
+        }
+        return responses;
+    }
+
+    private void reserveWithEntities(List<Long> productIds, Map<Long, Integer> unused, Map<Long, Integer> missing,
+                                     Map<Long, Product> products) {
+        Map<Long, Integer> reserved = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : missing.entrySet()) {
+            if (productRepository.reserveStock(entry.getKey(), entry.getValue()) != 1) {
+                reserved.forEach(productRepository::releaseStock);
+                throw new InsufficientStockException("Not enough stock for product: "
+                        + products.get(entry.getKey()).getName());
             }
+            reserved.put(entry.getKey(), entry.getValue());
+        }
+        unused.forEach((productId, quantity) -> {
+            if (quantity > 0) {
+                productRepository.releaseStock(productId, quantity);
+            }
+        });
 
-            order.setOrderItems(orderItems);
-            Order saved = orderRepository.save(order);
+        Map<Long, Integer> changed = new HashMap<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            if (unused.getOrDefault(productId, 0) > 0 || missing.containsKey(productId)) {
+                productRepository.findQuantityById(productId).ifPresent(quantity -> changed.put(productId, quantity));
+            }
+        }
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new StockLevelsChangedEvent(changed));
+        }
+    }
 
-            PlaceOrderResponseDto response = new PlaceOrderResponseDto();
-            response.setOrderId(saved.getId());
-            response.setTotalNet(totalNet);
-            response.setTotalGross(totalGross);
-            response.setProductSummaries(summaries);
-            response.setMessage("Order placed successfully");
+    private void reserveWithSequencer(Map<Long, Integer> unused, Map<Long, Integer> missing,
+                                      Map<Long, Product> products) {
+        if (!missing.isEmpty()) {
+            ReservationResult reservation = inventorySequencer.reserve(missing);
+            if (!reservation.isReserved()) {
+                throw new InsufficientStockException("Not enough stock for product: "
+                        + products.get(reservation.getShortProductId()).getName());
+            }
+        }
 
-            return response;
-        } catch (ProductNotFoundException | InsufficientStockException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            log.error("Error while placing order", ex);
-            throw new RuntimeException("An unexpected error occurred while placing the order.");
+        Map<Long, Integer> surplus = new HashMap<>();
+        unused.forEach((productId, quantity) -> {
+            if (quantity > 0) {
+                surplus.put(productId, quantity);
+            }
+        });
+        if (!surplus.isEmpty()) {
+            AfterCommit.run(() -> inventorySequencer.release(surplus));
+        }
+    }
+
+    private PlaceOrderResponseDto publish(Order saved) {
+        orderEventOutbox.orderPlaced(orderReadModel.record(saved));
+        salesReportService.record(saved);
+        List<OrderItem> sold = new ArrayList<>(saved.getOrderItems());
+        AfterCommit.run(() -> {
+            sold.forEach(item -> trendingProducts.record(item.getProductId(), item.getQuantity()));
+            orderFactStore.record(saved);
+        });
+
+        List<String> summaries = new ArrayList<>(saved.getOrderItems().size());
+        for (OrderItem item : saved.getOrderItems()) {
+            summaries.add(item.getProductName() + " x" + item.getQuantity());
         }
+
+        PlaceOrderResponseDto response = new PlaceOrderResponseDto();
+        response.setOrderId(saved.getId());
+        response.setTotalNet(saved.getTotalNetValue().toBigDecimal());
+        response.setTotalGross(saved.getTotalGrossValue().toBigDecimal());
+        response.setProductSummaries(summaries);
+        response.setMessage("Order placed successfully");
+        return response;
+    }
+
+    public OrderRepository.OrderVersionView getOrderVersion(Long orderId) {
+        return orderRepository.findVersionViewById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("Order with id " + orderId + " not found"));
     }
 
     public OrderDetailsResponseDto getOrderDetails(Long orderId) {
         try {
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new OrderNotFoundException("Order with id " + orderId + " not found"));
-
-            OrderDetailsResponseDto dto = new OrderDetailsResponseDto();
-
-            dto.setOrderId(order.getId());
-
-            OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
-            User user = order.getUser();
-
-            customer.setId(user.getId());
-            customer.setUsername(user.getUsername());
-            customer.setEmail(user.getEmail());
-            customer.setFirstName(user.getFirstName());
-            customer.setLastName(user.getLastName());
-            customer.setPhoneNumber(user.getPhoneNumber());
-            customer.setCountry(user.getCountry());
-            customer.setCity(user.getCity());
-            customer.setStreet(user.getStreet());
-            customer.setPostalCode(user.getPostalCode());
-
-            dto.setCustomer(customer);
-
-            List<OrderDetailsResponseDto.OrderItemInfoDto> items = order.getOrderItems()
-                    .stream()
-                    .map(item -> {
-                        OrderDetailsResponseDto.OrderItemInfoDto itemDto = new OrderDetailsResponseDto.OrderItemInfoDto();
-                        itemDto.setProductId(item.getProduct().getId());
-                        itemDto.setProductName(item.getProduct().getName());
-                        itemDto.setQuantity(item.getQuantity());
-                        itemDto.setNetPrice(item.getNetPrice());
-                        itemDto.setGrossPrice(item.getGrossPrice());
-                        return itemDto;
-                    })
-                    .collect(Collectors.toList());
-
-            dto.setItems(items);
-
-            dto.setTotalNet(order.getTotalNetValue());
-            dto.setTotalGross(order.getTotalGrossValue());
+            OrderDetailsResponseDto dto = OrderDetailsMapper.toDto(findOrder(orderId));
 
             log.info("Fetched details for order id {}", orderId);
 
@@ -156,4 +272,30 @@ public class OrderService {
             throw new RuntimeException("An error occurred while fetching order details.");
         }
     }
+
+    public RenderedOrderDetails findRenderedOrderDetails(Long orderId) {
+        return orderReadModel.find(orderId);
+    }
+
+    public RenderedOrderDetails loadRenderedOrderDetails(Long orderId) {
+        try {
+            return orderReadModel.backfill(findOrder(orderId));
+
+        } catch (OrderNotFoundException ex) {
+            log.warn("Order not found: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            log.error("Error while rendering order details for id {}", orderId, ex);
+            throw new RuntimeException("An error occurred while fetching order details.");
+        }
+    }
+
+    public int rebuildReadModel() {
+        return orderReadModel.rebuild();
+    }
+
+    private Order findOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("Order with id " + orderId + " not found"));
+    }
 }
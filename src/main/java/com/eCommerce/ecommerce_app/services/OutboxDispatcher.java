@@ -0,0 +1,115 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+import com.eCommerce.ecommerce_app.respositories.OutboxEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class OutboxDispatcher implements MeterBinder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Duration claimTimeout;
+    private final AtomicInteger lastBatchSize = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxSink outboxSink,
+                            @Value("${app.outbox.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.poll-interval-ms:500}") long pollIntervalMillis,
+                            @Value("${app.outbox.claim-timeout-ms:30000}") long claimTimeoutMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        int delivered;
+        do {
+            delivered = dispatchBatch();
+        } while (delivered == batchSize);
+    }
+
+    public int dispatchBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = outboxEventRepository.claimBatch(claimToken, now, now.minus(claimTimeout), batchSize);
+        lastBatchSize.set(claimed);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        List<OutboxEvent> events = outboxEventRepository.findByClaimTokenOrderById(claimToken);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            outboxSink.deliver(events);
+        } catch (IOException | RuntimeException ex) {
+            failures.increment();
+            log.warn("Could not deliver {} outbox events, they will be retried after the claim expires",
+                    events.size(), ex);
+            return 0;
+        }
+
+        outboxEventRepository.deleteByClaimToken(claimToken);
+        dispatched.add(events.size());
+        return events.size();
+    }
+
+    public long getLagMillis() {
+        LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("outbox.poll.interval", () -> pollIntervalMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("outbox.batch.size", lastBatchSize, AtomicInteger::get)
+                .register(registry);
+        Gauge.builder("outbox.batch.max", () -> batchSize)
+                .register(registry);
+        Gauge.builder("outbox.lag", this, OutboxDispatcher::getLagMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("outbox.events.dispatched", dispatched, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("outbox.dispatch.failures", failures, LongAdder::sum)
+                .register(registry);
+    }
+}
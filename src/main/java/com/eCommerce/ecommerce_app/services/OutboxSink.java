@@ -0,0 +1,11 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface OutboxSink {
+
+    void deliver(List<OutboxEvent> events) throws IOException;
+}
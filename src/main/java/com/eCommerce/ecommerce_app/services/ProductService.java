@@ -2,22 +2,50 @@ package com.eCommerce.ecommerce_app.services;
 
 import com.eCommerce.ecommerce_app.entities.Product;
 import com.eCommerce.ecommerce_app.exceptions.ProductAlreadyExistsException;
+import com.eCommerce.ecommerce_app.membership.MembershipFilters;
+import com.eCommerce.ecommerce_app.money.Money;
 import com.eCommerce.ecommerce_app.requests.ProductRequestDto;
+import com.eCommerce.ecommerce_app.responses.ProductSearchResultDto;
+import com.eCommerce.ecommerce_app.responses.ProductSuggestionDto;
+import com.eCommerce.ecommerce_app.responses.TrendingProductDto;
 import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.search.AutocompleteTrie;
+import com.eCommerce.ecommerce_app.search.InvertedIndex;
+import com.eCommerce.ecommerce_app.search.ProductAutocomplete;
+import com.eCommerce.ecommerce_app.search.ProductSearchIndex;
+import com.eCommerce.ecommerce_app.trending.Trend;
+import com.eCommerce.ecommerce_app.trending.TrendingProducts;
+import com.eCommerce.ecommerce_app.trending.TrendingWindow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final VatRateService vatRateService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductAutocomplete productAutocomplete;
+    private final MembershipFilters membershipFilters;
+    private final TrendingProducts trendingProducts;
+    private static final int MAX_SEARCH_RESULTS = 100;
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, VatRateService vatRateService,
+                          ProductSearchIndex productSearchIndex, ProductAutocomplete productAutocomplete,
+                          MembershipFilters membershipFilters, TrendingProducts trendingProducts) {
         this.productRepository = productRepository;
+        this.vatRateService = vatRateService;
+        this.productSearchIndex = productSearchIndex;
+        this.productAutocomplete = productAutocomplete;
+        this.membershipFilters = membershipFilters;
+        this.trendingProducts = trendingProducts;
     }
 
     public Product addProduct(ProductRequestDto dto) {
@@ -25,9 +53,12 @@ public class ProductService {
             throw new IllegalArgumentException("ProductRequestDto cannot be null");
         }
         try {
-            if (productRepository.existsByName(dto.getName())) {
-                log.warn("Product with name '{}' already exists.", dto.getName());
-                throw new ProductAlreadyExistsException("A product with this name already exists.");
+            if (membershipFilters.productNames().mightContain(dto.getName())) {
+                if (productRepository.existsByName(dto.getName())) {
+                    log.warn("Product with name '{}' already exists.", dto.getName());
+                    throw new ProductAlreadyExistsException("A product with this name already exists.");
+                }
+                membershipFilters.productNames().recordFalsePositive();
             }
 
             Product product = new Product();
@@ -36,12 +67,13 @@ public class ProductService {
             product.setVat(dto.getVat());
             product.setQuantity(dto.getQuantity());
 
-
-            BigDecimal vatFraction = product.getVat().divide(BigDecimal.valueOf(100));
-            BigDecimal priceGross = product.getPrice().add(product.getPrice().multiply(vatFraction));
-            product.setPriceGorss(priceGross);
+            long grossMultiplier = vatRateService.grossMultiplier(product.getVat());
+            product.setPriceGorss(Money.of(product.getPrice()).applyBasisPoints(grossMultiplier).toBigDecimal());
 
             Product saved = productRepository.save(product);
+            productSearchIndex.add(saved);
+            productAutocomplete.add(saved);
+            membershipFilters.productNames().add(saved.getName());
             log.info("Product added: {}", saved.getName());
             return saved;
 
@@ -52,4 +84,43 @@ public class ProductService {
             throw new RuntimeException("An error occurred while adding the product.");
         }
     }
+
+    public List<ProductSearchResultDto> search(String query, int limit, boolean inStockOnly) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        List<InvertedIndex.Hit> hits = productSearchIndex.search(query, boundedLimit, inStockOnly);
+        List<ProductSearchResultDto> results = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            results.add(new ProductSearchResultDto(hit.productId(), hit.name(), hit.inStock(), hit.score()));
+        }
+        return results;
+    }
+
+    public List<ProductSuggestionDto> autocomplete(String prefix, int limit) {
+        List<AutocompleteTrie.Suggestion> suggestions = productAutocomplete.complete(prefix, Math.max(1, limit));
+        List<ProductSuggestionDto> results = new ArrayList<>(suggestions.size());
+        for (AutocompleteTrie.Suggestion suggestion : suggestions) {
+            results.add(new ProductSuggestionDto(suggestion.productId(), suggestion.name()));
+        }
+        return results;
+    }
+
+    public List<TrendingProductDto> trending(TrendingWindow window, int limit) {
+        List<Trend> trends = trendingProducts.top(window, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        List<Long> productIds = new ArrayList<>(trends.size());
+        for (Trend trend : trends) {
+            productIds.add(trend.productId());
+        }
+        Map<Long, String> names = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            names.put(product.getId(), product.getName());
+        }
+        List<TrendingProductDto> results = new ArrayList<>(trends.size());
+        for (Trend trend : trends) {
+            if (names.containsKey(trend.productId())) {
+                results.add(new TrendingProductDto(trend.productId(), names.get(trend.productId()),
+                        trend.units(), trend.maxOvercount()));
+            }
+        }
+        return results;
+    }
 }
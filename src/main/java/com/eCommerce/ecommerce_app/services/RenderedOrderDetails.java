@@ -0,0 +1,32 @@
+package com.eCommerce.ecommerce_app.services;
+
+public final class RenderedOrderDetails {
+
+    private final Long orderId;
+    private final Long ownerId;
+    private final Integer version;
+    private final byte[] body;
+
+    public RenderedOrderDetails(Long orderId, Long ownerId, Integer version, byte[] body) {
+        this.orderId = orderId;
+        this.ownerId = ownerId;
+        this.version = version;
+        this.body = body;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
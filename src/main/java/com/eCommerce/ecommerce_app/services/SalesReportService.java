@@ -0,0 +1,247 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.responses.DailySalesDto;
+import com.eCommerce.ecommerce_app.responses.ProductSalesDto;
+import com.eCommerce.ecommerce_app.respositories.ProductDailySalesRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class SalesReportService implements MeterBinder {
+
+    private static final String MERGE_SQL = "merge into product_daily_sales t using (select cast(? as bigint) product_id, "
+            + "cast(? as date) sales_date, cast(? as bigint) units_sold, cast(? as decimal(19, 2)) net_revenue, "
+            + "cast(? as decimal(19, 2)) gross_revenue) s on t.product_id = s.product_id and t.sales_date = s.sales_date "
+            + "when matched then update set units_sold = t.units_sold + s.units_sold, "
+            + "net_revenue = t.net_revenue + s.net_revenue, gross_revenue = t.gross_revenue + s.gross_revenue "
+            + "when not matched then insert (product_id, sales_date, units_sold, net_revenue, gross_revenue) "
+            + "values (s.product_id, s.sales_date, s.units_sold, s.net_revenue, s.gross_revenue)";
+    private static final String REBUILD_SQL = "insert into product_daily_sales "
+            + "(product_id, sales_date, units_sold, net_revenue, gross_revenue) "
+            + "select oi.product_id, cast(o.order_date as date), sum(oi.quantity), sum(oi.net_price), sum(oi.gross_price) "
+            + "from orders o join order_items oi on oi.order_id = o.id "
+            + "where o.order_date >= ? and o.order_date < ? group by oi.product_id, cast(o.order_date as date)";
+
+    private final ProductDailySalesRepository productDailySalesRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildThreads;
+    private final int partitionDays;
+    private final int maxProducts;
+    private final Map<SalesKey, SalesCell> pending = new ConcurrentHashMap<>();
+    private final LongAdder flushedRows = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private static final Logger log = LoggerFactory.getLogger(SalesReportService.class);
+
+    public SalesReportService(ProductDailySalesRepository productDailySalesRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.reporting.sales.rebuild-threads:4}") int rebuildThreads,
+                              @Value("${app.reporting.sales.rebuild-partition-days:7}") int partitionDays,
+                              @Value("${app.reporting.sales.max-products:100}") int maxProducts) {
+        if (rebuildThreads < 1) {
+            throw new IllegalArgumentException("Sales rebuild threads must be positive: " + rebuildThreads);
+        }
+        if (partitionDays < 1) {
+            throw new IllegalArgumentException("Sales rebuild partition days must be positive: " + partitionDays);
+        }
+        this.productDailySalesRepository = productDailySalesRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildThreads = rebuildThreads;
+        this.partitionDays = partitionDays;
+        this.maxProducts = maxProducts;
+    }
+
+    public void record(Order order) {
+        LocalDate salesDate = order.getOrderDate().toLocalDate();
+        List<OrderItem> items = new ArrayList<>(order.getOrderItems());
+        AfterCommit.run(() -> {
+            for (OrderItem item : items) {
+                add(new SalesKey(item.getProductId(), salesDate), item.getQuantity(),
+                        item.getNetPrice().getMinorUnits(), item.getGrossPrice().getMinorUnits());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.reporting.sales.flush-interval-ms:1000}")
+    public int flush() {
+        lock.lock();
+        try {
+            List<SalesKey> keys = new ArrayList<>();
+            List<long[]> deltas = new ArrayList<>();
+            LocalDate retainFrom = LocalDate.now().minusDays(1);
+            for (Map.Entry<SalesKey, SalesCell> entry : pending.entrySet()) {
+                SalesCell cell = entry.getValue();
+                long[] delta = {cell.units.sumThenReset(), cell.netMinor.sumThenReset(), cell.grossMinor.sumThenReset()};
+                if (delta[0] != 0 || delta[1] != 0 || delta[2] != 0) {
+                    keys.add(entry.getKey());
+                    deltas.add(delta);
+                } else if (entry.getKey().salesDate().isBefore(retainFrom)) {
+                    pending.remove(entry.getKey(), cell);
+                }
+            }
+            if (keys.isEmpty()) {
+                return 0;
+            }
+
+            List<Object[]> rows = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                long[] delta = deltas.get(i);
+                rows.add(new Object[]{keys.get(i).productId(), Date.valueOf(keys.get(i).salesDate()), delta[0],
+                        Money.ofMinor(delta[1]).toBigDecimal(), Money.ofMinor(delta[2]).toBigDecimal()});
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE_SQL, rows));
+            } catch (RuntimeException ex) {
+                for (int i = 0; i < keys.size(); i++) {
+                    add(keys.get(i), deltas.get(i)[0], deltas.get(i)[1], deltas.get(i)[2]);
+                }
+                log.error("Failed to flush {} sales aggregate rows, will retry", rows.size(), ex);
+                return 0;
+            }
+            flushedRows.add(rows.size());
+            return rows.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${app.reporting.sales.rebuild-cron:0 30 0 * * *}")
+    public void rebuildYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuild(yesterday, yesterday);
+    }
+
+    public int rebuild(LocalDate from, LocalDate to) {
+        lock.lock();
+        try {
+            LocalDate lastClosedDay = LocalDate.now().minusDays(1);
+            LocalDate end = to.isAfter(lastClosedDay) ? lastClosedDay : to;
+            if (end.isBefore(from)) {
+                return 0;
+            }
+            flush();
+
+            List<LocalDate[]> partitions = new ArrayList<>();
+            for (LocalDate start = from; !start.isAfter(end); start = start.plusDays(partitionDays)) {
+                LocalDate last = start.plusDays(partitionDays - 1L);
+                partitions.add(new LocalDate[]{start, last.isAfter(end) ? end : last});
+            }
+
+            long started = System.nanoTime();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(rebuildThreads, partitions.size()));
+            try {
+                List<Future<Integer>> results = new ArrayList<>(partitions.size());
+                for (LocalDate[] partition : partitions) {
+                    results.add(executor.submit(() -> rebuildPartition(partition[0], partition[1])));
+                }
+                int rows = 0;
+                for (Future<Integer> result : results) {
+                    rows += result.get();
+                }
+                log.info("Rebuilt {} sales aggregate rows for {} to {} in {} partitions ({} ms)", rows, from, end,
+                        partitions.size(), (System.nanoTime() - started) / 1_000_000);
+                return rows;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Sales aggregate rebuild was interrupted", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Sales aggregate rebuild failed", ex.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<DailySalesDto> dailySales(LocalDate from, LocalDate to, Long productId) {
+        List<ProductDailySalesRepository.DailySalesView> views = productId == null
+                ? productDailySalesRepository.findDailyTotals(from, to)
+                : productDailySalesRepository.findDailyTotalsForProduct(productId, from, to);
+        List<DailySalesDto> result = new ArrayList<>(views.size());
+        for (ProductDailySalesRepository.DailySalesView view : views) {
+            result.add(new DailySalesDto(view.getDate(), view.getUnitsSold(), view.getNetRevenue(), view.getGrossRevenue()));
+        }
+        return result;
+    }
+
+    public List<ProductSalesDto> productSales(LocalDate from, LocalDate to, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, maxProducts));
+        List<ProductDailySalesRepository.ProductSalesView> views =
+                productDailySalesRepository.findProductTotals(from, to, PageRequest.of(0, boundedLimit));
+        List<ProductSalesDto> result = new ArrayList<>(views.size());
+        for (ProductDailySalesRepository.ProductSalesView view : views) {
+            result.add(new ProductSalesDto(view.getProductId(), view.getProductName(), view.getUnitsSold(),
+                    view.getNetRevenue(), view.getGrossRevenue()));
+        }
+        return result;
+    }
+
+    public int pendingKeys() {
+        return pending.size();
+    }
+
+    private void add(SalesKey key, long units, long netMinor, long grossMinor) {
+        SalesCell cell = pending.computeIfAbsent(key, k -> new SalesCell());
+        cell.units.add(units);
+        cell.netMinor.add(netMinor);
+        cell.grossMinor.add(grossMinor);
+    }
+
+    private int rebuildPartition(LocalDate from, LocalDate to) {
+        Integer rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("delete from product_daily_sales where sales_date between ? and ?",
+                    Date.valueOf(from), Date.valueOf(to));
+            return jdbcTemplate.update(REBUILD_SQL, Timestamp.valueOf(from.atStartOfDay()),
+                    Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sales.aggregates.pending", this, SalesReportService::pendingKeys)
+                .register(registry);
+        FunctionCounter.builder("sales.aggregates.flushed", flushedRows, LongAdder::sum)
+                .register(registry);
+    }
+
+    private record SalesKey(Long productId, LocalDate salesDate) {
+    }
+
+    private static final class SalesCell {
+        private final LongAdder units = new LongAdder();
+        private final LongAdder netMinor = new LongAdder();
+        private final LongAdder grossMinor = new LongAdder();
+    }
+}
@@ -0,0 +1,97 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.VatRate;
+import com.eCommerce.ecommerce_app.exceptions.VatRateAlreadyExistsException;
+import com.eCommerce.ecommerce_app.exceptions.VatRateNotFoundException;
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.VatRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class VatRateService {
+
+    private final VatRateRepository vatRateRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int repriceBatchSize;
+    private final Map<BigDecimal, Long> grossMultipliers = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(VatRateService.class);
+
+    public VatRateService(VatRateRepository vatRateRepository,
+                          ProductRepository productRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.vat.reprice-batch-size:500}") int repriceBatchSize) {
+        this.vatRateRepository = vatRateRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repriceBatchSize = repriceBatchSize;
+    }
+
+    public long grossMultiplier(BigDecimal vat) {
+        return grossMultipliers.computeIfAbsent(vat.stripTrailingZeros(), Money::vatMultiplierBasisPoints);
+    }
+
+    public VatRate addVatRate(BigDecimal rate) {
+        if (vatRateRepository.existsByRate(rate)) {
+            log.warn("VAT rate {} already exists.", rate);
+            throw new VatRateAlreadyExistsException("A VAT rate with this value already exists.");
+        }
+        VatRate vatRate = new VatRate();
+        vatRate.setRate(rate);
+        VatRate saved = vatRateRepository.save(vatRate);
+        log.info("VAT rate added: {}", saved.getRate());
+        return saved;
+    }
+
+    public int changeVatRate(BigDecimal oldRate, BigDecimal newRate) {
+        VatRate vatRate = vatRateRepository.findByRate(oldRate)
+                .orElseThrow(() -> new VatRateNotFoundException("VAT rate " + oldRate + " not found"));
+        if (oldRate.compareTo(newRate) == 0) {
+            log.info("VAT rate {} is unchanged, nothing to reprice", oldRate);
+            return 0;
+        }
+
+        int repriced = repriceProducts(oldRate, newRate);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (vatRateRepository.existsByRate(newRate)) {
+                vatRateRepository.delete(vatRate);
+            } else {
+                vatRate.setRate(newRate);
+                vatRateRepository.save(vatRate);
+            }
+        });
+
+        log.info("VAT rate changed from {} to {}, repriced {} products", oldRate, newRate, repriced);
+        return repriced;
+    }
+
+    private int repriceProducts(BigDecimal oldRate, BigDecimal newRate) {
+        Long minId = productRepository.findMinIdByVat(oldRate);
+        Long maxId = productRepository.findMaxIdByVat(oldRate);
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        long multiplier = grossMultiplier(newRate);
+        int repriced = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += repriceBatchSize) {
+            long from = fromId;
+            long to = Math.min(maxId, fromId + repriceBatchSize - 1);
+            Integer updated = transactionTemplate.execute(status ->
+                    productRepository.repriceByVat(oldRate, newRate, multiplier, from, to));
+            repriced += updated == null ? 0 : updated;
+        }
+        return repriced;
+    }
+}
@@ -0,0 +1,168 @@
+package com.eCommerce.ecommerce_app.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class SlidingTopK {
+
+    private static final int MINUTES = 60;
+    private static final int HOURS = 24;
+
+    private final int capacity;
+    private final int stripeCount;
+    private final TopKSummary[] minutes = new TopKSummary[MINUTES];
+    private final long[] minuteStamps = new long[MINUTES];
+    private final TopKSummary[] hours = new TopKSummary[HOURS];
+    private final long[] hourStamps = new long[HOURS];
+    private volatile Live live;
+    private Live draining;
+    private long openHour = -1L;
+
+    SlidingTopK(int capacity, int stripes, long nowMillis) {
+        if (capacity < 1 || stripes < 1) {
+            throw new IllegalArgumentException("capacity and stripes must be positive");
+        }
+        this.capacity = capacity;
+        int stripeCount = 1;
+        while (stripeCount < stripes) {
+            stripeCount <<= 1;
+        }
+        this.stripeCount = stripeCount;
+        Arrays.fill(minuteStamps, -1L);
+        Arrays.fill(hourStamps, -1L);
+        this.live = new Live(minuteOf(nowMillis), stripeCount, capacity);
+    }
+
+    void offer(long item, long weight) {
+        Live current = live;
+        SpaceSaving stripe = current.stripes[spread(item) & (stripeCount - 1)];
+        synchronized (stripe) {
+            stripe.offer(item, weight);
+        }
+    }
+
+    synchronized void advance(long nowMillis) {
+        long minute = minuteOf(nowMillis);
+        if (draining != null) {
+            seal(draining.minute, draining.snapshot(capacity));
+            draining = null;
+        }
+        if (minute > live.minute) {
+            draining = live;
+            live = new Live(minute, stripeCount, capacity);
+        }
+    }
+
+    synchronized List<Trend> top(int windowMinutes, int limit, long nowMillis) {
+        advance(nowMillis);
+        long minute = live.minute;
+        List<TopKSummary> parts = new ArrayList<>();
+        parts.add(live.snapshot(capacity));
+        if (draining != null) {
+            parts.add(draining.snapshot(capacity));
+        }
+        long fromMinute = minute - windowMinutes + 1;
+        if (windowMinutes > MINUTES) {
+            long hour = minute / MINUTES;
+            long fromHour = Math.floorDiv(fromMinute, MINUTES);
+            for (long h = Math.max(fromHour, hour - HOURS + 1); h < hour; h++) {
+                int slot = (int) Math.floorMod(h, HOURS);
+                if (hourStamps[slot] == h) {
+                    parts.add(hours[slot]);
+                } else if (h == openHour) {
+                    addMinutesOf(h, parts);
+                }
+            }
+            fromMinute = hour * MINUTES;
+        }
+        for (long m = Math.max(fromMinute, minute - MINUTES + 1); m < minute; m++) {
+            int slot = (int) Math.floorMod(m, MINUTES);
+            if (minuteStamps[slot] == m) {
+                parts.add(minutes[slot]);
+            }
+        }
+        return TopKSummary.merge(parts, capacity, false).top(limit);
+    }
+
+    synchronized int trackedCounters() {
+        int total = live.size();
+        for (int slot = 0; slot < MINUTES; slot++) {
+            if (minutes[slot] != null) {
+                total += minutes[slot].size();
+            }
+        }
+        for (int slot = 0; slot < HOURS; slot++) {
+            if (hours[slot] != null) {
+                total += hours[slot].size();
+            }
+        }
+        return total;
+    }
+
+    private void seal(long minute, TopKSummary summary) {
+        long hour = minute / MINUTES;
+        if (openHour >= 0 && hour > openHour) {
+            List<TopKSummary> parts = new ArrayList<>(MINUTES);
+            addMinutesOf(openHour, parts);
+            int slot = (int) Math.floorMod(openHour, HOURS);
+            hours[slot] = TopKSummary.merge(parts, capacity, false);
+            hourStamps[slot] = openHour;
+        }
+        openHour = hour;
+        int slot = (int) Math.floorMod(minute, MINUTES);
+        minutes[slot] = summary;
+        minuteStamps[slot] = minute;
+    }
+
+    private void addMinutesOf(long hour, List<TopKSummary> parts) {
+        for (int slot = 0; slot < MINUTES; slot++) {
+            if (minuteStamps[slot] >= 0 && minuteStamps[slot] / MINUTES == hour) {
+                parts.add(minutes[slot]);
+            }
+        }
+    }
+
+    private static long minuteOf(long millis) {
+        return Math.floorDiv(millis, 60_000L);
+    }
+
+    private static int spread(long item) {
+        long h = item * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Live {
+
+        private final long minute;
+        private final SpaceSaving[] stripes;
+
+        private Live(long minute, int stripeCount, int capacity) {
+            this.minute = minute;
+            this.stripes = new SpaceSaving[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new SpaceSaving(capacity);
+            }
+        }
+
+        private TopKSummary snapshot(int capacity) {
+            List<TopKSummary> parts = new ArrayList<>(stripes.length);
+            for (SpaceSaving stripe : stripes) {
+                synchronized (stripe) {
+                    parts.add(stripe.snapshot());
+                }
+            }
+            return TopKSummary.merge(parts, capacity, true);
+        }
+
+        private int size() {
+            int size = 0;
+            for (SpaceSaving stripe : stripes) {
+                synchronized (stripe) {
+                    size += stripe.size();
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.eCommerce.ecommerce_app.trending;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<Long, long[]> counters;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void offer(long item, long weight) {
+        long[] counter = counters.get(item);
+        if (counter != null) {
+            counter[0] += weight;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new long[]{weight, 0L});
+            return;
+        }
+        Long minItem = null;
+        long[] min = null;
+        for (Map.Entry<Long, long[]> entry : counters.entrySet()) {
+            if (min == null || entry.getValue()[0] < min[0]) {
+                minItem = entry.getKey();
+                min = entry.getValue();
+            }
+        }
+        counters.remove(minItem);
+        counters.put(item, new long[]{min[0] + weight, min[0]});
+    }
+
+    TopKSummary snapshot() {
+        List<Map.Entry<Long, long[]>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort((left, right) -> Long.compare(right.getValue()[0], left.getValue()[0]));
+        long[] items = new long[entries.size()];
+        long[] counts = new long[entries.size()];
+        long[] errors = new long[entries.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = entries.get(i).getKey();
+            counts[i] = entries.get(i).getValue()[0];
+            errors[i] = entries.get(i).getValue()[1];
+        }
+        long floor = counters.size() < capacity || items.length == 0 ? 0L : counts[items.length - 1];
+        return new TopKSummary(items, counts, errors, floor);
+    }
+
+    int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.eCommerce.ecommerce_app.trending;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TopKSummary {
+
+    static final TopKSummary EMPTY = new TopKSummary(new long[0], new long[0], new long[0], 0L);
+
+    private final long[] items;
+    private final long[] counts;
+    private final long[] errors;
+    private final long floor;
+
+    TopKSummary(long[] items, long[] counts, long[] errors, long floor) {
+        this.items = items;
+        this.counts = counts;
+        this.errors = errors;
+        this.floor = floor;
+    }
+
+    static TopKSummary merge(Collection<TopKSummary> parts, int capacity, boolean disjoint) {
+        Map<Long, long[]> merged = new HashMap<>();
+        long floors = 0;
+        for (TopKSummary part : parts) {
+            floors = disjoint ? Math.max(floors, part.floor) : floors + part.floor;
+            for (int i = 0; i < part.items.length; i++) {
+                long[] counter = merged.computeIfAbsent(part.items[i], item -> new long[3]);
+                counter[0] += part.counts[i];
+                counter[1] += part.errors[i];
+                counter[2] += part.floor;
+            }
+        }
+        List<Map.Entry<Long, long[]>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort((left, right) -> Long.compare(right.getValue()[0], left.getValue()[0]));
+        int size = Math.min(capacity, entries.size());
+        long[] items = new long[size];
+        long[] counts = new long[size];
+        long[] errors = new long[size];
+        for (int i = 0; i < size; i++) {
+            long[] counter = entries.get(i).getValue();
+            items[i] = entries.get(i).getKey();
+            counts[i] = counter[0];
+            errors[i] = disjoint ? counter[1] : counter[1] + floors - counter[2];
+        }
+        long floor = entries.size() > capacity ? entries.get(capacity).getValue()[0] + (disjoint ? 0L : floors) : 0L;
+        return new TopKSummary(items, counts, errors, Math.max(floor, floors));
+    }
+
+    List<Trend> top(int limit) {
+        int size = Math.min(limit, items.length);
+        List<Trend> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            top.add(new Trend(items[i], counts[i], errors[i]));
+        }
+        return top;
+    }
+
+    int size() {
+        return items.length;
+    }
+}
@@ -0,0 +1,4 @@
+package com.eCommerce.ecommerce_app.trending;
+
+public record Trend(long productId, long units, long maxOvercount) {
+}
@@ -0,0 +1,48 @@
+package com.eCommerce.ecommerce_app.trending;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class TrendingProducts implements MeterBinder {
+
+    private final SlidingTopK window;
+    private final LongAdder recorded = new LongAdder();
+
+    public TrendingProducts(@Value("${app.trending.capacity:200}") int capacity,
+                            @Value("${app.trending.stripes:8}") int stripes) {
+        this.window = new SlidingTopK(capacity, stripes, System.currentTimeMillis());
+    }
+
+    public void record(long productId, long units) {
+        if (units > 0) {
+            window.offer(productId, units);
+            recorded.add(units);
+        }
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        window.advance(System.currentTimeMillis());
+    }
+
+    public List<Trend> top(TrendingWindow trendingWindow, int limit) {
+        return window.top(trendingWindow.getMinutes(), limit, System.currentTimeMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("trending.counters", window, SlidingTopK::trackedCounters)
+                .register(registry);
+        FunctionCounter.builder("trending.units.recorded", recorded, LongAdder::sum)
+                .register(registry);
+    }
+}
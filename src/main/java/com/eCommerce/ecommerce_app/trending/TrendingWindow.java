@@ -0,0 +1,34 @@
+package com.eCommerce.ecommerce_app.trending;
+
+import java.util.Optional;
+
+public enum TrendingWindow {
+    FIVE_MINUTES("5m", 5),
+    ONE_HOUR("1h", 60),
+    ONE_DAY("24h", 1440);
+
+    private final String label;
+    private final int minutes;
+
+    TrendingWindow(String label, int minutes) {
+        this.label = label;
+        this.minutes = minutes;
+    }
+
+    public static Optional<TrendingWindow> fromLabel(String label) {
+        for (TrendingWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return Optional.of(window);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+}
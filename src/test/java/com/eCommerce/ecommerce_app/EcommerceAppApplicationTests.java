@@ -3,7 +3,7 @@ package com.eCommerce.ecommerce_app;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.reactive.port=0")
 class EcommerceAppApplicationTests {
 
 	@Test
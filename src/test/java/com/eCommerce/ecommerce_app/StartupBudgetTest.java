@@ -0,0 +1,50 @@
+package com.eCommerce.ecommerce_app;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupBudgetTest {
+
+    @Test
+    @Tag("startup-budget")
+    void firstRequest_ShouldBeServedWithinStartupBudget() throws Exception {
+        long budgetMs = Long.getLong("startup.budget-ms", 6_000);
+        String dir = "target/startup-budget/" + System.nanoTime();
+
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EcommerceAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:startup-budget;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "app.outbox.file-sink.path=" + dir + "/outbox/order-events.ndjson",
+                        "app.inventory.sequencer.journal-dir=" + dir + "/inventory",
+                        "app.analytics.directory=" + dir + "/analytics",
+                        "app.reactive.port=0")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products/search?q=lamp"))
+                            .timeout(Duration.ofSeconds(10))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+            assertEquals(200, response.statusCode());
+            assertTrue(elapsedMs < budgetMs,
+                    "first request served after " + elapsedMs + " ms, budget is " + budgetMs + " ms");
+        }
+    }
+}
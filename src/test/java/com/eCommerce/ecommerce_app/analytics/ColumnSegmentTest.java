@@ -0,0 +1,94 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnSegmentTest {
+
+    private static final int JAN_1 = (int) LocalDate.of(2025, 1, 1).toEpochDay();
+
+    private final List<OrderFact> facts = List.of(
+            new OrderFact(1, JAN_1, 5, "Poland", 2, 2000, 2460),
+            new OrderFact(1, JAN_1, 6, "Poland", 1, 500, 615),
+            new OrderFact(2, JAN_1 + 1, 5, "Germany", 3, 3000, 3690),
+            new OrderFact(3, JAN_1 + 2, 7, null, 1, 100, 123));
+
+    @Test
+    void aggregate_ShouldGroupByDayProductAndCountry() {
+        ColumnSegment segment = ColumnSegment.open(ColumnSegment.encode(facts));
+
+        assertArrayEquals(new long[]{3, 2500, 3075, 2}, aggregate(segment, JAN_1, JAN_1 + 2, null, null, FactGroupBy.DAY).get("2025-01-01"));
+        assertArrayEquals(new long[]{5, 5000, 6150, 2}, aggregate(segment, JAN_1, JAN_1 + 2, null, null, FactGroupBy.PRODUCT).get("5"));
+        Map<String, long[]> byCountry = aggregate(segment, JAN_1, JAN_1 + 2, null, null, FactGroupBy.COUNTRY);
+        assertEquals(3, byCountry.size());
+        assertArrayEquals(new long[]{1, 100, 123, 1}, byCountry.get("unknown"));
+    }
+
+    @Test
+    void aggregate_ShouldApplyDayProductAndCountryFilters() {
+        ColumnSegment segment = ColumnSegment.open(ColumnSegment.encode(facts));
+
+        Map<String, long[]> filtered = aggregate(segment, JAN_1 + 1, JAN_1 + 2, 5L, null, FactGroupBy.DAY);
+        assertEquals(1, filtered.size());
+        assertArrayEquals(new long[]{3, 3000, 3690, 1}, filtered.get("2025-01-02"));
+        assertArrayEquals(new long[]{3, 2500, 3075, 2}, aggregate(segment, JAN_1, JAN_1, null, "poland", FactGroupBy.COUNTRY).get("Poland"));
+        assertTrue(aggregate(segment, JAN_1 + 3, JAN_1 + 9, null, null, FactGroupBy.DAY).isEmpty());
+        assertTrue(aggregate(segment, JAN_1, JAN_1 + 2, 99L, null, FactGroupBy.DAY).isEmpty());
+        assertTrue(aggregate(segment, JAN_1, JAN_1 + 2, null, "France", FactGroupBy.DAY).isEmpty());
+    }
+
+    @Test
+    void aggregate_ShouldMatchRowByRowTotalsAcrossBatches() {
+        List<OrderFact> many = new ArrayList<>();
+        long expectedGross = 0;
+        for (int i = 0; i < 5000; i++) {
+            OrderFact fact = new OrderFact(i, JAN_1 + i % 40, i % 300, i % 2 == 0 ? "Poland" : "Spain", 1 + i % 4,
+                    1000L * i, 1230L * i);
+            many.add(fact);
+            if (fact.epochDay() >= JAN_1 + 10 && fact.epochDay() <= JAN_1 + 19 && fact.country().equals("Spain")) {
+                expectedGross += fact.grossMinor();
+            }
+        }
+        ColumnSegment segment = ColumnSegment.open(ColumnSegment.encode(many));
+
+        long gross = 0;
+        for (long[] total : aggregate(segment, JAN_1 + 10, JAN_1 + 19, null, "Spain", FactGroupBy.PRODUCT).values()) {
+            gross += total[2];
+        }
+        assertEquals(expectedGross, gross);
+    }
+
+    @Test
+    void packedColumn_ShouldRoundTripEveryWidth() {
+        long[][] columns = {
+                {7, 8, 200},
+                {-5, 60_000},
+                {0, 4_000_000_000L},
+                {Long.MIN_VALUE, Long.MAX_VALUE, 0}};
+        for (long[] values : columns) {
+            ByteBuffer buffer = ByteBuffer.allocate(PackedColumn.encodedSize(values, values.length));
+            PackedColumn.write(buffer, values, values.length);
+            PackedColumn column = PackedColumn.read(buffer, 0, values.length);
+            long[] decoded = new long[values.length];
+            column.decode(0, values.length, decoded);
+
+            assertArrayEquals(values, decoded);
+            assertEquals(buffer.capacity(), column.end());
+        }
+    }
+
+    private static Map<String, long[]> aggregate(ColumnSegment segment, int fromDay, int toDay, Long productId,
+                                                 String country, FactGroupBy groupBy) {
+        Map<String, long[]> totals = new HashMap<>();
+        segment.aggregate(fromDay, toDay, productId, country, groupBy, totals);
+        return totals;
+    }
+}
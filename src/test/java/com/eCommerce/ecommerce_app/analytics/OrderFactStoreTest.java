@@ -0,0 +1,206 @@
+package com.eCommerce.ecommerce_app.analytics;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.money.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderFactStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void drain_ShouldMakeRecordedOrdersQueryableOnceAndSurviveRestart() throws IOException {
+        OrderFactStore store = new OrderFactStore(jdbcTemplate, dir.toString(), 2, 100);
+        store.open();
+        Order first = order(1L, LocalDateTime.of(2025, 3, 1, 10, 0), 5L, 2);
+        store.record(first);
+        store.record(first);
+        store.record(order(2L, LocalDateTime.of(2025, 3, 2, 10, 0), 6L, 1));
+
+        assertEquals(2, store.drain());
+        List<FactAggregate> byProduct = store.aggregate(query(FactGroupBy.PRODUCT));
+        assertEquals(List.of(new FactAggregate("5", 2, 2000, 2460, 1), new FactAggregate("6", 1, 1000, 1230, 1)), byProduct);
+        assertEquals(1, segmentFiles());
+
+        store.close();
+        OrderFactStore reopened = new OrderFactStore(jdbcTemplate, dir.toString(), 2, 100);
+        reopened.open();
+
+        assertEquals(byProduct, reopened.aggregate(query(FactGroupBy.PRODUCT)));
+        assertEquals(List.of(new FactAggregate("2025-03-01", 2, 2000, 2460, 1),
+                new FactAggregate("2025-03-02", 1, 1000, 1230, 1)), reopened.aggregate(query(FactGroupBy.DAY)));
+    }
+
+    @Test
+    void aggregate_ShouldLimitGroupsByGrossRevenue() throws IOException {
+        OrderFactStore store = new OrderFactStore(jdbcTemplate, dir.toString(), 1000, 100);
+        store.open();
+        store.record(order(1L, LocalDateTime.of(2025, 3, 1, 10, 0), 5L, 1));
+        store.record(order(2L, LocalDateTime.of(2025, 3, 1, 11, 0), 6L, 4));
+        store.drain();
+
+        List<FactAggregate> top = store.aggregate(new FactQuery(null, null, null, null, FactGroupBy.PRODUCT, 1));
+
+        assertEquals(List.of(new FactAggregate("6", 4, 4000, 4920, 1)), top);
+        assertEquals(List.of(new FactAggregate("unknown", 5, 5000, 6150, 2)),
+                store.aggregate(query(FactGroupBy.COUNTRY)));
+    }
+
+    @Test
+    void drain_ShouldKeepAllTailRowsQueryableAcrossDrains() throws IOException {
+        OrderFactStore store = new OrderFactStore(jdbcTemplate, dir.toString(), 1000, 100);
+        store.open();
+
+        for (long id = 1; id <= 7; id++) {
+            store.record(order(id, LocalDateTime.of(2025, 3, 1, 10, 0), 5L, 1));
+            store.drain();
+        }
+
+        assertEquals(List.of(new FactAggregate("5", 7, 7000, 8610, 7)), store.aggregate(query(FactGroupBy.PRODUCT)));
+        assertEquals(0, segmentFiles());
+    }
+
+    @Test
+    void rebuild_ShouldKeepServingExistingSegments_WhenReloadFails() throws IOException {
+        OrderFactStore store = new OrderFactStore(jdbcTemplate, dir.toString(), 1, 100);
+        store.open();
+        store.record(order(1L, LocalDateTime.of(2025, 3, 1, 10, 0), 5L, 2));
+        store.drain();
+        List<FactAggregate> before = store.aggregate(query(FactGroupBy.PRODUCT));
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        assertThrows(DataAccessResourceFailureException.class, store::rebuild);
+
+        assertEquals(before, store.aggregate(query(FactGroupBy.PRODUCT)));
+        assertEquals(1, segmentFiles());
+        assertEquals(List.of(), files(".tmp"));
+    }
+
+    @Test
+    void rebuild_ShouldSwapInSegmentsReloadedFromOrders() throws IOException {
+        OrderFactStore store = new OrderFactStore(jdbcTemplate, dir.toString(), 1, 100);
+        store.open();
+        store.record(order(1L, LocalDateTime.of(2025, 3, 1, 10, 0), 5L, 2));
+        store.drain();
+        List<Path> oldSegments = files(".ofc");
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            handler.processRow(row(1L, LocalDateTime.of(2025, 3, 1, 10, 0), 5L, 3));
+            handler.processRow(row(2L, LocalDateTime.of(2025, 3, 2, 10, 0), 6L, 1));
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        assertEquals(2, store.rebuild());
+
+        List<FactAggregate> rebuilt = store.aggregate(query(FactGroupBy.PRODUCT));
+        assertEquals(List.of(new FactAggregate("5", 3, 3000, 3690, 1), new FactAggregate("6", 1, 1000, 1230, 1)), rebuilt);
+        assertTrue(oldSegments.stream().noneMatch(Files::exists));
+        assertFalse(Files.exists(dir.resolve("rebuild.commit")));
+
+        store.close();
+        OrderFactStore reopened = new OrderFactStore(jdbcTemplate, dir.toString(), 1, 100);
+        reopened.open();
+        assertEquals(rebuilt, reopened.aggregate(query(FactGroupBy.PRODUCT)));
+    }
+
+    @Test
+    void open_ShouldCompleteRebuildThatWasCommittedBeforeACrash() throws IOException {
+        writeSegment("segment-00000000.ofc", new OrderFact(1L, epochDay(1), 5L, "", 2, 2000, 2460));
+        writeSegment("segment-00000001.ofc.tmp", new OrderFact(1L, epochDay(1), 5L, "", 3, 3000, 3690));
+        writeSegment("segment-00000002.ofc.tmp", new OrderFact(2L, epochDay(2), 6L, "", 9, 9000, 11070));
+        Files.writeString(dir.resolve("rebuild.commit"), "1 1");
+
+        OrderFactStore store = new OrderFactStore(jdbcTemplate, dir.toString(), 100, 100);
+        store.open();
+
+        assertEquals(List.of(new FactAggregate("5", 3, 3000, 3690, 1)), store.aggregate(query(FactGroupBy.PRODUCT)));
+        assertEquals(List.of(dir.resolve("segment-00000001.ofc")), files(""));
+    }
+
+    private void writeSegment(String name, OrderFact fact) throws IOException {
+        ByteBuffer encoded = ColumnSegment.encode(List.of(fact));
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        Files.write(dir.resolve(name), bytes);
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")
+                    || file.getFileName().toString().startsWith("rebuild."))
+                    .filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static int epochDay(int dayOfMarch) {
+        return (int) LocalDate.of(2025, 3, dayOfMarch).toEpochDay();
+    }
+
+    private static ResultSet row(long orderId, LocalDateTime orderDate, long productId, int quantity) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(orderId);
+        when(rs.getTimestamp(2)).thenReturn(Timestamp.valueOf(orderDate));
+        when(rs.getString(3)).thenReturn(null);
+        when(rs.getLong(4)).thenReturn(productId);
+        when(rs.getInt(5)).thenReturn(quantity);
+        when(rs.getBigDecimal(6)).thenReturn(BigDecimal.valueOf(10L * quantity));
+        when(rs.getBigDecimal(7)).thenReturn(BigDecimal.valueOf(1230L * quantity, 2));
+        return rs;
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".ofc")).count();
+        }
+    }
+
+    private static FactQuery query(FactGroupBy groupBy) {
+        return new FactQuery(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), null, null, groupBy, 10);
+    }
+
+    private static Order order(Long id, LocalDateTime orderDate, Long productId, int quantity) {
+        User user = new User();
+        user.setId(42L);
+        OrderItem item = new OrderItem();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        item.setNetPrice(Money.ofMinor(1000L * quantity));
+        item.setGrossPrice(Money.ofMinor(1230L * quantity));
+        Order order = new Order();
+        order.setId(id);
+        order.setUser(user);
+        order.setOrderDate(orderDate);
+        order.setOrderItems(List.of(item));
+        return order;
+    }
+}
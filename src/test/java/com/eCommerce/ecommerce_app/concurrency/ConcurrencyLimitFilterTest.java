@@ -0,0 +1,113 @@
+package com.eCommerce.ecommerce_app.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+    private AtomicInteger passed;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ConcurrencyLimiter(10, 1, 100, 1000, 0.5, 0.8);
+        filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), true,
+                new String[]{"/api/admin/**"},
+                new String[]{"/api/orders/place-order", "/api/cart/**"},
+                new String[]{"/api/products/**"}, 2);
+        passed = new AtomicInteger();
+        chain = (request, response) -> passed.incrementAndGet();
+    }
+
+    @Test
+    void doFilter_ShouldPassThroughAndReleaseThePermit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/orders/place-order"), response, chain);
+
+        assertEquals(1, passed.get());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldRejectWithRetryAfter_WhenSaturated() throws Exception {
+        occupy(10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/orders/place-order"), response, chain);
+
+        assertEquals(0, passed.get());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals("application/problem+json", response.getContentType());
+        assertTrue(response.getContentAsString().contains("Service Overloaded"));
+        assertEquals(1, limiter.getRejected(RequestPriority.CRITICAL));
+    }
+
+    @Test
+    void doFilter_ShouldShedCatalogueReadsBeforeOrderPlacement() throws Exception {
+        occupy(5);
+        MockHttpServletResponse catalogue = new MockHttpServletResponse();
+        MockHttpServletResponse checkout = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/products/search"), catalogue, chain);
+        filter.doFilter(request("/api/orders/place-order"), checkout, chain);
+
+        assertEquals(503, catalogue.getStatus());
+        assertEquals(200, checkout.getStatus());
+        assertEquals(1, limiter.getRejected(RequestPriority.LOW));
+        assertEquals(0, limiter.getRejected(RequestPriority.CRITICAL));
+    }
+
+    @Test
+    void doFilter_ShouldSkipExcludedAndNonApiPaths() throws Exception {
+        occupy(10);
+
+        filter.doFilter(request("/api/admin/orders/export"), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("/actuator/health"), new MockHttpServletResponse(), chain);
+
+        assertEquals(2, passed.get());
+    }
+
+    @Test
+    void doFilter_ShouldReleaseThePermit_WhenTheChainFails() {
+        FilterChain failing = (request, response) -> {
+            throw new ServletException("boom");
+        };
+
+        assertThrows(ServletException.class,
+                () -> filter.doFilter(request("/api/cart"), new MockHttpServletResponse(), failing));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void priorityOf_ShouldDefaultToNormal() {
+        assertEquals(RequestPriority.CRITICAL, filter.priorityOf("/api/cart/items"));
+        assertEquals(RequestPriority.LOW, filter.priorityOf("/api/products/1"));
+        assertEquals(RequestPriority.NORMAL, filter.priorityOf("/api/orders/get/1"));
+    }
+
+    private void occupy(int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertNotNull(limiter.tryAcquire(RequestPriority.CRITICAL));
+        }
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package com.eCommerce.ecommerce_app.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VegasLimitTest {
+
+    private static final long BASE_RTT = 1_000_000L;
+
+    @Test
+    void onSample_ShouldGrowWhileLatencyStaysAtBaseline() {
+        VegasLimit limit = new VegasLimit(20, 10, 200, 1000);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(BASE_RTT, limit.limit(), false);
+        }
+
+        assertTrue(limit.limit() > 20);
+        assertEquals(BASE_RTT, limit.noLoadRttNanos());
+    }
+
+    @Test
+    void onSample_ShouldShrinkWhenRequestsQueue() {
+        VegasLimit limit = new VegasLimit(100, 10, 200, 1000);
+        limit.onSample(BASE_RTT, 100, false);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASE_RTT * 4, limit.limit(), false);
+        }
+
+        assertTrue(limit.limit() < 100);
+    }
+
+    @Test
+    void onSample_ShouldShrinkOnDroppedRequests() {
+        VegasLimit limit = new VegasLimit(100, 10, 200, 1000);
+
+        limit.onSample(BASE_RTT, 1, true);
+
+        assertEquals(98, limit.limit());
+    }
+
+    @Test
+    void onSample_ShouldIgnoreSamplesFromAnIdleServer() {
+        VegasLimit limit = new VegasLimit(100, 10, 200, 1000);
+        limit.onSample(BASE_RTT, 100, false);
+        int before = limit.limit();
+
+        limit.onSample(BASE_RTT, 10, false);
+
+        assertEquals(before, limit.limit());
+    }
+
+    @Test
+    void onSample_ShouldStayWithinBounds() {
+        VegasLimit limit = new VegasLimit(20, 10, 40, 1000);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(BASE_RTT, limit.limit(), false);
+        }
+        assertEquals(40, limit.limit());
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(BASE_RTT, 1, true);
+        }
+        assertEquals(10, limit.limit());
+    }
+
+    @Test
+    void onSample_ShouldForgetAnOldBaselineAfterAProbeWindow() {
+        VegasLimit limit = new VegasLimit(20, 10, 200, 10);
+        limit.onSample(BASE_RTT, 1, false);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASE_RTT * 3, 1, false);
+        }
+
+        assertEquals(BASE_RTT * 3, limit.noLoadRttNanos());
+    }
+
+    @Test
+    void constructor_ShouldRejectInconsistentBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new VegasLimit(5, 10, 200, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new VegasLimit(20, 10, 15, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new VegasLimit(20, 0, 200, 1000));
+    }
+}
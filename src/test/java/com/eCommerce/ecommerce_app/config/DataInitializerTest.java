@@ -0,0 +1,88 @@
+package com.eCommerce.ecommerce_app.config;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.membership.MembershipFilters;
+import com.eCommerce.ecommerce_app.respositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataInitializerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private MembershipFilters membershipFilters;
+
+    private DataInitializer dataInitializer;
+
+    @BeforeEach
+    void setUp() {
+        membershipFilters = new MembershipFilters(mock(JdbcTemplate.class), 0.01);
+        dataInitializer = new DataInitializer(userRepository, passwordEncoder, membershipFilters, Runnable::run, true);
+    }
+
+    @Test
+    void init_ShouldSeedAdminAndRegisterItWithFilters_WhenMissing() {
+        membershipFilters.usernames().rebuild(0, sink -> { });
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("admin")).thenReturn("hashed");
+
+        dataInitializer.init();
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertEquals("hashed", saved.getValue().getPassword());
+        assertTrue(saved.getValue().getRoles().contains(Role.ADMIN));
+        assertTrue(membershipFilters.usernames().mightContain("admin"));
+    }
+
+    @Test
+    void seedInBackground_ShouldRunOnTheTaskExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        DataInitializer initializer = new DataInitializer(userRepository, passwordEncoder, membershipFilters,
+                submitted::add, true);
+
+        initializer.seedInBackground();
+
+        assertEquals(1, submitted.size());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void init_ShouldSkipHashing_WhenAdminExists() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(new User()));
+
+        dataInitializer.init();
+
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void init_ShouldTolerateConcurrentSeeding() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("admin")).thenReturn("hashed");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate email"));
+
+        assertDoesNotThrow(() -> dataInitializer.init());
+    }
+}
@@ -0,0 +1,47 @@
+package com.eCommerce.ecommerce_app.config;
+
+import com.eCommerce.ecommerce_app.analytics.FactGroupBy;
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.eCommerce.ecommerce_app.responses.OrderLineAggregateDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsTest() {
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldAllowReflectiveAccessToEntities() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(Order.class.getDeclaredConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(OrderItem.class.getDeclaredField("order")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Order.class, "getOrderItems").test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldAllowJsonBindingOfDtos() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(PlaceOrderRequestDto.class, "setItems").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(OrderDetailsResponseDto.class.getMethod("getItems")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(OrderLineAggregateDto.class.getMethod("getUnitsSold")).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldAllowReflectiveAccessToEnumConstants() throws Exception {
+        for (Class<?> type : new Class<?>[]{Role.class, ExportFormat.class, FactGroupBy.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onMethod(type.getMethod("values")).test(hints), type.getName());
+            assertTrue(RuntimeHintsPredicates.reflection().onField(type.getField(type.getEnumConstants()[0].toString())).test(hints),
+                    type.getName());
+        }
+    }
+}
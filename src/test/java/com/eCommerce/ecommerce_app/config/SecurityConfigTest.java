@@ -0,0 +1,46 @@
+package com.eCommerce.ecommerce_app.config;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityConfigTest {
+
+    @Mock
+    private AuthService authService;
+
+    @Test
+    void adminToken_ShouldGrantActuatorAccessToAdminsOnly() {
+        User admin = new User();
+        admin.getRoles().add(Role.ADMIN);
+        User customer = new User();
+        customer.getRoles().add(Role.USER);
+        when(authService.getUserByToken("admin-token")).thenReturn(admin);
+        when(authService.getUserByToken("user-token")).thenReturn(customer);
+        AuthorizationManager<RequestAuthorizationContext> manager = SecurityConfig.adminToken(authService);
+
+        assertTrue(manager.authorize(() -> null, contextWithToken("admin-token")).isGranted());
+        assertFalse(manager.authorize(() -> null, contextWithToken("user-token")).isGranted());
+        assertFalse(manager.authorize(() -> null, contextWithToken("unknown")).isGranted());
+        assertFalse(manager.authorize(() -> null, contextWithToken(null)).isGranted());
+    }
+
+    private static RequestAuthorizationContext contextWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/metrics");
+        if (token != null) {
+            request.addHeader("Authorization", token);
+        }
+        return new RequestAuthorizationContext(request);
+    }
+}
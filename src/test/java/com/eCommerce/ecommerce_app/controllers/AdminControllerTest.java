@@ -0,0 +1,204 @@
+package com.eCommerce.ecommerce_app.controllers;
+
+import com.eCommerce.ecommerce_app.analytics.FactGroupBy;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.exceptions.ForbiddenException;
+import com.eCommerce.ecommerce_app.exceptions.UnauthorizedException;
+import com.eCommerce.ecommerce_app.responses.DailySalesDto;
+import com.eCommerce.ecommerce_app.responses.OrderLineAggregateDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.OrderAnalyticsService;
+import com.eCommerce.ecommerce_app.services.OrderExportService;
+import com.eCommerce.ecommerce_app.services.OrderService;
+import com.eCommerce.ecommerce_app.services.SalesReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminControllerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    @Mock
+    private OrderExportService orderExportService;
+
+    @Mock
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @InjectMocks
+    private AdminController adminController;
+
+    private User adminUser;
+    private User normalUser;
+
+    @BeforeEach
+    void setUp() {
+        adminUser = new User();
+        adminUser.getRoles().add(Role.ADMIN);
+
+        normalUser = new User();
+        normalUser.getRoles().add(Role.USER);
+    }
+
+    @Test
+    void rebuildOrderDocuments_ShouldReturnOk_WhenAdmin() {
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+        when(orderService.rebuildReadModel()).thenReturn(12);
+
+        ResponseEntity<String> response = adminController.rebuildOrderDocuments("admin-token");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Rebuilt 12 order documents", response.getBody());
+    }
+
+    @Test
+    void rebuildOrderDocuments_ShouldReturnForbidden_WhenUserIsNotAdmin() {
+        when(authService.getUserByToken("user-token")).thenReturn(normalUser);
+
+        assertThrows(ForbiddenException.class, () -> adminController.rebuildOrderDocuments("user-token"));
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void rebuildOrderDocuments_ShouldReturnUnauthorized_WhenTokenIsMissing() {
+        assertThrows(UnauthorizedException.class, () -> adminController.rebuildOrderDocuments(null));
+
+        verifyNoInteractions(authService, orderService);
+    }
+
+    @Test
+    void dailySales_ShouldReturnAggregates_WhenAdmin() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        List<DailySalesDto> sales = List.of(new DailySalesDto(from, 3L, new BigDecimal("30.00"), new BigDecimal("36.90")));
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+        when(salesReportService.dailySales(from, to, null)).thenReturn(sales);
+
+        ResponseEntity<List<DailySalesDto>> response = adminController.dailySales("admin-token", from, to, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(sales, response.getBody());
+    }
+
+    @Test
+    void productSales_ShouldReturnForbidden_WhenUserIsNotAdmin() {
+        when(authService.getUserByToken("user-token")).thenReturn(normalUser);
+
+        assertThrows(ForbiddenException.class,
+                () -> adminController.productSales("user-token", LocalDate.now(), LocalDate.now(), 10));
+
+        verifyNoInteractions(salesReportService);
+    }
+
+    @Test
+    void rebuildSales_ShouldReportRebuiltRows_WhenAdmin() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+        when(salesReportService.rebuild(from, to)).thenReturn(42);
+
+        ResponseEntity<String> response = adminController.rebuildSales("admin-token", from, to);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Rebuilt 42 daily sales rows", response.getBody());
+    }
+
+    @Test
+    void exportOrders_ShouldStreamRequestedFormat_WhenAdmin() throws Exception {
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+
+        ResponseEntity<StreamingResponseBody> response = adminController.exportOrders("admin-token", from, to, "ndjson", true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("application/gzip"), response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"orders-from-2025-01-01-to-2025-01-31.ndjson.gz\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(orderExportService).export(from, to, ExportFormat.NDJSON, true, out);
+    }
+
+    @Test
+    void exportOrders_ShouldReturnBadRequest_WhenFormatIsUnknown() {
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+
+        ResponseEntity<StreamingResponseBody> response = adminController.exportOrders("admin-token", null, null, "xlsx", false);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(orderExportService);
+    }
+
+    @Test
+    void exportOrders_ShouldReturnForbidden_WhenNotAdmin() {
+        when(authService.getUserByToken("user-token")).thenReturn(normalUser);
+
+        assertThrows(ForbiddenException.class,
+                () -> adminController.exportOrders("user-token", null, null, "csv", false));
+
+        verifyNoInteractions(orderExportService);
+    }
+
+    @Test
+    void orderLineAnalytics_ShouldQueryColumnarStore_WhenAdmin() {
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        List<OrderLineAggregateDto> rows = List.of(new OrderLineAggregateDto("Poland", 12L,
+                new BigDecimal("100.00"), new BigDecimal("123.00"), 4L));
+        when(orderAnalyticsService.aggregate(from, null, FactGroupBy.COUNTRY, null, null, 100)).thenReturn(rows);
+
+        ResponseEntity<List<OrderLineAggregateDto>> response =
+                adminController.orderLineAnalytics("admin-token", from, null, "country", null, null, 100);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(rows, response.getBody());
+    }
+
+    @Test
+    void orderLineAnalytics_ShouldReturnBadRequest_WhenGroupingIsUnknown() {
+        when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
+
+        ResponseEntity<List<OrderLineAggregateDto>> response =
+                adminController.orderLineAnalytics("admin-token", null, null, "hour", null, null, 100);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(orderAnalyticsService);
+    }
+
+    @Test
+    void rebuildAnalytics_ShouldReturnForbidden_WhenNotAdmin() {
+        when(authService.getUserByToken("user-token")).thenReturn(normalUser);
+
+        assertThrows(ForbiddenException.class, () -> adminController.rebuildAnalytics("user-token"));
+
+        verifyNoInteractions(orderAnalyticsService);
+    }
+}
@@ -0,0 +1,110 @@
+package com.eCommerce.ecommerce_app.controllers;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.responses.CartResponseDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.CartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.ObjectError;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartControllerTest {
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private BindingResult bindingResult;
+
+    @InjectMocks
+    private CartController cartController;
+
+    private User user;
+    private OrderItemRequestDto itemDto;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+
+        itemDto = new OrderItemRequestDto();
+        itemDto.setProductId(10L);
+        itemDto.setQuantity(2);
+    }
+
+    @Test
+    void addItem_ShouldReturnCart_WhenItemIsHeld() {
+        CartResponseDto cart = new CartResponseDto();
+        cart.setMessage("Item added to cart");
+        when(bindingResult.hasErrors()).thenReturn(false);
+        when(authService.getUserByToken("token")).thenReturn(user);
+        when(cartService.addItem(user, itemDto)).thenReturn(cart);
+
+        ResponseEntity<CartResponseDto> response = cartController.addItem("token", itemDto, bindingResult);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(cart, response.getBody());
+    }
+
+    @Test
+    void addItem_ShouldReturnBadRequest_WhenValidationFails() {
+        when(bindingResult.hasErrors()).thenReturn(true);
+        when(bindingResult.getAllErrors()).thenReturn(List.of(new ObjectError("quantity", "Quantity must be at least 1")));
+
+        ResponseEntity<CartResponseDto> response = cartController.addItem("token", itemDto, bindingResult);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Validation failed: Quantity must be at least 1", response.getBody().getMessage());
+        verifyNoInteractions(cartService);
+    }
+
+    @Test
+    void addItem_ShouldReturnUnauthorized_WhenTokenIsInvalid() {
+        when(bindingResult.hasErrors()).thenReturn(false);
+        when(authService.getUserByToken("bad")).thenReturn(null);
+
+        ResponseEntity<CartResponseDto> response = cartController.addItem("bad", itemDto, bindingResult);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verifyNoInteractions(cartService);
+    }
+
+    @Test
+    void removeItem_ShouldReturnCart() {
+        CartResponseDto cart = new CartResponseDto();
+        when(authService.getUserByToken("token")).thenReturn(user);
+        when(cartService.removeItem(user, 10L)).thenReturn(cart);
+
+        ResponseEntity<CartResponseDto> response = cartController.removeItem("token", 10L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(cart, response.getBody());
+    }
+
+    @Test
+    void getCart_ShouldReturnUnauthorized_WhenTokenIsInvalid() {
+        when(authService.getUserByToken("bad")).thenReturn(null);
+
+        ResponseEntity<CartResponseDto> response = cartController.getCart("bad");
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verifyNoInteractions(cartService);
+    }
+}
@@ -8,8 +8,11 @@ import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
 import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
 import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
 import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
+import com.eCommerce.ecommerce_app.respositories.OrderRepository;
 import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.OrderGroupCommitter;
 import com.eCommerce.ecommerce_app.services.OrderService;
+import com.eCommerce.ecommerce_app.services.RenderedOrderDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,11 +20,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 
@@ -37,6 +42,9 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderGroupCommitter orderGroupCommitter;
+
     @Mock
     private BindingResult bindingResult;
 
@@ -169,22 +177,45 @@ class OrderControllerTest {
         user.setId(10L);
         user.setRoles(Set.of(Role.USER));
 
-        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
-        customer.setId(user.getId());
-
-        OrderDetailsResponseDto orderDetails = new OrderDetailsResponseDto();
-        orderDetails.setCustomer(customer);
+        RenderedOrderDetails orderDetails = rendered(orderId, user.getId(), 0);
 
         when(authService.getUserByToken("valid-token")).thenReturn(user);
-        when(orderService.getOrderDetails(orderId)).thenReturn(orderDetails);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(null);
+        when(orderService.getOrderVersion(orderId)).thenReturn(versionView(orderId, user.getId(), 0));
+        when(orderService.loadRenderedOrderDetails(orderId)).thenReturn(orderDetails);
 
-        ResponseEntity<OrderDetailsResponseDto> response = orderController.getOrderDetails("valid-token", orderId);
+        ResponseEntity<?> response = orderController.getOrderDetails("valid-token", orderId, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(orderDetails, response.getBody());
+        assertSame(orderDetails.getBody(), response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("\"order-1-v0\"", response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
 
         verify(authService).getUserByToken("valid-token");
-        verify(orderService).getOrderDetails(orderId);
+        verify(orderService).loadRenderedOrderDetails(orderId);
+    }
+
+    @Test
+    void getOrderDetails_ShouldServeStoredPayloadWithoutAssemblingOrder() {
+        Long orderId = 8L;
+
+        User user = new User();
+        user.setId(10L);
+        user.setRoles(Set.of(Role.USER));
+
+        RenderedOrderDetails orderDetails = rendered(orderId, user.getId(), 0);
+
+        when(authService.getUserByToken("valid-token")).thenReturn(user);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(orderDetails);
+
+        ResponseEntity<?> response = orderController.getOrderDetails("valid-token", orderId, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(orderDetails.getBody(), response.getBody());
+
+        verify(orderService, never()).getOrderVersion(any());
+        verify(orderService, never()).loadRenderedOrderDetails(any());
     }
 
     @Test
@@ -195,22 +226,57 @@ class OrderControllerTest {
         adminUser.setId(99L);
         adminUser.setRoles(Set.of(Role.ADMIN));
 
-        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
-        customer.setId(10L);
-
-        OrderDetailsResponseDto orderDetails = new OrderDetailsResponseDto();
-        orderDetails.setCustomer(customer);
+        RenderedOrderDetails orderDetails = rendered(orderId, 10L, 0);
 
         when(authService.getUserByToken("admin-token")).thenReturn(adminUser);
-        when(orderService.getOrderDetails(orderId)).thenReturn(orderDetails);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(orderDetails);
 
-        ResponseEntity<OrderDetailsResponseDto> response = orderController.getOrderDetails("admin-token", orderId);
+        ResponseEntity<?> response = orderController.getOrderDetails("admin-token", orderId, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(orderDetails, response.getBody());
+        assertSame(orderDetails.getBody(), response.getBody());
 
         verify(authService).getUserByToken("admin-token");
-        verify(orderService).getOrderDetails(orderId);
+    }
+
+    @Test
+    void getOrderDetails_ShouldReturnNotModified_WhenETagMatches() {
+        Long orderId = 6L;
+
+        User user = new User();
+        user.setId(10L);
+        user.setRoles(Set.of(Role.USER));
+
+        when(authService.getUserByToken("valid-token")).thenReturn(user);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(null);
+        when(orderService.getOrderVersion(orderId)).thenReturn(versionView(orderId, user.getId(), 0));
+
+        ResponseEntity<?> response =
+                orderController.getOrderDetails("valid-token", orderId, "W/\"other\", \"order-6-v0\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"order-6-v0\"", response.getHeaders().getETag());
+
+        verify(orderService, never()).loadRenderedOrderDetails(any());
+    }
+
+    @Test
+    void getOrderDetails_ShouldReturnOk_WhenETagIsStale() {
+        Long orderId = 7L;
+
+        User user = new User();
+        user.setId(10L);
+        user.setRoles(Set.of(Role.USER));
+
+        when(authService.getUserByToken("valid-token")).thenReturn(user);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(rendered(orderId, user.getId(), 1));
+
+        ResponseEntity<?> response =
+                orderController.getOrderDetails("valid-token", orderId, "\"order-7-v0\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"order-7-v1\"", response.getHeaders().getETag());
     }
 
     @Test
@@ -219,11 +285,11 @@ class OrderControllerTest {
 
         when(authService.getUserByToken("invalid-token")).thenReturn(null);
 
-        ResponseEntity<OrderDetailsResponseDto> response = orderController.getOrderDetails("invalid-token", orderId);
+        ResponseEntity<?> response = orderController.getOrderDetails("invalid-token", orderId, null);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertTrue(response.getBody().getMessage().contains("Unauthorized"));
+        OrderDetailsResponseDto body = assertInstanceOf(OrderDetailsResponseDto.class, response.getBody());
+        assertTrue(body.getMessage().contains("Unauthorized"));
 
         verify(authService).getUserByToken("invalid-token");
         verifyNoInteractions(orderService);
@@ -237,23 +303,36 @@ class OrderControllerTest {
         user.setId(10L);
         user.setRoles(Set.of(Role.USER));
 
-        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
-        customer.setId(99L);
-
-        OrderDetailsResponseDto orderDetails = new OrderDetailsResponseDto();
-        orderDetails.setCustomer(customer);
-
         when(authService.getUserByToken("valid-token")).thenReturn(user);
-        when(orderService.getOrderDetails(orderId)).thenReturn(orderDetails);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(null);
+        when(orderService.getOrderVersion(orderId)).thenReturn(versionView(orderId, 99L, 0));
 
-        ResponseEntity<OrderDetailsResponseDto> response = orderController.getOrderDetails("valid-token", orderId);
+        ResponseEntity<?> response = orderController.getOrderDetails("valid-token", orderId, null);
 
         assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertTrue(response.getBody().getMessage().contains("Access denied"));
+        OrderDetailsResponseDto body = assertInstanceOf(OrderDetailsResponseDto.class, response.getBody());
+        assertTrue(body.getMessage().contains("Access denied"));
 
         verify(authService).getUserByToken("valid-token");
-        verify(orderService).getOrderDetails(orderId);
+        verify(orderService).getOrderVersion(orderId);
+        verify(orderService, never()).loadRenderedOrderDetails(any());
+    }
+
+    @Test
+    void getOrderDetails_ShouldReturnForbidden_WhenStoredOrderBelongsToAnotherUser() {
+        Long orderId = 9L;
+
+        User user = new User();
+        user.setId(10L);
+        user.setRoles(Set.of(Role.USER));
+
+        when(authService.getUserByToken("valid-token")).thenReturn(user);
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(rendered(orderId, 99L, 0));
+
+        ResponseEntity<?> response = orderController.getOrderDetails("valid-token", orderId, null);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertInstanceOf(OrderDetailsResponseDto.class, response.getBody());
     }
 
     @Test
@@ -265,14 +344,40 @@ class OrderControllerTest {
         user.setRoles(Set.of(Role.USER));
 
         when(authService.getUserByToken("valid-token")).thenReturn(user);
-        when(orderService.getOrderDetails(orderId)).thenThrow(new OrderNotFoundException("Order with id " + orderId + " not found"));
+        when(orderService.findRenderedOrderDetails(orderId)).thenReturn(null);
+        when(orderService.getOrderVersion(orderId)).thenThrow(new OrderNotFoundException("Order with id " + orderId + " not found"));
 
         OrderNotFoundException ex = assertThrows(OrderNotFoundException.class, () ->
-                orderController.getOrderDetails("valid-token", orderId));
+                orderController.getOrderDetails("valid-token", orderId, null));
 
         assertEquals("Order with id 5 not found", ex.getMessage());
 
         verify(authService).getUserByToken("valid-token");
-        verify(orderService).getOrderDetails(orderId);
+        verify(orderService).getOrderVersion(orderId);
+        verify(orderService, never()).loadRenderedOrderDetails(any());
+    }
+
+    private static RenderedOrderDetails rendered(Long orderId, Long ownerId, Integer version) {
+        return new RenderedOrderDetails(orderId, ownerId, version,
+                ("{\"orderId\":" + orderId + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderRepository.OrderVersionView versionView(Long orderId, Long userId, Integer version) {
+        return new OrderRepository.OrderVersionView() {
+            @Override
+            public Long getId() {
+                return orderId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Integer getVersion() {
+                return version;
+            }
+        };
     }
 }
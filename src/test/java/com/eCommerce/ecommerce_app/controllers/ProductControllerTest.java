@@ -5,8 +5,12 @@ import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.enums.Role;
 import com.eCommerce.ecommerce_app.requests.ProductRequestDto;
 import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductSearchResultDto;
+import com.eCommerce.ecommerce_app.responses.ProductSuggestionDto;
+import com.eCommerce.ecommerce_app.responses.TrendingProductDto;
 import com.eCommerce.ecommerce_app.services.AuthService;
 import com.eCommerce.ecommerce_app.services.ProductService;
+import com.eCommerce.ecommerce_app.trending.TrendingWindow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -159,4 +163,45 @@ class ProductControllerTest {
         verify(bindingResult).hasErrors();
     }
 
-}
\ No newline at end of file
+    @Test
+    void search_ShouldReturnResultsFromService() {
+        List<ProductSearchResultDto> results = List.of(new ProductSearchResultDto(1L, "Test Product", true, 2.0));
+        when(productService.search("test", 20, true)).thenReturn(results);
+
+        ResponseEntity<List<ProductSearchResultDto>> response = productController.search("test", 20, true);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    void autocomplete_ShouldReturnSuggestionsFromService() {
+        List<ProductSuggestionDto> suggestions = List.of(new ProductSuggestionDto(1L, "Test Product"));
+        when(productService.autocomplete("tes", 10)).thenReturn(suggestions);
+
+        ResponseEntity<List<ProductSuggestionDto>> response = productController.autocomplete("tes", 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(suggestions, response.getBody());
+    }
+
+    @Test
+    void trending_ShouldResolveWindowLabel() {
+        List<TrendingProductDto> trending = List.of(new TrendingProductDto(1L, "Test Product", 12, 0));
+        when(productService.trending(TrendingWindow.ONE_DAY, 10)).thenReturn(trending);
+
+        ResponseEntity<List<TrendingProductDto>> response = productController.trending("24h", 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(trending, response.getBody());
+    }
+
+    @Test
+    void trending_ShouldRejectUnknownWindow() {
+        ResponseEntity<List<TrendingProductDto>> response = productController.trending("7d", 10);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(productService);
+    }
+}
@@ -0,0 +1,89 @@
+package com.eCommerce.ecommerce_app.controllers;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.requests.VatRateChangeRequestDto;
+import com.eCommerce.ecommerce_app.responses.VatRateResponseDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.VatRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VatRateControllerTest {
+
+    @Mock
+    private VatRateService vatRateService;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private BindingResult bindingResult;
+
+    @InjectMocks
+    private VatRateController vatRateController;
+
+    private VatRateChangeRequestDto changeDto;
+
+    @BeforeEach
+    void setUp() {
+        changeDto = new VatRateChangeRequestDto();
+        changeDto.setOldRate(BigDecimal.valueOf(23));
+        changeDto.setNewRate(BigDecimal.valueOf(25));
+    }
+
+    @Test
+    void changeVatRate_ShouldReturnOk_WhenAdmin() {
+        User admin = new User();
+        admin.getRoles().add(Role.ADMIN);
+
+        when(bindingResult.hasErrors()).thenReturn(false);
+        when(authService.getUserByToken("admin-token")).thenReturn(admin);
+        when(vatRateService.changeVatRate(changeDto.getOldRate(), changeDto.getNewRate())).thenReturn(42);
+
+        ResponseEntity<VatRateResponseDto> response = vatRateController.changeVatRate("admin-token", changeDto, bindingResult);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(42, response.getBody().getRepricedProducts());
+        assertEquals(changeDto.getNewRate(), response.getBody().getRate());
+    }
+
+    @Test
+    void changeVatRate_ShouldReturnForbidden_WhenUserIsNotAdmin() {
+        User user = new User();
+        user.getRoles().add(Role.USER);
+
+        when(bindingResult.hasErrors()).thenReturn(false);
+        when(authService.getUserByToken("user-token")).thenReturn(user);
+
+        ResponseEntity<VatRateResponseDto> response = vatRateController.changeVatRate("user-token", changeDto, bindingResult);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(vatRateService);
+    }
+
+    @Test
+    void changeVatRate_ShouldReturnUnauthorized_WhenTokenIsInvalid() {
+        when(bindingResult.hasErrors()).thenReturn(false);
+        when(authService.getUserByToken("invalid-token")).thenReturn(null);
+
+        ResponseEntity<VatRateResponseDto> response = vatRateController.changeVatRate("invalid-token", changeDto, bindingResult);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verifyNoInteractions(vatRateService);
+    }
+}
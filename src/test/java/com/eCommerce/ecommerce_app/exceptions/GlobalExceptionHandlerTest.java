@@ -0,0 +1,103 @@
+package com.eCommerce.ecommerce_app.exceptions;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalExceptionHandlerTest {
+
+    @Mock
+    private HttpServletRequest request;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void businessExceptions_ShouldNotCaptureStackTraceByDefault() {
+        assertEquals(0, new InsufficientStockException("Not enough stock").getStackTrace().length);
+        assertEquals(0, new ProductNotFoundException("Product ID not found: 1").getStackTrace().length);
+        assertEquals(0, new OrderNotFoundException("Order with id 1 not found").getStackTrace().length);
+    }
+
+    @Test
+    void handleInsufficientStock_ShouldReturnBadRequestProblem() {
+        when(request.getRequestURI()).thenReturn("/api/orders/place-order");
+
+        ResponseEntity<ProblemDetail> response = handler.handleInsufficientStock(
+                new InsufficientStockException("Not enough stock for product: Book"), request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ProblemDetail problem = response.getBody();
+        assertNotNull(problem);
+        assertEquals("Insufficient Stock", problem.getTitle());
+        assertEquals(URI.create("insufficient-stock"), problem.getType());
+        assertEquals("Not enough stock for product: Book", problem.getDetail());
+        assertEquals("insufficient-stock", problem.getProperties().get("errorCode"));
+        assertEquals("/api/orders/place-order", problem.getProperties().get("path"));
+        assertNotNull(problem.getProperties().get("timestamp"));
+    }
+
+    @Test
+    void handleForbidden_ShouldReturnForbiddenProblemWithReason() {
+        when(request.getRequestURI()).thenReturn("/api/admin/sales/daily");
+
+        ResponseEntity<ProblemDetail> response = handler.handleForbidden(
+                new ForbiddenException("Access denied: insufficient permissions."), request);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        ProblemDetail problem = response.getBody();
+        assertNotNull(problem);
+        assertEquals("Access Denied", problem.getTitle());
+        assertEquals("Access denied: insufficient permissions.", problem.getDetail());
+        assertEquals("access-denied", problem.getProperties().get("errorCode"));
+    }
+
+    @Test
+    void handleUnauthorized_ShouldReturnUnauthorizedProblemWithReason() {
+        when(request.getRequestURI()).thenReturn("/api/admin/orders/export");
+
+        ResponseEntity<ProblemDetail> response = handler.handleUnauthorized(
+                new UnauthorizedException("Unauthorized: token is missing or invalid"), request);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Unauthorized: token is missing or invalid", response.getBody().getDetail());
+        assertEquals("/api/admin/orders/export", response.getBody().getProperties().get("path"));
+    }
+
+    @Test
+    void handleOrderNotFound_ShouldReuseProblemTypeAcrossResponses() {
+        when(request.getRequestURI()).thenReturn("/api/orders/get/1");
+
+        ProblemDetail first = handler.handleOrderNotFound(new OrderNotFoundException("Order with id 1 not found"), request).getBody();
+        ProblemDetail second = handler.handleOrderNotFound(new OrderNotFoundException("Order with id 2 not found"), request).getBody();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertSame(first.getType(), second.getType());
+        assertEquals(HttpStatus.NOT_FOUND.value(), second.getStatus());
+        assertEquals("Order with id 2 not found", second.getDetail());
+    }
+
+    @Test
+    void handleProductAlreadyExists_ShouldReturnConflictProblem() {
+        when(request.getRequestURI()).thenReturn("/api/products/add");
+
+        ResponseEntity<ProblemDetail> response = handler.handleProductAlreadyExists(
+                new ProductAlreadyExistsException("A product with this name already exists."), request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("product-already-exists", response.getBody().getProperties().get("errorCode"));
+    }
+}
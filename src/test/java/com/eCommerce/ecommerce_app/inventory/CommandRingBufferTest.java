@@ -0,0 +1,77 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandRingBufferTest {
+
+    @Test
+    void drainTo_ShouldReturnItemsInPublishOrder() {
+        CommandRingBuffer<Integer> ring = new CommandRingBuffer<>(4);
+        ring.publish(1);
+        ring.publish(2);
+        ring.publish(3);
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ring.drainTo(drained, 2));
+        assertEquals(1, ring.drainTo(drained, 10));
+        assertEquals(List.of(1, 2, 3), drained);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void publish_ShouldReuseSlotsAfterTheyAreConsumed() {
+        CommandRingBuffer<Integer> ring = new CommandRingBuffer<>(2);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ring.publish(i);
+            ring.drainTo(drained, 1);
+        }
+
+        assertEquals(10, drained.size());
+        assertEquals(9, drained.get(9));
+    }
+
+    @Test
+    void constructor_ShouldRejectCapacityThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandRingBuffer<>(6));
+    }
+
+    @Test
+    void publish_ShouldNotLoseItemsWithConcurrentProducers() throws InterruptedException {
+        CommandRingBuffer<Integer> ring = new CommandRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ring.publish(base + i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            ring.drainTo(batch, 32);
+            seen.addAll(batch);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, seen.size());
+    }
+}
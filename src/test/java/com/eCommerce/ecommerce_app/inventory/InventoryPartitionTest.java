@@ -0,0 +1,128 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryPartitionTest {
+
+    @TempDir
+    Path dir;
+
+    private final Map<Long, Integer> database = new HashMap<>(Map.of(1L, 5, 2L, 1));
+    private final List<Map<Long, Integer>> flushed = new ArrayList<>();
+
+    @Test
+    void process_ShouldReserveAllOrNothingAndJournalNewQuantities() throws Exception {
+        Path journalFile = dir.resolve("partition-0.journal");
+        InventoryPartition partition = partition(journalFile);
+
+        StockCommand reserve = new StockCommand(Map.of(1L, -3), true);
+        StockCommand tooMuch = new StockCommand(Map.of(1L, -1, 2L, -2), true);
+        StockCommand unknown = new StockCommand(Map.of(9L, -1), true);
+        partition.process(List.of(reserve, tooMuch, unknown));
+
+        assertTrue(reserve.getResult().get().isReserved());
+        assertEquals(2L, tooMuch.getResult().get().getShortProductId());
+        assertEquals(9L, unknown.getResult().get().getShortProductId());
+        assertEquals(Map.of(1L, 2), InventoryJournal.replay(journalFile));
+    }
+
+    @Test
+    void process_ShouldDropJournalRecordsOfARevertedBatch() throws Exception {
+        Path journalFile = dir.resolve("partition-0.journal");
+        InventoryPartition partition = new InventoryPartition(0, 8, new InventoryJournal(journalFile),
+                productId -> {
+                    if (productId == 99L) {
+                        throw new IllegalStateException("database down");
+                    }
+                    return database.getOrDefault(productId, 10);
+                }, flushed::add, Long.MAX_VALUE, 10_000);
+        partition.process(List.of(new StockCommand(Map.of(2L, -1), true)));
+
+        Map<Long, Integer> manyProducts = new HashMap<>();
+        for (long productId = 100; productId < 1_200; productId++) {
+            manyProducts.put(productId, -1);
+        }
+        StockCommand large = new StockCommand(manyProducts, true);
+        StockCommand reserve = new StockCommand(Map.of(1L, -3), true);
+        StockCommand failing = new StockCommand(Map.of(99L, -1), true);
+        partition.process(List.of(large, reserve, failing));
+
+        assertTrue(reserve.getResult().isCompletedExceptionally());
+        assertEquals(Map.of(2L, 0), InventoryJournal.replay(journalFile));
+
+        partition.process(List.of(new StockCommand(Map.of(1L, -1), true)));
+
+        assertEquals(Map.of(2L, 0, 1L, 4), InventoryJournal.replay(journalFile));
+    }
+
+    @Test
+    void flush_ShouldWriteDirtyQuantitiesAndTruncateJournal() throws Exception {
+        Path journalFile = dir.resolve("partition-0.journal");
+        InventoryPartition partition = partition(journalFile);
+
+        partition.process(List.of(new StockCommand(Map.of(1L, -2), true), new StockCommand(Map.of(1L, 4), false)));
+        partition.flush();
+
+        assertEquals(List.of(Map.of(1L, 7)), flushed);
+        assertEquals(0, Files.size(journalFile));
+        assertEquals(1, partition.flushes());
+    }
+
+    @Test
+    void flush_ShouldKeepJournal_WhenDatabaseWriteFails() throws Exception {
+        Path journalFile = dir.resolve("partition-0.journal");
+        InventoryPartition partition = new InventoryPartition(0, 8, new InventoryJournal(journalFile),
+                database::get, quantities -> {
+                    throw new IllegalStateException("database down");
+                }, Long.MAX_VALUE, 100);
+
+        partition.process(List.of(new StockCommand(Map.of(1L, -1), true)));
+        partition.flush();
+
+        assertEquals(Map.of(1L, 4), InventoryJournal.replay(journalFile));
+    }
+
+    @Test
+    void run_ShouldServeSubmittedCommandsOnItsOwnThread() throws Exception {
+        InventoryPartition partition = partition(dir.resolve("partition-0.journal"));
+        Thread thread = new Thread(partition);
+        thread.start();
+
+        StockCommand command = new StockCommand(Map.of(1L, -5), true);
+        partition.submit(command);
+
+        assertTrue(command.getResult().get().isReserved());
+        partition.stop();
+        thread.join();
+        assertEquals(List.of(Map.of(1L, 0)), flushed);
+    }
+
+    @Test
+    void replay_ShouldIgnoreTornTrailingRecord() throws IOException {
+        Path journalFile = dir.resolve("partition-1.journal");
+        try (InventoryJournal journal = new InventoryJournal(journalFile)) {
+            journal.append(1L, 3);
+            journal.append(1L, 2);
+        }
+        Files.write(journalFile, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        assertEquals(Map.of(1L, 2), InventoryJournal.replay(journalFile));
+    }
+
+    private InventoryPartition partition(Path journalFile) throws IOException {
+        return new InventoryPartition(0, 8, new InventoryJournal(journalFile), database::get, flushed::add,
+                Long.MAX_VALUE, 100);
+    }
+}
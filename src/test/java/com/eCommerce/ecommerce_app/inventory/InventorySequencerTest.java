@@ -0,0 +1,102 @@
+package com.eCommerce.ecommerce_app.inventory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventorySequencerTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, CountDownLatch> blockedLoads = new ConcurrentHashMap<>();
+    private final Map<Long, RuntimeException> failedLoads = new ConcurrentHashMap<>();
+    private InventorySequencer sequencer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<Long, Integer> database = Map.of(1L, 5, 2L, 3);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object.class))).thenAnswer(inv -> {
+            Long productId = inv.getArgument(2);
+            CountDownLatch blocked = blockedLoads.get(productId);
+            if (blocked != null) {
+                blocked.await();
+            }
+            RuntimeException failure = failedLoads.remove(productId);
+            if (failure != null) {
+                throw failure;
+            }
+            return database.get(productId);
+        });
+        sequencer = new InventorySequencer(jdbcTemplate, transactionManager, eventPublisher, true, 2, 8,
+                dir.toString(), 60_000, 1_000, 200);
+        sequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        blockedLoads.values().forEach(CountDownLatch::countDown);
+        sequencer.stop();
+    }
+
+    @Test
+    void reserve_ShouldReleaseOtherPartitions_WhenOnePartitionFails() throws Exception {
+        failedLoads.put(2L, new IllegalStateException("database down"));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> sequencer.reserve(Map.of(1L, 5, 2L, 1)));
+        assertEquals("Inventory command failed", ex.getMessage());
+
+        assertEquals(ReservationResult.RESERVED, reserveWhenReleased(Map.of(1L, 5, 2L, 3)));
+    }
+
+    @Test
+    void reserve_ShouldReleaseLateReservation_WhenPartitionTimesOut() throws Exception {
+        CountDownLatch slowLoad = new CountDownLatch(1);
+        blockedLoads.put(2L, slowLoad);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> sequencer.reserve(Map.of(1L, 5, 2L, 3)));
+        assertEquals("Inventory command timed out", ex.getMessage());
+
+        slowLoad.countDown();
+        assertEquals(ReservationResult.RESERVED, reserveWhenReleased(Map.of(1L, 5, 2L, 3)));
+    }
+
+    private ReservationResult reserveWhenReleased(Map<Long, Integer> quantities) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        ReservationResult result = sequencer.reserve(quantities);
+        while (!result.isReserved() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            result = sequencer.reserve(quantities);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.eCommerce.ecommerce_app.membership;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MembershipFilterTest {
+
+    @Test
+    void mightContain_ShouldAnswerYesUntilLoaded() {
+        MembershipFilter filter = new MembershipFilter("test", 0.01);
+
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain("anything"));
+        assertEquals(0, filter.getSkipped());
+    }
+
+    @Test
+    void mightContain_ShouldNeverMissLoadedOrAddedKeys() {
+        MembershipFilter filter = new MembershipFilter("test", 0.01);
+        filter.rebuild(1000, sink -> {
+            for (int i = 0; i < 1000; i++) {
+                sink.accept("user" + i);
+            }
+        });
+        filter.add("late");
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+        }
+        assertTrue(filter.mightContain("late"));
+    }
+
+    @Test
+    void rebuild_ShouldKeepKeysAddedWhileLoading() {
+        MembershipFilter filter = new MembershipFilter("test", 0.01);
+        filter.rebuild(1, sink -> sink.accept("old"));
+
+        filter.rebuild(2, sink -> {
+            sink.accept("old");
+            filter.add("during");
+        });
+
+        assertTrue(filter.mightContain("during"));
+        assertTrue(filter.mightContain("old"));
+    }
+
+    @Test
+    void bloomFilter_ShouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("member-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("stranger-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives / 100_000.0 < 0.02, "false positive rate " + falsePositives / 100_000.0);
+        assertEquals(0.01, bloomFilter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    void observedFalsePositiveRate_ShouldCompareFalsePositivesWithSkippedProbes() {
+        MembershipFilter filter = new MembershipFilter("test", 0.01);
+        filter.rebuild(1, sink -> sink.accept("present"));
+
+        for (String key : List.of("a", "b", "c")) {
+            assertFalse(filter.mightContain(key));
+        }
+        filter.recordFalsePositive();
+
+        assertEquals(3, filter.getSkipped());
+        assertEquals(0.25, filter.observedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,98 @@
+package com.eCommerce.ecommerce_app.money;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyBenchmarkTest {
+
+    private static final int LINES = 100;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int BASKETS_PER_ROUND = 20_000;
+
+    private final BigDecimal[] netPrices = new BigDecimal[LINES];
+    private final BigDecimal[] grossPrices = new BigDecimal[LINES];
+    private final int[] quantities = new int[LINES];
+
+    MoneyBenchmarkTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < LINES; i++) {
+            netPrices[i] = BigDecimal.valueOf(1 + random.nextInt(100_000), Money.SCALE);
+            grossPrices[i] = Money.of(netPrices[i]).withVat(BigDecimal.valueOf(23)).toBigDecimal();
+            quantities[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Test
+    @Tag("money-benchmark")
+    void basketTotals_ShouldBeFasterWithMoneyThanWithBigDecimal() {
+        assertEquals(bigDecimalTotals(0), moneyTotals(0));
+
+        Result bigDecimal = measure(this::bigDecimalTotals);
+        Result money = measure(this::moneyTotals);
+
+        System.out.printf("basket totals, %d lines: BigDecimal %.0f baskets/ms, %d bytes/basket; "
+                        + "Money %.0f baskets/ms, %d bytes/basket%n",
+                LINES, bigDecimal.basketsPerMs(), bigDecimal.bytesPerBasket(),
+                money.basketsPerMs(), money.bytesPerBasket());
+        assertTrue(money.bytesPerBasket() < bigDecimal.bytesPerBasket());
+    }
+
+    private long bigDecimalTotals(int basket) {
+        BigDecimal totalNet = BigDecimal.ZERO;
+        BigDecimal totalGross = BigDecimal.ZERO;
+        for (int i = 0; i < LINES; i++) {
+            BigDecimal quantity = BigDecimal.valueOf(quantities[i] + (basket & 1));
+            totalNet = totalNet.add(netPrices[i].multiply(quantity));
+            totalGross = totalGross.add(grossPrices[i].multiply(quantity));
+        }
+        return totalNet.unscaledValue().longValue() ^ totalGross.unscaledValue().longValue();
+    }
+
+    private long moneyTotals(int basket) {
+        long totalNetMinor = 0L;
+        long totalGrossMinor = 0L;
+        for (int i = 0; i < LINES; i++) {
+            int quantity = quantities[i] + (basket & 1);
+            totalNetMinor = Math.addExact(totalNetMinor, Money.of(netPrices[i]).times(quantity).getMinorUnits());
+            totalGrossMinor = Math.addExact(totalGrossMinor, Money.of(grossPrices[i]).times(quantity).getMinorUnits());
+        }
+        return totalNetMinor ^ totalGrossMinor;
+    }
+
+    private Result measure(ToLongFunction<Integer> totals) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += run(totals);
+        }
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            sink += run(totals);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertNotEquals(Long.MIN_VALUE, sink);
+        long baskets = (long) MEASURED_ROUNDS * BASKETS_PER_ROUND;
+        return new Result(baskets / (elapsedNanos / 1_000_000.0), allocated / baskets);
+    }
+
+    private static long run(ToLongFunction<Integer> totals) {
+        long sink = 0;
+        for (int basket = 0; basket < BASKETS_PER_ROUND; basket++) {
+            sink += totals.applyAsLong(basket);
+        }
+        return sink;
+    }
+
+    private record Result(double basketsPerMs, long bytesPerBasket) {
+    }
+}
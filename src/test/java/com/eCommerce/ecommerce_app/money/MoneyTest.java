@@ -0,0 +1,52 @@
+package com.eCommerce.ecommerce_app.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void of_ShouldRoundToMinorUnitsHalfUp() {
+        assertEquals(1235L, Money.of(new BigDecimal("12.345")).getMinorUnits());
+        assertEquals(1234L, Money.of(new BigDecimal("12.344")).getMinorUnits());
+        assertEquals(1200L, Money.of(BigDecimal.valueOf(12)).getMinorUnits());
+    }
+
+    @Test
+    void timesAndPlus_ShouldMatchBigDecimalArithmetic() {
+        Money net = Money.of(new BigDecimal("10.99")).times(3).plus(Money.of(new BigDecimal("0.03")));
+
+        assertEquals(0, new BigDecimal("33.00").compareTo(net.toBigDecimal()));
+        assertEquals(2, net.toBigDecimal().scale());
+    }
+
+    @Test
+    void withVat_ShouldRoundGrossPriceToCents() {
+        assertEquals(Money.of(new BigDecimal("123.00")), Money.of(BigDecimal.valueOf(100)).withVat(BigDecimal.valueOf(23)));
+        assertEquals(Money.of(new BigDecimal("12.29")), Money.of(new BigDecimal("9.99")).withVat(BigDecimal.valueOf(23)));
+        assertEquals(Money.of(new BigDecimal("1.08")), Money.of(new BigDecimal("1.00")).withVat(new BigDecimal("7.5")));
+    }
+
+    @Test
+    void times_ShouldFailOnOverflow() {
+        Money huge = Money.ofMinor(Long.MAX_VALUE / 2);
+
+        assertThrows(ArithmeticException.class, () -> huge.times(3));
+    }
+
+    @Test
+    void converter_ShouldRoundTripThroughDecimalColumn() {
+        MoneyConverter converter = new MoneyConverter();
+        Money money = Money.of(new BigDecimal("61.50"));
+
+        BigDecimal column = converter.convertToDatabaseColumn(money);
+
+        assertEquals(new BigDecimal("61.50"), column);
+        assertEquals(money, converter.convertToEntityAttribute(column));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
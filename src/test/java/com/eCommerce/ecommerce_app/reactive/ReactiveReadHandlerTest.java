@@ -0,0 +1,138 @@
+package com.eCommerce.ecommerce_app.reactive;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.services.AuthService;
+import com.eCommerce.ecommerce_app.services.RenderedOrderDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadHandlerTest {
+
+    @Mock
+    private ReactiveReadRepository reactiveReadRepository;
+
+    @Mock
+    private AuthService authService;
+
+    private WebTestClient client;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToRouterFunction(
+                ReactiveReadServer.routes(new ReactiveReadHandler(reactiveReadRepository, authService, 50))).build();
+        owner = new User();
+        owner.setId(7L);
+        owner.getRoles().add(Role.USER);
+    }
+
+    @Test
+    void orderDetails_ShouldReturnStoredDocument_WhenRequestedByOwner() {
+        when(authService.getUserByToken("token")).thenReturn(owner);
+        when(reactiveReadRepository.findOrderDocument(1L)).thenReturn(Mono.just(new RenderedOrderDetails(1L, 7L, 0,
+                "{\"orderId\":1,\"customer\":{\"id\":7,\"city\":\"Warsaw\"}}".getBytes(StandardCharsets.UTF_8))));
+
+        client.get().uri("/api/orders/get/1").header("Authorization", "token").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.orderId").isEqualTo(1)
+                .jsonPath("$.customer.city").isEqualTo("Warsaw");
+
+        verify(reactiveReadRepository, never()).findOrderDetails(anyLong());
+    }
+
+    @Test
+    void orderDetails_ShouldReturnForbidden_WhenStoredDocumentBelongsToSomeoneElse() {
+        when(authService.getUserByToken("token")).thenReturn(owner);
+        when(reactiveReadRepository.findOrderDocument(1L))
+                .thenReturn(Mono.just(new RenderedOrderDetails(1L, 8L, 0, new byte[]{'{', '}'})));
+
+        client.get().uri("/api/orders/get/1").header("Authorization", "token").exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Access denied: cannot view others' orders.");
+    }
+
+    @Test
+    void orderDetails_ShouldJoinTables_WhenOrderHasNoStoredDocument() {
+        when(authService.getUserByToken("token")).thenReturn(owner);
+        when(reactiveReadRepository.findOrderDocument(1L)).thenReturn(Mono.empty());
+        when(reactiveReadRepository.findOrderDetails(1L)).thenReturn(Mono.just(orderOf(7L)));
+
+        client.get().uri("/api/orders/get/1").header("Authorization", "token").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.orderId").isEqualTo(1)
+                .jsonPath("$.customer.id").isEqualTo(7);
+    }
+
+    @Test
+    void orderDetails_ShouldReturnForbidden_WhenOrderBelongsToSomeoneElse() {
+        when(authService.getUserByToken("token")).thenReturn(owner);
+        when(reactiveReadRepository.findOrderDocument(1L)).thenReturn(Mono.empty());
+        when(reactiveReadRepository.findOrderDetails(1L)).thenReturn(Mono.just(orderOf(8L)));
+
+        client.get().uri("/api/orders/get/1").header("Authorization", "token").exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Access denied: cannot view others' orders.");
+    }
+
+    @Test
+    void orderDetails_ShouldReturnUnauthorized_WithoutValidToken() {
+        client.get().uri("/api/orders/get/1").exchange()
+                .expectStatus().isUnauthorized();
+
+        verifyNoInteractions(reactiveReadRepository);
+    }
+
+    @Test
+    void orderDetails_ShouldReturnNotFound_WhenOrderDoesNotExist() {
+        when(authService.getUserByToken("token")).thenReturn(owner);
+        when(reactiveReadRepository.findOrderDocument(42L)).thenReturn(Mono.empty());
+        when(reactiveReadRepository.findOrderDetails(42L)).thenReturn(Mono.empty());
+
+        client.get().uri("/api/orders/get/42").header("Authorization", "token").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("order-not-found");
+    }
+
+    @Test
+    void products_ShouldCapPageSize() {
+        ProductResponseDto product = new ProductResponseDto();
+        product.setId(3L);
+        when(reactiveReadRepository.findProducts(2L, 50)).thenReturn(Flux.just(product));
+
+        client.get().uri("/api/products?afterId=2&limit=500").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(3);
+    }
+
+    private static OrderDetailsResponseDto orderOf(Long customerId) {
+        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
+        customer.setId(customerId);
+        OrderDetailsResponseDto details = new OrderDetailsResponseDto();
+        details.setOrderId(1L);
+        details.setCustomer(customer);
+        return details;
+    }
+}
@@ -0,0 +1,106 @@
+package com.eCommerce.ecommerce_app.reactive;
+
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.eCommerce.ecommerce_app.responses.ProductResponseDto;
+import com.eCommerce.ecommerce_app.services.RenderedOrderDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveReadRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ReactiveReadRepository reactiveReadRepository;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:reactive-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("create table users (id bigint primary key, username varchar(255), email varchar(255), "
+                + "first_name varchar(255), last_name varchar(255), phone_number varchar(255), country varchar(255), "
+                + "city varchar(255), street varchar(255), postal_code varchar(255))");
+        jdbcTemplate.execute("create table products (id bigint primary key, name varchar(255), price numeric(19,2), "
+                + "vat numeric(5,2), price_gorss numeric(19,2), quantity int)");
+        jdbcTemplate.execute("create table orders (id bigint primary key, order_date timestamp, user_id bigint, "
+                + "total_net_value numeric(19,2), total_gross_value numeric(19,2))");
+        jdbcTemplate.execute("create table order_items (id bigint primary key, order_id bigint, product_id bigint, "
+                + "product_name varchar(255), quantity int, net_price numeric(19,2), gross_price numeric(19,2))");
+        jdbcTemplate.execute("create table order_documents (order_id bigint primary key, owner_id bigint not null, "
+                + "order_version int, document blob not null)");
+        jdbcTemplate.update("insert into users values (7, 'anna', 'anna@example.com', 'Anna', 'Nowak', '123456789', "
+                + "'Poland', 'Warsaw', 'Main Street 1', '00-001')");
+        jdbcTemplate.update("insert into products values (5, 'Desk Lamp', 10.00, 23.00, 12.30, 40)");
+        jdbcTemplate.update("insert into products values (6, 'Mug', 5.00, 23.00, 6.15, 0)");
+        jdbcTemplate.update("insert into products values (9, 'Chair', 100.00, 8.00, 108.00, 3)");
+        reactiveReadRepository = new ReactiveReadRepository(url, "sa", "", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactiveReadRepository.close();
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void findOrderDetails_ShouldMapCustomerItemsAndTotals() {
+        jdbcTemplate.update("insert into orders values (1, timestamp '2025-02-01 10:00:00', 7, 25.00, 30.75)");
+        jdbcTemplate.update("insert into order_items values (10, 1, 5, 'Desk Lamp', 2, 20.00, 24.60)");
+        jdbcTemplate.update("insert into order_items values (11, 1, 6, null, 1, 5.00, 6.15)");
+
+        OrderDetailsResponseDto details = reactiveReadRepository.findOrderDetails(1).block();
+
+        assertNotNull(details);
+        assertEquals(1L, details.getOrderId());
+        assertEquals(new BigDecimal("25.00"), details.getTotalNet());
+        assertEquals(new BigDecimal("30.75"), details.getTotalGross());
+        assertEquals(7L, details.getCustomer().getId());
+        assertEquals("Warsaw", details.getCustomer().getCity());
+        assertEquals(2, details.getItems().size());
+        assertEquals("Desk Lamp", details.getItems().get(0).getProductName());
+        assertEquals(new BigDecimal("24.60"), details.getItems().get(0).getGrossPrice());
+        assertEquals("Mug", details.getItems().get(1).getProductName());
+    }
+
+    @Test
+    void findOrderDocument_ShouldReturnCustomerAsRecordedAtOrderTime() {
+        jdbcTemplate.update("insert into orders values (1, timestamp '2025-02-01 10:00:00', 7, 25.00, 30.75)");
+        byte[] document = "{\"orderId\":1,\"customer\":{\"id\":7,\"city\":\"Warsaw\"}}".getBytes(StandardCharsets.UTF_8);
+        jdbcTemplate.update("insert into order_documents values (1, 7, 0, ?)", (Object) document);
+        jdbcTemplate.update("update users set city = 'Krakow' where id = 7");
+
+        RenderedOrderDetails rendered = reactiveReadRepository.findOrderDocument(1).block();
+
+        assertNotNull(rendered);
+        assertEquals(1L, rendered.getOrderId());
+        assertEquals(7L, rendered.getOwnerId());
+        assertEquals(0, rendered.getVersion());
+        assertArrayEquals(document, rendered.getBody());
+        assertNull(reactiveReadRepository.findOrderDocument(42).block());
+    }
+
+    @Test
+    void findOrderDetails_ShouldBeEmpty_WhenOrderDoesNotExist() {
+        assertNull(reactiveReadRepository.findOrderDetails(42).block());
+    }
+
+    @Test
+    void findProducts_ShouldPageInIdOrder() {
+        List<ProductResponseDto> page = reactiveReadRepository.findProducts(5, 10).collectList().block();
+
+        assertNotNull(page);
+        assertEquals(List.of(6L, 9L), page.stream().map(ProductResponseDto::getId).toList());
+        assertEquals("Chair", page.get(1).getName());
+        assertEquals(3, page.get(1).getQuantity());
+        assertEquals("Desk Lamp", reactiveReadRepository.findProduct(5).block().getName());
+        assertNull(reactiveReadRepository.findProduct(77).block());
+    }
+}
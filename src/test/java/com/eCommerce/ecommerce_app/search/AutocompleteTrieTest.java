@@ -0,0 +1,74 @@
+package com.eCommerce.ecommerce_app.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteTrieTest {
+
+    private final List<AutocompleteTrie.Suggestion> suggestions = List.of(
+            new AutocompleteTrie.Suggestion(1L, "Red Cotton T-Shirt", 40),
+            new AutocompleteTrie.Suggestion(2L, "Red Wool Sweater", 90),
+            new AutocompleteTrie.Suggestion(3L, "Redwood Desk", 10),
+            new AutocompleteTrie.Suggestion(4L, "Blue Cotton Hoodie", 70),
+            new AutocompleteTrie.Suggestion(5L, "Łódź Mug", 5));
+
+    @Test
+    void complete_ShouldRankByPopularity() {
+        AutocompleteTrie trie = AutocompleteTrie.build(suggestions, 3);
+
+        assertEquals(List.of(2L, 1L, 3L), ids(trie.complete("re", 10)));
+        assertEquals(List.of(2L), ids(trie.complete("Red", 1)));
+    }
+
+    @Test
+    void complete_ShouldTreatTrailingSpaceAsWordBoundary() {
+        AutocompleteTrie trie = AutocompleteTrie.build(suggestions, 3);
+
+        assertEquals(List.of(2L, 1L), ids(trie.complete("red ", 10)));
+        assertEquals(List.of(3L), ids(trie.complete("redw", 10)));
+    }
+
+    @Test
+    void complete_ShouldIgnoreCaseAndDiacritics() {
+        AutocompleteTrie trie = AutocompleteTrie.build(suggestions, 3);
+
+        assertEquals(List.of(5L), ids(trie.complete("lodz", 10)));
+        assertEquals(List.of(4L), ids(trie.complete("BLUE cot", 10)));
+        assertTrue(trie.complete("green", 10).isEmpty());
+        assertTrue(trie.complete("", 10).isEmpty());
+    }
+
+    @Test
+    void insert_ShouldReturnNewVersionAndKeepOldOneUnchanged() {
+        AutocompleteTrie original = AutocompleteTrie.build(suggestions, 3);
+
+        AutocompleteTrie updated = original.insert(new AutocompleteTrie.Suggestion(6L, "Red Cotton Socks", 60));
+
+        assertEquals(List.of(2L, 6L, 1L), ids(updated.complete("red", 10)));
+        assertEquals(List.of(6L, 1L), ids(updated.complete("red cotton", 10)));
+        assertEquals(List.of(2L, 1L, 3L), ids(original.complete("red", 10)));
+        assertEquals(6, updated.size());
+        assertEquals(5, original.size());
+    }
+
+    @Test
+    void insert_ShouldMatchBulkBuild() {
+        AutocompleteTrie incremental = AutocompleteTrie.empty(3);
+        for (AutocompleteTrie.Suggestion suggestion : suggestions) {
+            incremental = incremental.insert(suggestion);
+        }
+        AutocompleteTrie built = AutocompleteTrie.build(suggestions, 3);
+
+        for (String prefix : List.of("r", "red", "red c", "redwood", "b", "l")) {
+            assertEquals(built.complete(prefix, 3), incremental.complete(prefix, 3), prefix);
+        }
+        assertSame(incremental, incremental.insert(suggestions.get(0)));
+    }
+
+    private static List<Long> ids(List<AutocompleteTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteTrie.Suggestion::productId).toList();
+    }
+}
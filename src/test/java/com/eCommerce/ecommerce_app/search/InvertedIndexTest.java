@@ -0,0 +1,108 @@
+package com.eCommerce.ecommerce_app.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.add(1L, "Red Cotton T-Shirt", true);
+        index.add(2L, "Blue Cotton Hoodie", true);
+        index.add(3L, "Red Wool Sweater", false);
+        index.add(4L, "Łódź Żubrówka Glass", true);
+        index.add(5L, "Red Cotton T-Shirt Kids Edition", true);
+    }
+
+    @Test
+    void search_ShouldRequireAllTerms() {
+        List<InvertedIndex.Hit> hits = index.search("red cotton", 10, false);
+
+        assertEquals(List.of(1L, 5L), ids(hits));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixOfLastTerm() {
+        assertEquals(List.of(2L), ids(index.search("hoo", 10, false)));
+        assertEquals(List.of(2L), ids(index.search("blue cot", 10, false)));
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndDiacritics() {
+        assertEquals(List.of(4L), ids(index.search("LODZ zubrowka", 10, false)));
+        assertEquals(List.of(4L), ids(index.search("łódź", 10, false)));
+    }
+
+    @Test
+    void search_ShouldRankShorterMatchingNamesFirst() {
+        List<InvertedIndex.Hit> hits = index.search("shirt", 10, false);
+
+        assertEquals(List.of(1L, 5L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldFilterOutOfStockProducts() {
+        assertTrue(ids(index.search("red", 10, false)).containsAll(List.of(1L, 3L, 5L)));
+        assertFalse(ids(index.search("red", 10, true)).contains(3L));
+    }
+
+    @Test
+    void setInStock_ShouldChangeFilterResult() {
+        index.setInStock(3L, true);
+        index.setInStock(1L, false);
+
+        List<Long> ids = ids(index.search("red", 10, true));
+
+        assertTrue(ids.contains(3L));
+        assertFalse(ids.contains(1L));
+    }
+
+    @Test
+    void search_ShouldRespectLimitAndEmptyQueries() {
+        assertEquals(1, index.search("red", 1, false).size());
+        assertTrue(index.search("   ", 10, false).isEmpty());
+        assertTrue(index.search("missing", 10, false).isEmpty());
+    }
+
+    @Test
+    void add_ShouldNotDuplicateExistingProduct() {
+        index.add(1L, "Red Cotton T-Shirt", false);
+
+        assertEquals(5, index.size());
+        assertTrue(index.search("shirt", 10, true).stream().noneMatch(hit -> hit.productId() == 1L));
+    }
+
+    @Test
+    void add_ShouldReindexRenamedProduct() {
+        index.add(3L, "Green Linen Scarf", true);
+
+        assertEquals(5, index.size());
+        assertTrue(index.search("wool", 10, false).isEmpty());
+        assertEquals(List.of(1L, 5L), ids(index.search("red", 10, false)));
+        assertEquals(List.of(3L), ids(index.search("linen sc", 10, true)));
+    }
+
+    @Test
+    void search_ShouldExpandPrefixToMostFrequentCompletions() {
+        for (long id = 100; id < 170; id++) {
+            index.add(id, "Pra" + id, true);
+        }
+        index.add(200L, "Przm Mug", true);
+        index.add(201L, "Przm Cup", true);
+
+        assertTrue(ids(index.search("pr", 100, false)).containsAll(List.of(200L, 201L)));
+        assertEquals(List.of(201L), ids(index.search("cup pr", 10, false)));
+    }
+
+    private static List<Long> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::productId).toList();
+    }
+}
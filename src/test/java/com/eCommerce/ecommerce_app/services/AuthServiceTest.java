@@ -3,6 +3,7 @@ package com.eCommerce.ecommerce_app.services;
 import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.enums.Role;
 import com.eCommerce.ecommerce_app.exceptions.UserAlreadyExistException;
+import com.eCommerce.ecommerce_app.membership.MembershipFilters;
 import com.eCommerce.ecommerce_app.requests.LoginRequestDto;
 import com.eCommerce.ecommerce_app.requests.RegistrationRequestDto;
 import com.eCommerce.ecommerce_app.responses.LoginResponseDto;
@@ -13,7 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -32,12 +35,19 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CredentialCache credentialCache;
+
+    @Spy
+    private MembershipFilters membershipFilters = new MembershipFilters(mock(JdbcTemplate.class), 0.01);
+
     @InjectMocks
     private AuthService authService;
 
     private RegistrationRequestDto validDto;
     private LoginRequestDto loginDto;
     private User existingUser;
+    private CredentialCache.Credentials credentials;
 
     @BeforeEach
     void setUp() {
@@ -62,6 +72,8 @@ class AuthServiceTest {
         existingUser.setUsername("testuser");
         existingUser.setPassword("encodedPassword");
         existingUser.getRoles().add(Role.USER);
+
+        credentials = new CredentialCache.Credentials(5L, "testuser", "encodedPassword", 1 << Role.USER.ordinal());
     }
 
     //Registration
@@ -172,8 +184,8 @@ class AuthServiceTest {
     //Login
     @Test
     void login_ShouldReturnTokenAndSuccessMessage_WhenCredentialsAreCorrect() {
-        when(userRepository.findByUsername(loginDto.getUsername()))
-                .thenReturn(Optional.of(existingUser));
+        when(credentialCache.get(loginDto.getUsername()))
+                .thenReturn(Optional.of(credentials));
         when(passwordEncoder.matches(loginDto.getPassword(), existingUser.getPassword()))
                 .thenReturn(true);
 
@@ -183,13 +195,19 @@ class AuthServiceTest {
         assertNotNull(response.getToken(), "Token should not be null");
         assertEquals("Login successful", response.getMessage());
 
-        verify(userRepository).findByUsername(loginDto.getUsername());
+        verify(credentialCache).get(loginDto.getUsername());
         verify(passwordEncoder).matches(loginDto.getPassword(), existingUser.getPassword());
+
+        User sessionUser = authService.getUserByToken(response.getToken());
+        assertEquals(5L, sessionUser.getId());
+        assertEquals("testuser", sessionUser.getUsername());
+        assertEquals(existingUser.getRoles(), sessionUser.getRoles());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void login_ShouldReturnNullTokenAndErrorMessage_WhenUserDoesNotExist() {
-        when(userRepository.findByUsername(loginDto.getUsername()))
+        when(credentialCache.get(loginDto.getUsername()))
                 .thenReturn(Optional.empty());
 
         LoginResponseDto response = authService.login(loginDto);
@@ -198,14 +216,14 @@ class AuthServiceTest {
         assertNull(response.getToken(), "Token should be null");
         assertEquals("Invalid username or password", response.getMessage());
 
-        verify(userRepository).findByUsername(loginDto.getUsername());
+        verify(credentialCache).get(loginDto.getUsername());
         verify(passwordEncoder, never()).matches(any(), any());
     }
 
     @Test
     void login_ShouldReturnNullTokenAndErrorMessage_WhenPasswordIsIncorrect() {
-        when(userRepository.findByUsername(loginDto.getUsername()))
-                .thenReturn(Optional.of(existingUser));
+        when(credentialCache.get(loginDto.getUsername()))
+                .thenReturn(Optional.of(credentials));
         when(passwordEncoder.matches(loginDto.getPassword(), existingUser.getPassword()))
                 .thenReturn(false);
 
@@ -215,9 +233,33 @@ class AuthServiceTest {
         assertNull(response.getToken(), "Token should be null");
         assertEquals("Invalid username or password", response.getMessage());
 
-        verify(userRepository).findByUsername(loginDto.getUsername());
+        verify(credentialCache).get(loginDto.getUsername());
         verify(passwordEncoder).matches(loginDto.getPassword(), existingUser.getPassword());
     }
 
+    @Test
+    void login_ShouldSkipDatabase_WhenUsernameFilterRulesItOut() {
+        membershipFilters.usernames().rebuild(1, sink -> sink.accept("someoneelse"));
+
+        LoginResponseDto response = authService.login(loginDto);
 
+        assertNull(response.getToken());
+        assertEquals("Invalid username or password", response.getMessage());
+        verifyNoInteractions(userRepository, passwordEncoder, credentialCache);
+        assertEquals(1, membershipFilters.usernames().getSkipped());
+    }
+
+    @Test
+    void registerUser_ShouldSkipEmailQueryAndRecordNewKeys_WhenFilterIsLoaded() {
+        membershipFilters.emails().rebuild(1, sink -> sink.accept("other@example.com"));
+        membershipFilters.usernames().rebuild(1, sink -> sink.accept("other"));
+        when(passwordEncoder.encode(validDto.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authService.registerUser(validDto);
+
+        verify(userRepository, never()).existsByEmail(any());
+        assertTrue(membershipFilters.emails().mightContain(validDto.getEmail()));
+        assertTrue(membershipFilters.usernames().mightContain(validDto.getUsername()));
+    }
 }
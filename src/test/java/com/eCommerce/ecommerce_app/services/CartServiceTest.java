@@ -0,0 +1,238 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.entities.StockHold;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.exceptions.InsufficientStockException;
+import com.eCommerce.ecommerce_app.exceptions.ProductNotFoundException;
+import com.eCommerce.ecommerce_app.inventory.InventorySequencer;
+import com.eCommerce.ecommerce_app.inventory.ReservationResult;
+import com.eCommerce.ecommerce_app.inventory.StockLevelsChangedEvent;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.responses.CartResponseDto;
+import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.StockHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartServiceTest {
+
+    @Mock
+    private StockHoldRepository stockHoldRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private InventorySequencer inventorySequencer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CartService cartService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cartService = new CartService(stockHoldRepository, productRepository, inventorySequencer, transactionManager, eventPublisher, 900, 1000, 64, 2);
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    void addItem_ShouldReserveStockAndHoldIt() {
+        when(productRepository.reserveStock(10L, 2)).thenReturn(1);
+        when(productRepository.findQuantityById(10L)).thenReturn(Optional.of(3));
+        when(stockHoldRepository.findByUserIdAndProductId(1L, 10L)).thenReturn(Optional.empty());
+        when(stockHoldRepository.save(any(StockHold.class))).thenAnswer(inv -> {
+            StockHold hold = inv.getArgument(0);
+            hold.setId(7L);
+            return hold;
+        });
+        when(stockHoldRepository.findByUserIdOrderById(1L))
+                .thenReturn(List.of(hold(7L, 10L, 2, LocalDateTime.now().plusMinutes(15))));
+
+        CartResponseDto response = cartService.addItem(user, item(10L, 2));
+
+        assertEquals("Item added to cart", response.getMessage());
+        assertEquals(1, response.getItems().size());
+        assertEquals(1, cartService.activeHolds());
+        assertEquals(2, cartService.getCart(user).getItems().get(0).getQuantity());
+
+        ArgumentCaptor<StockLevelsChangedEvent> eventCaptor = ArgumentCaptor.forClass(StockLevelsChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(Map.of(10L, 3), eventCaptor.getValue().getQuantities());
+    }
+
+    @Test
+    void addItem_ShouldExtendExistingHold() {
+        StockHold existing = hold(7L, 10L, 2, LocalDateTime.now().plusMinutes(1));
+        when(productRepository.reserveStock(10L, 3)).thenReturn(1);
+        when(stockHoldRepository.findByUserIdAndProductId(1L, 10L)).thenReturn(Optional.of(existing));
+        when(stockHoldRepository.save(existing)).thenReturn(existing);
+
+        cartService.addItem(user, item(10L, 3));
+
+        assertEquals(5, existing.getQuantity());
+        assertTrue(existing.getExpiresAt().isAfter(LocalDateTime.now().plusMinutes(10)));
+    }
+
+    @Test
+    void addItem_ShouldThrowInsufficientStockException_WhenStockCannotBeReserved() {
+        Product product = new Product();
+        product.setName("Laptop");
+        when(productRepository.reserveStock(10L, 2)).thenReturn(0);
+        when(productRepository.findById(10L)).thenReturn(Optional.of(product));
+
+        assertThrows(InsufficientStockException.class, () -> cartService.addItem(user, item(10L, 2)));
+        verify(stockHoldRepository, never()).save(any());
+    }
+
+    @Test
+    void addItem_ShouldThrowProductNotFoundException_WhenProductDoesNotExist() {
+        when(productRepository.reserveStock(10L, 2)).thenReturn(0);
+        when(productRepository.findById(10L)).thenReturn(Optional.empty());
+
+        assertThrows(ProductNotFoundException.class, () -> cartService.addItem(user, item(10L, 2)));
+    }
+
+    @Test
+    void removeItem_ShouldReleaseHeldStock() {
+        when(stockHoldRepository.findByUserIdAndProductId(1L, 10L))
+                .thenReturn(Optional.of(hold(7L, 10L, 2, LocalDateTime.now().plusMinutes(5))));
+        when(stockHoldRepository.deleteHold(7L)).thenReturn(1);
+
+        CartResponseDto response = cartService.removeItem(user, 10L);
+
+        assertEquals("Item removed from cart", response.getMessage());
+        verify(productRepository).releaseStock(10L, 2);
+    }
+
+    @Test
+    void claimHolds_ShouldSkipDatabase_WhenUserHoldsNothing() {
+        when(stockHoldRepository.findAll()).thenReturn(List.of());
+        cartService.loadHolds();
+
+        Map<Long, Integer> claimed = cartService.claimHolds(1L, List.of(10L));
+
+        assertTrue(claimed.isEmpty());
+        verify(stockHoldRepository, never()).findByUserIdAndProductIdIn(anyLong(), anyCollection());
+    }
+
+    @Test
+    void claimHolds_ShouldReadStoredHolds_BeforeHoldsAreLoaded() {
+        StockHold held = hold(7L, 10L, 2, LocalDateTime.now().plusMinutes(5));
+        when(stockHoldRepository.findByUserIdAndProductIdIn(1L, List.of(10L))).thenReturn(List.of(held));
+        when(stockHoldRepository.deleteHold(7L)).thenReturn(1);
+
+        Map<Long, Integer> claimed = cartService.claimHolds(1L, List.of(10L));
+
+        assertEquals(Map.of(10L, 2), claimed);
+    }
+
+    @Test
+    void claimHolds_ShouldConsumeHoldsOfOrderedProducts() {
+        StockHold held = hold(7L, 10L, 2, LocalDateTime.now().plusMinutes(5));
+        when(stockHoldRepository.findAll()).thenReturn(List.of(held));
+        cartService.loadHolds();
+        when(stockHoldRepository.findByUserIdAndProductIdIn(1L, List.of(10L))).thenReturn(List.of(held));
+        when(stockHoldRepository.deleteHold(7L)).thenReturn(1);
+
+        Map<Long, Integer> claimed = cartService.claimHolds(1L, List.of(10L));
+
+        assertEquals(Map.of(10L, 2), claimed);
+        assertEquals(0, cartService.activeHolds());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void restoreHolds_ShouldRecreateClaimedHoldsWithTheirExpiry() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+        StockHold held = hold(7L, 10L, 2, expiresAt);
+        when(stockHoldRepository.findAll()).thenReturn(List.of(held));
+        cartService.loadHolds();
+        when(stockHoldRepository.save(any(StockHold.class))).thenAnswer(inv -> {
+            StockHold hold = inv.getArgument(0);
+            hold.setId(9L);
+            return hold;
+        });
+
+        cartService.restoreHolds(1L, Map.of(10L, 2));
+
+        ArgumentCaptor<StockHold> saved = ArgumentCaptor.forClass(StockHold.class);
+        verify(stockHoldRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals(10L, saved.getValue().getProductId());
+        assertEquals(2, saved.getValue().getQuantity());
+        assertEquals(expiresAt, saved.getValue().getExpiresAt());
+        verifyNoInteractions(productRepository, inventorySequencer);
+    }
+
+    @Test
+    void addItem_ShouldReserveThroughSequencer_WhenEnabled() {
+        when(inventorySequencer.isEnabled()).thenReturn(true);
+        when(inventorySequencer.reserve(Map.of(10L, 2))).thenReturn(ReservationResult.RESERVED);
+        when(stockHoldRepository.findByUserIdAndProductId(1L, 10L)).thenReturn(Optional.empty());
+        when(stockHoldRepository.save(any(StockHold.class))).thenAnswer(inv -> {
+            StockHold hold = inv.getArgument(0);
+            hold.setId(8L);
+            return hold;
+        });
+
+        cartService.addItem(user, item(10L, 2));
+
+        verify(productRepository, never()).reserveStock(anyLong(), anyInt());
+        assertEquals(1, cartService.activeHolds());
+    }
+
+    @Test
+    void releaseBatch_ShouldReturnExpiredStockPerProductAndKeepExtendedHolds() {
+        LocalDateTime past = LocalDateTime.now().minusSeconds(1);
+        StockHold first = hold(1L, 10L, 2, past);
+        StockHold second = hold(2L, 10L, 3, past);
+        StockHold extended = hold(3L, 11L, 1, LocalDateTime.now().plusMinutes(5));
+        when(stockHoldRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second, extended));
+        when(stockHoldRepository.deleteExpiredHold(eq(1L), any())).thenReturn(1);
+        when(stockHoldRepository.deleteExpiredHold(eq(2L), any())).thenReturn(1);
+        when(stockHoldRepository.deleteExpiredHold(eq(3L), any())).thenReturn(0);
+
+        int released = cartService.releaseBatch(List.of(1L, 2L, 3L));
+
+        assertEquals(2, released);
+        verify(productRepository).releaseStock(10L, 5);
+        verify(productRepository, never()).releaseStock(eq(11L), anyInt());
+        assertEquals(1, cartService.activeHolds());
+    }
+
+    private static OrderItemRequestDto item(Long productId, int quantity) {
+        OrderItemRequestDto dto = new OrderItemRequestDto();
+        dto.setProductId(productId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
+
+    private static StockHold hold(Long id, Long productId, int quantity, LocalDateTime expiresAt) {
+        StockHold hold = new StockHold(1L, productId, quantity, expiresAt);
+        hold.setId(id);
+        return hold;
+    }
+}
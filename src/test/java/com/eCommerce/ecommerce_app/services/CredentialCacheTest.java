@@ -0,0 +1,147 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialCacheTest {
+
+    private static final CredentialCache.Credentials ALICE =
+            new CredentialCache.Credentials(1L, "alice", "hash", 1 << Role.USER.ordinal());
+
+    @Test
+    void get_ShouldLoadOnceAndServeLaterLookupsFromMemory() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialCache cache = new CredentialCache(username -> {
+            loads.incrementAndGet();
+            return ALICE;
+        }, 100, Duration.ofMinutes(5));
+
+        assertEquals(Optional.of(ALICE), cache.get("alice"));
+        assertEquals(Optional.of(ALICE), cache.get("alice"));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void get_ShouldIssueSingleLoadDuringLoginStorm() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CredentialCache cache = new CredentialCache(username -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return ALICE;
+        }, 100, Duration.ofMinutes(5));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Optional<CredentialCache.Credentials>>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> cache.get("alice")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Optional<CredentialCache.Credentials>> result : results) {
+                assertEquals(Optional.of(ALICE), result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getLoads());
+    }
+
+    @Test
+    void get_ShouldReloadAfterTtl() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialCache cache = new CredentialCache(username -> {
+            loads.incrementAndGet();
+            return ALICE;
+        }, 100, Duration.ZERO);
+
+        cache.get("alice");
+        cache.get("alice");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_ShouldForceReloadWithNewCredentials() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialCache cache = new CredentialCache(username -> new CredentialCache.Credentials(
+                1L, username, "hash-" + loads.incrementAndGet(), 0), 100, Duration.ofMinutes(5));
+
+        assertEquals("hash-1", cache.get("alice").orElseThrow().passwordHash());
+        cache.invalidate("alice");
+
+        assertEquals("hash-2", cache.get("alice").orElseThrow().passwordHash());
+    }
+
+    @Test
+    void get_ShouldNotKeepResultLoadedBeforeConcurrentInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialCache[] holder = new CredentialCache[1];
+        holder[0] = new CredentialCache(username -> {
+            if (loads.incrementAndGet() == 1) {
+                holder[0].invalidate(username);
+            }
+            return ALICE;
+        }, 100, Duration.ofMinutes(5));
+
+        holder[0].get("alice");
+        holder[0].get("alice");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldCacheUnknownUsernamesAndStayWithinSizeBound() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialCache cache = new CredentialCache(username -> {
+            loads.incrementAndGet();
+            return null;
+        }, 10, Duration.ofMinutes(5));
+
+        assertTrue(cache.get("ghost").isEmpty());
+        assertTrue(cache.get("ghost").isEmpty());
+        for (int i = 0; i < 50; i++) {
+            cache.get("user" + i);
+        }
+
+        assertEquals(51, loads.get());
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void toSessionUser_ShouldCarryIdUsernameAndRoles() {
+        CredentialCache.Credentials admin = new CredentialCache.Credentials(7L, "root", "hash",
+                (1 << Role.USER.ordinal()) | (1 << Role.ADMIN.ordinal()));
+
+        User user = admin.toSessionUser();
+
+        assertEquals(7L, user.getId());
+        assertEquals("root", user.getUsername());
+        assertEquals(Set.of(Role.USER, Role.ADMIN), user.getRoles());
+        assertNull(user.getPassword());
+    }
+}
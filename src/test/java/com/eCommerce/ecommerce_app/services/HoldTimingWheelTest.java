@@ -0,0 +1,73 @@
+package com.eCommerce.ecommerce_app.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HoldTimingWheelTest {
+
+    @Test
+    void advance_ShouldReturnHoldsWhoseDeadlinePassed() {
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 520);
+
+        assertEquals(List.of(), wheel.advance(200));
+        assertEquals(List.of(1L), wheel.advance(300));
+        assertEquals(List.of(2L), wheel.advance(600));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldKeepHoldsScheduledMoreThanOneRevolutionAhead() {
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 4, 0);
+        wheel.schedule(1L, 1000);
+
+        assertEquals(List.of(), wheel.advance(500));
+        assertEquals(List.of(), wheel.advance(900));
+        assertEquals(List.of(1L), wheel.advance(1000));
+    }
+
+    @Test
+    void advance_ShouldVisitEverySlotOnce_WhenClockJumpsFarAhead() {
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 4, 0);
+        wheel.schedule(1L, 100);
+        wheel.schedule(2L, 300);
+        wheel.schedule(3L, 5000);
+
+        List<Long> expired = wheel.advance(10_000);
+
+        assertEquals(3, expired.size());
+        assertTrue(expired.containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void cancel_ShouldPreventExpiry() {
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, 0);
+        wheel.schedule(1L, 200);
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertEquals(List.of(), wheel.advance(1000));
+    }
+
+    @Test
+    void schedule_ShouldReplacePreviousDeadline() {
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, 0);
+        wheel.schedule(1L, 200);
+        wheel.schedule(1L, 700);
+
+        assertEquals(List.of(), wheel.advance(300));
+        assertEquals(List.of(1L), wheel.advance(700));
+    }
+
+    @Test
+    void schedule_ShouldExpireOverdueHoldOnNextTick() {
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, 1000);
+        wheel.schedule(1L, 10);
+
+        assertEquals(List.of(1L), wheel.advance(1100));
+    }
+}
@@ -0,0 +1,104 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderDetailsCacheTest {
+
+    @Test
+    void render_ShouldSerializeDtoAndKeepOwner() {
+        OrderDetailsCache cache = new OrderDetailsCache(new ObjectMapper(), 1024);
+
+        OrderDetailsResponseDto.CustomerInfoDto customer = new OrderDetailsResponseDto.CustomerInfoDto();
+        customer.setId(7L);
+        OrderDetailsResponseDto dto = new OrderDetailsResponseDto();
+        dto.setOrderId(3L);
+        dto.setCustomer(customer);
+        dto.setTotalNet(new BigDecimal("20.00"));
+
+        RenderedOrderDetails rendered = cache.render(dto, 0);
+
+        assertEquals(3L, rendered.getOrderId());
+        assertEquals(7L, rendered.getOwnerId());
+        String json = new String(rendered.getBody(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"orderId\":3"));
+        assertTrue(json.contains("\"totalNet\":20.00"));
+    }
+
+    @Test
+    void get_ShouldTrackHitRatio() {
+        OrderDetailsCache cache = new OrderDetailsCache(new ObjectMapper(), 1024);
+        cache.put(rendered(1L, 10));
+
+        assertNotNull(cache.get(1L));
+        assertNotNull(cache.get(1L));
+        assertNull(cache.get(2L));
+
+        assertEquals(2.0 / 3.0, cache.hitRatio(), 0.0001);
+    }
+
+    @Test
+    void put_ShouldEvictOldestEntriesWhenByteBudgetIsExceeded() {
+        OrderDetailsCache cache = new OrderDetailsCache(new ObjectMapper(), 600);
+
+        cache.put(rendered(1L, 200));
+        cache.put(rendered(2L, 200));
+        cache.put(rendered(3L, 200));
+
+        assertNull(cache.get(1L));
+        assertNotNull(cache.get(2L));
+        assertNotNull(cache.get(3L));
+        assertTrue(cache.getUsedBytes() <= 600);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void put_ShouldSkipPayloadsLargerThanTheWholeBudget() {
+        OrderDetailsCache cache = new OrderDetailsCache(new ObjectMapper(), 100);
+
+        cache.put(rendered(1L, 500));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+    }
+
+    @Test
+    void invalidate_ShouldNotLeaveIdsBehindInTheEvictionQueue() {
+        OrderDetailsCache cache = new OrderDetailsCache(new ObjectMapper(), 10_000);
+
+        for (long orderId = 1; orderId <= 1000; orderId++) {
+            cache.put(rendered(orderId, 10));
+            cache.invalidate(orderId);
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+        assertTrue(cache.queuedSlots() <= 1, "queued slots: " + cache.queuedSlots());
+    }
+
+    @Test
+    void put_ShouldEvictLiveEntries_WhenOlderEntriesWereInvalidated() {
+        OrderDetailsCache cache = new OrderDetailsCache(new ObjectMapper(), 600);
+
+        cache.put(rendered(1L, 200));
+        cache.put(rendered(2L, 200));
+        cache.invalidate(1L);
+        cache.put(rendered(1L, 200));
+        cache.put(rendered(3L, 200));
+
+        assertNull(cache.get(2L));
+        assertNotNull(cache.get(1L));
+        assertNotNull(cache.get(3L));
+        assertTrue(cache.getUsedBytes() <= 600);
+    }
+
+    private static RenderedOrderDetails rendered(Long orderId, int size) {
+        return new RenderedOrderDetails(orderId, 1L, 0, new byte[size]);
+    }
+}
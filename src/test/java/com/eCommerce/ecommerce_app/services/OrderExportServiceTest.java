@@ -0,0 +1,151 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.enums.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        open("jdbc:h2:mem:export-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    }
+
+    private void open(String url) {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("create table orders (id bigint primary key, order_date timestamp, user_id bigint, "
+                + "total_net_value numeric(19,2), total_gross_value numeric(19,2))");
+        jdbcTemplate.execute("create table order_items (id bigint primary key, order_id bigint, product_id bigint, "
+                + "product_name varchar(255), quantity int, unit_net_price numeric(19,2), unit_gross_price numeric(19,2), "
+                + "vat numeric(5,2), net_price numeric(19,2), gross_price numeric(19,2))");
+        jdbcTemplate.execute("create index idx_order_items_order on order_items(order_id)");
+        orderExportService = new OrderExportService(jdbcTemplate, new ObjectMapper(), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    void export_ShouldWriteCsvLinesWithinDateRange() throws Exception {
+        insertOrder(1, "2025-01-31 23:59:59", "Desk Lamp");
+        insertOrder(2, "2025-02-01 10:00:00", "Lamp, \"XL\"");
+        insertOrder(3, "2025-02-02 00:00:00", "Mug");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = orderExportService.export(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 1),
+                ExportFormat.CSV, false, out);
+
+        assertEquals(1, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("order_id,order_date,user_id"));
+        assertEquals("2,2025-02-01T10:00,7,20.00,24.60,20,5,\"Lamp, \"\"XL\"\"\",2,10.00,12.30,23.00,20.00,24.60", lines[1]);
+    }
+
+    @Test
+    void export_ShouldNeutralizeSpreadsheetFormulasInCsv() throws Exception {
+        insertOrder(1, "2025-02-01 10:00:00", "=HYPERLINK(\"http://x\")");
+        insertOrder(2, "2025-02-01 11:00:00", "-5 Mug");
+        insertOrder(3, "2025-02-01 12:00:00", "@Lamp");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        orderExportService.export(null, null, ExportFormat.CSV, false, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertTrue(lines[1].contains(",\"'=HYPERLINK(\"\"http://x\"\")\","), lines[1]);
+        assertTrue(lines[2].contains(",\"'-5 Mug\","), lines[2]);
+        assertTrue(lines[3].contains(",\"'@Lamp\","), lines[3]);
+    }
+
+    @Test
+    void export_ShouldGroupLinesPerOrderInGzippedNdjson() throws Exception {
+        insertOrder(1, "2025-01-31 12:00:00", "Desk Lamp");
+        jdbcTemplate.update("insert into order_items values (11, 1, 6, 'Mug', 1, 5.00, 6.15, 23.00, 5.00, 6.15)");
+        insertOrder(2, "2025-02-01 10:00:00", "Mug");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = orderExportService.export(null, null, ExportFormat.NDJSON, true, out);
+
+        assertEquals(3, rows);
+        String[] lines = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2, new ObjectMapper().readTree(lines[0]).get("items").size());
+        assertEquals(2, new ObjectMapper().readTree(lines[1]).get("orderId").asLong());
+    }
+
+    @Test
+    @Tag("memory-bounded")
+    void export_ShouldStreamMillionsOfLinesInASmallHeap() throws Exception {
+        assertTrue(Runtime.getRuntime().maxMemory() <= 128L * 1024 * 1024, "run with a small -Xmx");
+        jdbcTemplate.execute("shutdown");
+        open("jdbc:h2:file:./target/export-test/" + UUID.randomUUID());
+        int orders = 1_000_000;
+        for (int first = 1; first <= orders; first += 100_000) {
+            jdbcTemplate.update("insert into orders select x, dateadd(second, x, timestamp '2025-01-01 00:00:00'), "
+                    + "mod(x, 1000), 20.00, 24.60 from system_range(?, ?)", first, first + 99_999);
+            jdbcTemplate.update("insert into order_items select x, (x + 1) / 2, mod(x, 500), concat('Product ', mod(x, 500)), "
+                    + "1, 10.00, 12.30, 23.00, 10.00, 12.30 from system_range(?, ?)", 2L * first - 1, 2L * first + 199_998);
+        }
+        LineCountingStream csv = new LineCountingStream();
+        LineCountingStream ndjson = new LineCountingStream();
+
+        long csvRows = orderExportService.export(null, null, ExportFormat.CSV, false, csv);
+        long ndjsonRows = orderExportService.export(null, null, ExportFormat.NDJSON, true, ndjson);
+
+        assertEquals(2L * orders, csvRows);
+        assertEquals(2L * orders + 1, csv.lines);
+        assertEquals(2L * orders, ndjsonRows);
+        assertTrue(ndjson.bytes > 0);
+    }
+
+    private void insertOrder(long id, String orderDate, String productName) {
+        jdbcTemplate.update("insert into orders values (?, timestamp '" + orderDate + "', 7, 20.00, 24.60)", id);
+        jdbcTemplate.update("insert into order_items values (?, ?, 5, ?, 2, 10.00, 12.30, 23.00, 20.00, 24.60)",
+                id * 10, id, productName);
+    }
+
+    private static final class LineCountingStream extends OutputStream {
+
+        private long lines;
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.exceptions.InsufficientStockException;
+import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
+import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
+import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitterTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderGroupCommitter committer;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        committer = new OrderGroupCommitter(orderService, transactionManager, true, 2000, 64, 10_000);
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    void commit_ShouldRejectFailingOrderAndCommitTheRestInOneTransaction() throws Exception {
+        OrderGroupCommitter.QueuedOrder first = queued(order(1L, 1));
+        OrderGroupCommitter.QueuedOrder failing = queued(order(2L, 100));
+        OrderGroupCommitter.QueuedOrder third = queued(order(1L, 2));
+        Order firstOrder = new Order();
+        Order thirdOrder = new Order();
+        PlaceOrderResponseDto firstResponse = new PlaceOrderResponseDto();
+        PlaceOrderResponseDto thirdResponse = new PlaceOrderResponseDto();
+
+        when(orderService.loadProducts(Set.of(1L, 2L))).thenReturn(Map.of());
+        when(orderService.prepareOrder(user, first.dto(), Map.of())).thenReturn(firstOrder);
+        when(orderService.prepareOrder(user, failing.dto(), Map.of()))
+                .thenThrow(new InsufficientStockException("Not enough stock for product: B"));
+        when(orderService.prepareOrder(user, third.dto(), Map.of())).thenReturn(thirdOrder);
+        when(orderService.saveOrders(List.of(firstOrder, thirdOrder))).thenReturn(List.of(firstResponse, thirdResponse));
+
+        committer.commit(List.of(first, failing, third));
+
+        assertSame(firstResponse, first.result().get());
+        assertSame(thirdResponse, third.result().get());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> failing.result().get());
+        assertInstanceOf(InsufficientStockException.class, ex.getCause());
+        verify(transactionManager, times(1)).commit(any());
+        verify(orderService, never()).placeOrder(any(), any());
+    }
+
+    @Test
+    void commit_ShouldPlaceOrdersOneByOne_WhenBatchTransactionFails() throws Exception {
+        OrderGroupCommitter.QueuedOrder first = queued(order(1L, 1));
+        OrderGroupCommitter.QueuedOrder second = queued(order(1L, 2));
+        PlaceOrderResponseDto firstResponse = new PlaceOrderResponseDto();
+        PlaceOrderResponseDto secondResponse = new PlaceOrderResponseDto();
+
+        when(orderService.loadProducts(anySet())).thenReturn(Map.of());
+        when(orderService.prepareOrder(eq(user), any(), anyMap())).thenReturn(new Order());
+        when(orderService.saveOrders(anyList())).thenThrow(new DataAccessResourceFailureException("disk full"));
+        when(orderService.placeOrder(user, first.dto())).thenReturn(firstResponse);
+        when(orderService.placeOrder(user, second.dto())).thenReturn(secondResponse);
+
+        committer.commit(List.of(first, second));
+
+        assertSame(firstResponse, first.result().get());
+        assertSame(secondResponse, second.result().get());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void commit_ShouldPlaceRemainingOrdersOneByOne_WhenPreparingAnOrderFailsUnexpectedly() throws Exception {
+        OrderGroupCommitter.QueuedOrder first = queued(order(1L, 1));
+        OrderGroupCommitter.QueuedOrder broken = queued(order(1L, 2));
+        OrderGroupCommitter.QueuedOrder third = queued(order(1L, 3));
+        PlaceOrderResponseDto firstResponse = new PlaceOrderResponseDto();
+        PlaceOrderResponseDto thirdResponse = new PlaceOrderResponseDto();
+        IllegalStateException failure = new IllegalStateException("session closed");
+
+        when(orderService.loadProducts(anySet())).thenReturn(Map.of());
+        when(orderService.prepareOrder(user, first.dto(), Map.of())).thenReturn(new Order());
+        when(orderService.prepareOrder(user, broken.dto(), Map.of())).thenThrow(failure);
+        when(orderService.placeOrder(user, first.dto())).thenReturn(firstResponse);
+        when(orderService.placeOrder(user, broken.dto())).thenThrow(failure);
+        when(orderService.placeOrder(user, third.dto())).thenReturn(thirdResponse);
+
+        committer.commit(List.of(first, broken, third));
+
+        assertSame(firstResponse, first.result().get());
+        assertSame(thirdResponse, third.result().get());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> broken.result().get());
+        assertSame(failure, ex.getCause());
+        verify(transactionManager).rollback(any());
+        verify(orderService, never()).saveOrders(anyList());
+    }
+
+    @Test
+    void commit_ShouldSkipOrdersWhoseCallerAlreadyGaveUp() {
+        OrderGroupCommitter.QueuedOrder abandoned = queued(order(1L, 1));
+        abandoned.taken().set(true);
+
+        committer.commit(List.of(abandoned));
+
+        verifyNoInteractions(orderService, transactionManager);
+    }
+
+    @Test
+    void submit_ShouldNeverPlaceAnOrderWhoseCallerTimedOutWhileItWasQueued() throws Exception {
+        OrderGroupCommitter slow = new OrderGroupCommitter(orderService, transactionManager, true, 0, 1, 50);
+        PlaceOrderRequestDto blocking = order(1L, 1);
+        PlaceOrderRequestDto timedOut = order(1L, 2);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.loadProducts(anySet())).thenAnswer(inv -> {
+            loading.countDown();
+            release.await();
+            return Map.of();
+        });
+        when(orderService.prepareOrder(eq(user), any(), anyMap())).thenReturn(new Order());
+        when(orderService.saveOrders(anyList())).thenReturn(List.of(new PlaceOrderResponseDto()));
+
+        slow.start();
+        CompletableFuture<PlaceOrderResponseDto> first = CompletableFuture.supplyAsync(() -> slow.submit(user, blocking));
+        try {
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> slow.submit(user, timedOut));
+            assertEquals("Timed out waiting for order placement, the order was not placed", ex.getMessage());
+        } finally {
+            release.countDown();
+        }
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        slow.stop();
+
+        verify(orderService).prepareOrder(user, blocking, Map.of());
+        verify(orderService, never()).prepareOrder(eq(user), same(timedOut), anyMap());
+        verify(orderService, never()).placeOrder(any(), same(timedOut));
+    }
+
+    @Test
+    void submit_ShouldReturnTheOutcome_WhenTimeoutFiresAfterTheBatchTookTheOrder() {
+        OrderGroupCommitter slow = new OrderGroupCommitter(orderService, transactionManager, true, 0, 64, 50);
+        PlaceOrderRequestDto dto = order(1L, 1);
+        Order order = new Order();
+        PlaceOrderResponseDto response = new PlaceOrderResponseDto();
+        when(orderService.loadProducts(anySet())).thenAnswer(inv -> {
+            Thread.sleep(300);
+            return Map.of();
+        });
+        when(orderService.prepareOrder(user, dto, Map.of())).thenReturn(order);
+        when(orderService.saveOrders(List.of(order))).thenReturn(List.of(response));
+
+        slow.start();
+        try {
+            assertSame(response, slow.submit(user, dto));
+        } finally {
+            slow.stop();
+        }
+    }
+
+    @Test
+    void submit_ShouldPlaceOrderDirectly_WhenWorkerIsNotRunning() {
+        PlaceOrderRequestDto dto = order(1L, 1);
+        PlaceOrderResponseDto response = new PlaceOrderResponseDto();
+        when(orderService.placeOrder(user, dto)).thenReturn(response);
+
+        assertSame(response, committer.submit(user, dto));
+    }
+
+    @Test
+    void submit_ShouldCompleteCallersFromTheWorkerThread() {
+        PlaceOrderRequestDto dto = order(1L, 1);
+        Order order = new Order();
+        PlaceOrderResponseDto response = new PlaceOrderResponseDto();
+        when(orderService.loadProducts(anySet())).thenReturn(Map.of());
+        when(orderService.prepareOrder(user, dto, Map.of())).thenReturn(order);
+        when(orderService.saveOrders(List.of(order))).thenReturn(List.of(response));
+
+        committer.start();
+        try {
+            assertSame(response, committer.submit(user, dto));
+        } finally {
+            committer.stop();
+        }
+    }
+
+    private OrderGroupCommitter.QueuedOrder queued(PlaceOrderRequestDto dto) {
+        return new OrderGroupCommitter.QueuedOrder(user, dto, new CompletableFuture<>(), new AtomicBoolean());
+    }
+
+    private static PlaceOrderRequestDto order(Long productId, int quantity) {
+        OrderItemRequestDto item = new OrderItemRequestDto();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        PlaceOrderRequestDto dto = new PlaceOrderRequestDto();
+        dto.setItems(List.of(item));
+        return dto;
+    }
+}
@@ -0,0 +1,44 @@
+package com.eCommerce.ecommerce_app.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderItemSnapshotBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void backfill_ShouldUpdateInKeysetChunksUntilNoRowsRemain() {
+        OrderItemSnapshotBackfill backfill = new OrderItemSnapshotBackfill(jdbcTemplate, true, 2, 0);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(0L), eq(2))).thenReturn(List.of(1L, 2L));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2L), eq(2))).thenReturn(List.of(5L));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(5L), eq(2))).thenReturn(List.of());
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(2L))).thenReturn(2);
+        when(jdbcTemplate.update(anyString(), eq(5L), eq(5L))).thenReturn(1);
+
+        int updated = backfill.backfill();
+
+        assertEquals(3, updated);
+        verify(jdbcTemplate, times(2)).update(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void startBackfill_ShouldDoNothing_WhenDisabled() {
+        OrderItemSnapshotBackfill backfill = new OrderItemSnapshotBackfill(jdbcTemplate, false, 100, 0);
+
+        backfill.startBackfill();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderDocument;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.entities.User;
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.respositories.OrderDocumentRepository;
+import com.eCommerce.ecommerce_app.respositories.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReadModelTest {
+
+    @Mock
+    private OrderDocumentRepository orderDocumentRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderDetailsCache orderDetailsCache;
+    private OrderReadModel orderReadModel;
+
+    @BeforeEach
+    void setUp() {
+        orderDetailsCache = new OrderDetailsCache(new ObjectMapper(), 1024 * 1024);
+        orderReadModel = new OrderReadModel(orderDocumentRepository, orderRepository, orderDetailsCache,
+                transactionManager, 2, 2);
+    }
+
+    @Test
+    void record_ShouldWriteDocumentAndCacheRenderedPayload() {
+        Order order = order(5L, 1L);
+
+        RenderedOrderDetails rendered = orderReadModel.record(order);
+
+        assertEquals(5L, rendered.getOrderId());
+        assertEquals(1L, rendered.getOwnerId());
+        assertTrue(new String(rendered.getBody(), StandardCharsets.UTF_8).contains("\"productName\":\"Book\""));
+        ArgumentCaptor<OrderDocument> document = ArgumentCaptor.forClass(OrderDocument.class);
+        verify(orderDocumentRepository).save(document.capture());
+        assertEquals(5L, document.getValue().getOrderId());
+        assertEquals(1L, document.getValue().getOwnerId());
+        assertSame(rendered.getBody(), document.getValue().getDocument());
+        assertSame(rendered, orderDetailsCache.get(5L));
+    }
+
+    @Test
+    void find_ShouldServeDocumentByPrimaryKey_WhenNotCached() {
+        byte[] body = "{\"orderId\":7}".getBytes(StandardCharsets.UTF_8);
+        when(orderDocumentRepository.findById(7L)).thenReturn(Optional.of(new OrderDocument(7L, 3L, 0, body)));
+
+        RenderedOrderDetails rendered = orderReadModel.find(7L);
+
+        assertNotNull(rendered);
+        assertEquals(3L, rendered.getOwnerId());
+        assertSame(body, rendered.getBody());
+        assertSame(rendered, orderReadModel.find(7L));
+        verify(orderDocumentRepository, times(1)).findById(7L);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void find_ShouldReturnNull_WhenDocumentIsMissing() {
+        when(orderDocumentRepository.findById(8L)).thenReturn(Optional.empty());
+
+        assertNull(orderReadModel.find(8L));
+    }
+
+    @Test
+    void rebuild_ShouldRegenerateDocumentsInIdRangeChunks() {
+        when(orderRepository.findMinId()).thenReturn(1L);
+        when(orderRepository.findMaxId()).thenReturn(3L);
+        when(orderRepository.findWithItemsByIdRange(1L, 2L)).thenReturn(List.of(order(1L, 1L), order(2L, 1L)));
+        when(orderRepository.findWithItemsByIdRange(3L, 3L)).thenReturn(List.of(order(3L, 2L)));
+
+        int rebuilt = orderReadModel.rebuild();
+
+        assertEquals(3, rebuilt);
+        verify(orderDocumentRepository).deleteByOrderIdRange(1L, 2L);
+        verify(orderDocumentRepository).deleteByOrderIdRange(3L, 3L);
+        verify(orderDocumentRepository, times(2)).saveAll(anyList());
+    }
+
+    private static Order order(Long orderId, Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername("user" + userId);
+
+        Product product = new Product();
+        product.setId(10L);
+        product.setName("Book");
+
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setProductId(10L);
+        item.setProductName("Book");
+        item.setQuantity(2);
+        item.setNetPrice(Money.of(BigDecimal.valueOf(20)));
+        item.setGrossPrice(Money.of(BigDecimal.valueOf(24.6)));
+
+        Order order = new Order();
+        order.setId(orderId);
+        order.setUser(user);
+        order.setVersion(0);
+        order.setOrderItems(List.of(item));
+        order.setTotalNetValue(Money.of(BigDecimal.valueOf(20)));
+        order.setTotalGrossValue(Money.of(BigDecimal.valueOf(24.6)));
+        return order;
+    }
+}
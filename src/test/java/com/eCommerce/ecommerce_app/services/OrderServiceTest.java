@@ -1,5 +1,6 @@
 package com.eCommerce.ecommerce_app.services;
 
+import com.eCommerce.ecommerce_app.analytics.OrderFactStore;
 import com.eCommerce.ecommerce_app.entities.Order;
 import com.eCommerce.ecommerce_app.entities.OrderItem;
 import com.eCommerce.ecommerce_app.entities.Product;
@@ -7,12 +8,18 @@ import com.eCommerce.ecommerce_app.entities.User;
 import com.eCommerce.ecommerce_app.exceptions.InsufficientStockException;
 import com.eCommerce.ecommerce_app.exceptions.OrderNotFoundException;
 import com.eCommerce.ecommerce_app.exceptions.ProductNotFoundException;
+import com.eCommerce.ecommerce_app.inventory.InventorySequencer;
+import com.eCommerce.ecommerce_app.inventory.ReservationResult;
+import com.eCommerce.ecommerce_app.inventory.StockLevelsChangedEvent;
+import com.eCommerce.ecommerce_app.money.Money;
 import com.eCommerce.ecommerce_app.requests.OrderItemRequestDto;
 import com.eCommerce.ecommerce_app.requests.PlaceOrderRequestDto;
 import com.eCommerce.ecommerce_app.responses.OrderDetailsResponseDto;
 import com.eCommerce.ecommerce_app.responses.PlaceOrderResponseDto;
 import com.eCommerce.ecommerce_app.respositories.OrderRepository;
 import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.UserRepository;
+import com.eCommerce.ecommerce_app.trending.TrendingProducts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,12 +27,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +49,33 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderReadModel orderReadModel;
+
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    @Mock
+    private TrendingProducts trendingProducts;
+
+    @Mock
+    private OrderFactStore orderFactStore;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private InventorySequencer inventorySequencer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -45,12 +84,13 @@ class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
-        User user = new User();
+        user = new User();
         user.setId(1L);
         user.setUsername("testuser");
         user.setEmail("test@example.com");
         user.setFirstName("Test");
         user.setLastName("User");
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(user);
         user.setPhoneNumber("123456789");
         user.setCountry("Poland");
         user.setCity("Warsaw");
@@ -65,15 +105,15 @@ class OrderServiceTest {
         item.setId(100L);
         item.setProduct(product);
         item.setQuantity(2);
-        item.setNetPrice(BigDecimal.valueOf(50));
-        item.setGrossPrice(BigDecimal.valueOf(61.5));
+        item.setNetPrice(Money.of(BigDecimal.valueOf(50)));
+        item.setGrossPrice(Money.of(BigDecimal.valueOf(61.5)));
 
         sampleOrder = new Order();
         sampleOrder.setId(5L);
         sampleOrder.setUser(user);
         sampleOrder.setOrderItems(List.of(item));
-        sampleOrder.setTotalNetValue(BigDecimal.valueOf(100));
-        sampleOrder.setTotalGrossValue(BigDecimal.valueOf(123));
+        sampleOrder.setTotalNetValue(Money.of(BigDecimal.valueOf(100)));
+        sampleOrder.setTotalGrossValue(Money.of(BigDecimal.valueOf(123)));
     }
     //Place order
     @Test
@@ -94,13 +134,16 @@ class OrderServiceTest {
         dto.setItems(List.of(itemDto));
 
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(productRepository.reserveStock(1L, 3)).thenReturn(1);
+        when(productRepository.findQuantityById(1L)).thenReturn(Optional.of(2));
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
         when(orderRepository.save(orderCaptor.capture())).thenAnswer(inv -> {
             Order o = inv.getArgument(0);
             o.setId(100L);
             return o;
         });
+        RenderedOrderDetails rendered = new RenderedOrderDetails(100L, null, 0, new byte[0]);
+        when(orderReadModel.record(any(Order.class))).thenReturn(rendered);
 
         // when
         PlaceOrderResponseDto response = orderService.placeOrder(user, dto);
@@ -108,22 +151,34 @@ class OrderServiceTest {
         // then
         assertNotNull(response);
         assertEquals(100L, response.getOrderId());
-        assertEquals(BigDecimal.valueOf(30), response.getTotalNet());
-        assertEquals(BigDecimal.valueOf(36.9), response.getTotalGross());
+        assertEquals(0, BigDecimal.valueOf(30).compareTo(response.getTotalNet()));
+        assertEquals(0, BigDecimal.valueOf(36.9).compareTo(response.getTotalGross()));
         assertEquals(1, response.getProductSummaries().size());
         assertEquals("Product1 x3", response.getProductSummaries().get(0));
         assertEquals("Order placed successfully", response.getMessage());
 
-        verify(productRepository).save(argThat(p -> p.getQuantity() == 2));
+        verify(productRepository).reserveStock(1L, 3);
+        verify(productRepository, never()).save(any());
 
         Order savedOrder = orderCaptor.getValue();
         assertEquals(user, savedOrder.getUser());
-        assertEquals(BigDecimal.valueOf(30), savedOrder.getTotalNetValue());
-        assertEquals(BigDecimal.valueOf(36.9), savedOrder.getTotalGrossValue());
+        assertEquals(Money.of(BigDecimal.valueOf(30)), savedOrder.getTotalNetValue());
+        assertEquals(Money.of(BigDecimal.valueOf(36.9)), savedOrder.getTotalGrossValue());
         assertEquals(1, savedOrder.getOrderItems().size());
         assertEquals(3, savedOrder.getOrderItems().get(0).getQuantity());
 
+        OrderItem savedItem = savedOrder.getOrderItems().get(0);
+        assertEquals(1L, savedItem.getProductId());
+        assertEquals("Product1", savedItem.getProductName());
+        assertEquals(Money.of(BigDecimal.valueOf(10)), savedItem.getUnitNetPrice());
+        assertEquals(Money.of(BigDecimal.valueOf(12.3)), savedItem.getUnitGrossPrice());
+
         verify(orderRepository).save(any(Order.class));
+        verify(orderReadModel).record(savedOrder);
+        verify(orderEventOutbox).orderPlaced(rendered);
+        verify(salesReportService).record(savedOrder);
+        verify(trendingProducts).record(1L, 3);
+        verify(orderFactStore).record(savedOrder);
     }
 
     @Test
@@ -156,7 +211,10 @@ class OrderServiceTest {
 
         when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
         when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
-        when(productRepository.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(productRepository.reserveStock(1L, 4)).thenReturn(1);
+        when(productRepository.reserveStock(2L, 3)).thenReturn(1);
+        when(productRepository.findQuantityById(1L)).thenReturn(Optional.of(6));
+        when(productRepository.findQuantityById(2L)).thenReturn(Optional.of(4));
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
         when(orderRepository.save(orderCaptor.capture())).thenAnswer(inv -> {
             Order o = inv.getArgument(0);
@@ -181,15 +239,163 @@ class OrderServiceTest {
         assertTrue(response.getProductSummaries().contains("Product2 x3"));
         assertEquals("Order placed successfully", response.getMessage());
 
-        verify(productRepository, times(2)).save(any(Product.class));
+        verify(productRepository, never()).save(any());
         verify(orderRepository).save(any(Order.class));
 
+        ArgumentCaptor<StockLevelsChangedEvent> eventCaptor = ArgumentCaptor.forClass(StockLevelsChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(Map.of(1L, 6, 2L, 4), eventCaptor.getValue().getQuantities());
+
         Order savedOrder = orderCaptor.getValue();
         assertEquals(user, savedOrder.getUser());
         assertEquals(2, savedOrder.getOrderItems().size());
+    }
+
+    @Test
+    void placeOrder_ShouldConvertHeldStockWithoutCheckingAvailabilityAndReturnSurplus() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Product1");
+        product.setPrice(BigDecimal.valueOf(10));
+        product.setPriceGorss(BigDecimal.valueOf(12.3));
+        product.setQuantity(0);
 
-        verify(productRepository).save(argThat(p -> p.getId() == 1L && p.getQuantity() == 6));
-        verify(productRepository).save(argThat(p -> p.getId() == 2L && p.getQuantity() == 4));
+        OrderItemRequestDto itemDto = new OrderItemRequestDto();
+        itemDto.setProductId(1L);
+        itemDto.setQuantity(3);
+
+        PlaceOrderRequestDto dto = new PlaceOrderRequestDto();
+        dto.setItems(List.of(itemDto));
+
+        when(cartService.claimHolds(1L, List.of(1L))).thenReturn(new HashMap<>(Map.of(1L, 5)));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findQuantityById(1L)).thenReturn(Optional.of(2));
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> {
+            Order o = inv.getArgument(0);
+            o.setId(101L);
+            return o;
+        });
+
+        PlaceOrderResponseDto response = orderService.placeOrder(user, dto);
+
+        assertEquals(101L, response.getOrderId());
+        assertEquals(0, BigDecimal.valueOf(30).compareTo(response.getTotalNet()));
+        verify(productRepository).releaseStock(1L, 2);
+        verify(productRepository, never()).reserveStock(anyLong(), anyInt());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void prepareOrder_ShouldRestoreClaimedHolds_WhenOrderIsRejected() {
+        Product held = new Product();
+        held.setId(1L);
+        held.setName("Held");
+        held.setQuantity(0);
+
+        Product scarce = new Product();
+        scarce.setId(2L);
+        scarce.setName("Scarce");
+        scarce.setQuantity(1);
+
+        OrderItemRequestDto heldItem = new OrderItemRequestDto();
+        heldItem.setProductId(1L);
+        heldItem.setQuantity(2);
+        OrderItemRequestDto scarceItem = new OrderItemRequestDto();
+        scarceItem.setProductId(2L);
+        scarceItem.setQuantity(3);
+
+        PlaceOrderRequestDto dto = new PlaceOrderRequestDto();
+        dto.setItems(List.of(heldItem, scarceItem));
+
+        when(cartService.claimHolds(1L, List.of(1L, 2L))).thenReturn(new HashMap<>(Map.of(1L, 2)));
+        when(productRepository.reserveStock(2L, 3)).thenReturn(0);
+
+        assertThrows(InsufficientStockException.class,
+                () -> orderService.prepareOrder(user, dto, Map.of(1L, held, 2L, scarce)));
+
+        verify(cartService).restoreHolds(1L, Map.of(1L, 2));
+        verify(productRepository, never()).releaseStock(anyLong(), anyInt());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void prepareOrder_ShouldReleaseEarlierReservations_WhenALaterProductIsShort() {
+        Product plenty = new Product();
+        plenty.setId(1L);
+        plenty.setName("Plenty");
+        Product scarce = new Product();
+        scarce.setId(2L);
+        scarce.setName("Scarce");
+
+        OrderItemRequestDto plentyItem = new OrderItemRequestDto();
+        plentyItem.setProductId(1L);
+        plentyItem.setQuantity(2);
+        OrderItemRequestDto scarceItem = new OrderItemRequestDto();
+        scarceItem.setProductId(2L);
+        scarceItem.setQuantity(3);
+        PlaceOrderRequestDto dto = new PlaceOrderRequestDto();
+        dto.setItems(List.of(plentyItem, scarceItem));
+
+        when(cartService.claimHolds(1L, List.of(1L, 2L))).thenReturn(new HashMap<>());
+        when(productRepository.reserveStock(1L, 2)).thenReturn(1);
+        when(productRepository.reserveStock(2L, 3)).thenReturn(0);
+
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class,
+                () -> orderService.prepareOrder(user, dto, Map.of(1L, plenty, 2L, scarce)));
+
+        assertEquals("Not enough stock for product: Scarce", ex.getMessage());
+        verify(productRepository).releaseStock(1L, 2);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void placeOrder_ShouldReserveThroughSequencerWithoutTouchingProductRows_WhenEnabled() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Product1");
+        product.setPrice(BigDecimal.valueOf(10));
+        product.setPriceGorss(BigDecimal.valueOf(12.3));
+        product.setQuantity(5);
+
+        OrderItemRequestDto itemDto = new OrderItemRequestDto();
+        itemDto.setProductId(1L);
+        itemDto.setQuantity(3);
+
+        PlaceOrderRequestDto dto = new PlaceOrderRequestDto();
+        dto.setItems(List.of(itemDto));
+
+        when(inventorySequencer.isEnabled()).thenReturn(true);
+        when(inventorySequencer.reserve(Map.of(1L, 3))).thenReturn(ReservationResult.RESERVED);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        orderService.placeOrder(user, dto);
+
+        assertEquals(5, product.getQuantity());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void placeOrder_ShouldThrowInsufficientStockException_WhenSequencerReportsShortage() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Product1");
+
+        OrderItemRequestDto itemDto = new OrderItemRequestDto();
+        itemDto.setProductId(1L);
+        itemDto.setQuantity(3);
+
+        PlaceOrderRequestDto dto = new PlaceOrderRequestDto();
+        dto.setItems(List.of(itemDto));
+
+        when(inventorySequencer.isEnabled()).thenReturn(true);
+        when(inventorySequencer.reserve(Map.of(1L, 3))).thenReturn(ReservationResult.shortage(1L));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class,
+                () -> orderService.placeOrder(user, dto));
+        assertEquals("Not enough stock for product: Product1", ex.getMessage());
+        verify(orderRepository, never()).save(any());
     }
 
     @Test
@@ -230,6 +436,7 @@ class OrderServiceTest {
         dto.setItems(List.of(itemDto));
 
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.reserveStock(1L, 5)).thenReturn(0);
 
         // when + then
         InsufficientStockException ex = assertThrows(InsufficientStockException.class,
@@ -259,7 +466,7 @@ class OrderServiceTest {
         dto.setItems(List.of(itemDto));
 
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenThrow(new RuntimeException("DB failure"));
+        when(productRepository.reserveStock(1L, 1)).thenThrow(new RuntimeException("DB failure"));
 
         // when + then
         RuntimeException ex = assertThrows(RuntimeException.class,
@@ -268,7 +475,7 @@ class OrderServiceTest {
         assertEquals("An unexpected error occurred while placing the order.", ex.getMessage());
 
         verify(productRepository).findById(1L);
-        verify(productRepository).save(any());
+        verify(productRepository).reserveStock(1L, 1);
         verify(orderRepository, never()).save(any());
     }
     //Get order
@@ -294,8 +501,8 @@ class OrderServiceTest {
         assertEquals(0, BigDecimal.valueOf(50).compareTo(itemDto.getNetPrice()));
         assertEquals(0, BigDecimal.valueOf(61.5).compareTo(itemDto.getGrossPrice()));
 
-        assertEquals(0, sampleOrder.getTotalNetValue().compareTo(dto.getTotalNet()));
-        assertEquals(0, sampleOrder.getTotalGrossValue().compareTo(dto.getTotalGross()));
+        assertEquals(0, sampleOrder.getTotalNetValue().toBigDecimal().compareTo(dto.getTotalNet()));
+        assertEquals(0, sampleOrder.getTotalGrossValue().toBigDecimal().compareTo(dto.getTotalGross()));
 
         verify(orderRepository).findById(5L);
     }
@@ -323,4 +530,45 @@ class OrderServiceTest {
 
         verify(orderRepository).findById(5L);
     }
+
+    @Test
+    void getOrderVersion_ShouldReturnVersionView_WhenOrderExists() {
+        OrderRepository.OrderVersionView view = mock(OrderRepository.OrderVersionView.class);
+        when(orderRepository.findVersionViewById(5L)).thenReturn(Optional.of(view));
+
+        assertSame(view, orderService.getOrderVersion(5L));
+
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void getOrderVersion_ShouldThrowOrderNotFoundException_WhenOrderDoesNotExist() {
+        when(orderRepository.findVersionViewById(999L)).thenReturn(Optional.empty());
+
+        OrderNotFoundException ex = assertThrows(OrderNotFoundException.class,
+                () -> orderService.getOrderVersion(999L));
+
+        assertEquals("Order with id 999 not found", ex.getMessage());
+    }
+
+    @Test
+    void loadRenderedOrderDetails_ShouldBackfillReadModelFromRelationalOrder() {
+        RenderedOrderDetails rendered = new RenderedOrderDetails(5L, 1L, 0, new byte[]{'{', '}'});
+        when(orderRepository.findById(5L)).thenReturn(Optional.of(sampleOrder));
+        when(orderReadModel.backfill(sampleOrder)).thenReturn(rendered);
+
+        RenderedOrderDetails result = orderService.loadRenderedOrderDetails(5L);
+
+        assertSame(rendered, result);
+        verify(orderReadModel).backfill(sampleOrder);
+    }
+
+    @Test
+    void loadRenderedOrderDetails_ShouldThrowOrderNotFoundException_WhenOrderDoesNotExist() {
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(OrderNotFoundException.class, () -> orderService.loadRenderedOrderDetails(999L));
+
+        verifyNoInteractions(orderReadModel);
+    }
 }
@@ -0,0 +1,131 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.OutboxEvent;
+import com.eCommerce.ecommerce_app.respositories.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxDispatcher = new OutboxDispatcher(outboxEventRepository, outboxSink, true, 2, 500, 30000);
+    }
+
+    @Test
+    void dispatchBatch_ShouldDeliverClaimedEventsAndDeleteThemInBulk() throws IOException {
+        List<OutboxEvent> events = List.of(event(1L, 10L), event(2L, 11L));
+        when(outboxEventRepository.claimBatch(anyString(), any(), any(), eq(2))).thenReturn(2);
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString())).thenReturn(events);
+
+        int delivered = outboxDispatcher.dispatchBatch();
+
+        assertEquals(2, delivered);
+        assertEquals(2, outboxDispatcher.getLastBatchSize());
+        verify(outboxSink).deliver(events);
+        verify(outboxEventRepository).deleteByClaimToken(anyString());
+    }
+
+    @Test
+    void dispatchBatch_ShouldKeepEventsClaimed_WhenSinkFails() throws IOException {
+        List<OutboxEvent> events = List.of(event(1L, 10L));
+        when(outboxEventRepository.claimBatch(anyString(), any(), any(), eq(2))).thenReturn(1);
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString())).thenReturn(events);
+        doThrow(new IOException("disk full")).when(outboxSink).deliver(events);
+
+        int delivered = outboxDispatcher.dispatchBatch();
+
+        assertEquals(0, delivered);
+        verify(outboxEventRepository, never()).deleteByClaimToken(anyString());
+    }
+
+    @Test
+    void poll_ShouldDrainFullBatchesUntilOutboxIsEmpty() throws IOException {
+        when(outboxEventRepository.claimBatch(anyString(), any(), any(), eq(2))).thenReturn(2, 1);
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString()))
+                .thenReturn(List.of(event(1L, 10L), event(2L, 11L)), List.of(event(3L, 12L)));
+
+        outboxDispatcher.poll();
+
+        verify(outboxEventRepository, times(2)).claimBatch(anyString(), any(), any(), eq(2));
+        verify(outboxSink, times(2)).deliver(anyList());
+        verify(outboxEventRepository, times(2)).deleteByClaimToken(anyString());
+    }
+
+    @Test
+    void poll_ShouldReportZeroLag_WhenNothingIsPending() {
+        when(outboxEventRepository.claimBatch(anyString(), any(), any(), eq(2))).thenReturn(0);
+
+        outboxDispatcher.poll();
+
+        assertEquals(0, outboxDispatcher.getLagMillis());
+        verifyNoInteractions(outboxSink);
+    }
+
+    @Test
+    void getLagMillis_ShouldGrowWithTheOldestPendingEvent_WhileTheSinkFails() throws IOException {
+        List<OutboxEvent> events = List.of(event(1L, 10L));
+        when(outboxEventRepository.claimBatch(anyString(), any(), any(), eq(2))).thenReturn(1);
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString())).thenReturn(events);
+        doThrow(new IOException("disk full")).when(outboxSink).deliver(events);
+        when(outboxEventRepository.findOldestCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(5));
+
+        outboxDispatcher.dispatchBatch();
+
+        assertTrue(outboxDispatcher.getLagMillis() >= 5 * 60_000);
+    }
+
+    @Test
+    void poll_ShouldDoNothing_WhenDisabled() {
+        OutboxDispatcher disabled = new OutboxDispatcher(outboxEventRepository, outboxSink, false, 2, 500, 30000);
+
+        disabled.poll();
+
+        verifyNoInteractions(outboxEventRepository, outboxSink);
+    }
+
+    @Test
+    void fileSink_ShouldAppendOneJsonLinePerEvent(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("outbox/events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file);
+
+        sink.deliver(List.of(event(1L, 10L)));
+        sink.deliver(List.of(event(2L, 11L)));
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":1,\"type\":\"OrderPlaced\",\"aggregateId\":10,"));
+        assertTrue(lines.get(1).endsWith("\"payload\":{\"orderId\":11}}"));
+    }
+
+    private static OutboxEvent event(Long id, Long orderId) {
+        OutboxEvent event = new OutboxEvent(OrderEventOutbox.ORDER_PLACED, orderId,
+                ("{\"orderId\":" + orderId + "}").getBytes(StandardCharsets.UTF_8), LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+}
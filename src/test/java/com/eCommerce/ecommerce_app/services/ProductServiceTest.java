@@ -2,17 +2,31 @@ package com.eCommerce.ecommerce_app.services;
 
 import com.eCommerce.ecommerce_app.entities.Product;
 import com.eCommerce.ecommerce_app.exceptions.ProductAlreadyExistsException;
+import com.eCommerce.ecommerce_app.membership.MembershipFilters;
 import com.eCommerce.ecommerce_app.requests.ProductRequestDto;
+import com.eCommerce.ecommerce_app.responses.ProductSearchResultDto;
+import com.eCommerce.ecommerce_app.responses.ProductSuggestionDto;
+import com.eCommerce.ecommerce_app.responses.TrendingProductDto;
 import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.search.AutocompleteTrie;
+import com.eCommerce.ecommerce_app.search.InvertedIndex;
+import com.eCommerce.ecommerce_app.search.ProductAutocomplete;
+import com.eCommerce.ecommerce_app.search.ProductSearchIndex;
+import com.eCommerce.ecommerce_app.trending.Trend;
+import com.eCommerce.ecommerce_app.trending.TrendingProducts;
+import com.eCommerce.ecommerce_app.trending.TrendingWindow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +37,21 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private VatRateService vatRateService;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductAutocomplete productAutocomplete;
+
+    @Mock
+    private TrendingProducts trendingProducts;
+
+    @Spy
+    private MembershipFilters membershipFilters = new MembershipFilters(mock(JdbcTemplate.class), 0.01);
+
     @InjectMocks
     private ProductService productService;
 
@@ -39,6 +68,7 @@ class ProductServiceTest {
     @Test
     void addProduct_ShouldSaveAndReturnProduct_WhenNameDoesNotExist() {
         // given
+        when(vatRateService.grossMultiplier(any())).thenReturn(12300L);
         when(productRepository.existsByName(validDto.getName())).thenReturn(false);
 
         ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
@@ -55,6 +85,8 @@ class ProductServiceTest {
 
         verify(productRepository).existsByName(validDto.getName());
         verify(productRepository).save(any(Product.class));
+        verify(productSearchIndex).add(savedProduct);
+        verify(productAutocomplete).add(savedProduct);
     }
 
     @Test
@@ -88,6 +120,7 @@ class ProductServiceTest {
         dto.setPrice(BigDecimal.valueOf(100.00));
         dto.setVat(BigDecimal.valueOf(23.00));
 
+        when(vatRateService.grossMultiplier(any())).thenReturn(12300L);
         when(productRepository.existsByName(dto.getName())).thenReturn(false);
         when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -99,4 +132,71 @@ class ProductServiceTest {
 
         verify(productRepository).save(any(Product.class));
     }
+
+    @Test
+    void addProduct_ShouldRoundGrossPriceToCents() {
+        ProductRequestDto dto = new ProductRequestDto();
+        dto.setName("Rounded Product");
+        dto.setPrice(new BigDecimal("9.99"));
+        dto.setVat(new BigDecimal("23"));
+
+        when(vatRateService.grossMultiplier(any())).thenReturn(12300L);
+        when(productRepository.existsByName(dto.getName())).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Product savedProduct = productService.addProduct(dto);
+
+        assertEquals(new BigDecimal("12.29"), savedProduct.getPriceGorss());
+    }
+
+    @Test
+    void search_ShouldMapHitsAndClampLimit() {
+        when(productSearchIndex.search("lamp", 100, true))
+                .thenReturn(List.of(new InvertedIndex.Hit(5L, "Desk Lamp", true, 1.5)));
+
+        List<ProductSearchResultDto> results = productService.search("lamp", 1000, true);
+
+        assertEquals(1, results.size());
+        assertEquals(5L, results.get(0).getId());
+        assertEquals("Desk Lamp", results.get(0).getName());
+        assertTrue(results.get(0).isInStock());
+        assertEquals(1.5, results.get(0).getScore());
+    }
+
+    @Test
+    void autocomplete_ShouldMapSuggestions() {
+        when(productAutocomplete.complete("des", 5))
+                .thenReturn(List.of(new AutocompleteTrie.Suggestion(5L, "Desk Lamp", 12)));
+
+        List<ProductSuggestionDto> results = productService.autocomplete("des", 5);
+
+        assertEquals(List.of(new ProductSuggestionDto(5L, "Desk Lamp")), results);
+    }
+
+    @Test
+    void trending_ShouldAttachNamesAndSkipDeletedProducts() {
+        when(trendingProducts.top(TrendingWindow.FIVE_MINUTES, 100))
+                .thenReturn(List.of(new Trend(5L, 12, 0), new Trend(9L, 7, 2)));
+        Product lamp = new Product();
+        lamp.setId(5L);
+        lamp.setName("Desk Lamp");
+        when(productRepository.findAllById(List.of(5L, 9L))).thenReturn(List.of(lamp));
+
+        List<TrendingProductDto> results = productService.trending(TrendingWindow.FIVE_MINUTES, 1000);
+
+        assertEquals(List.of(new TrendingProductDto(5L, "Desk Lamp", 12, 0)), results);
+    }
+
+    @Test
+    void addProduct_ShouldRecordFalsePositive_WhenFilterMatchesButNameIsFree() {
+        membershipFilters.productNames().rebuild(1, sink -> sink.accept(validDto.getName()));
+        when(vatRateService.grossMultiplier(any())).thenReturn(12300L);
+        when(productRepository.existsByName(validDto.getName())).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        productService.addProduct(validDto);
+
+        assertEquals(1, membershipFilters.productNames().getFalsePositives());
+        assertEquals(1.0, membershipFilters.productNames().observedFalsePositiveRate());
+    }
 }
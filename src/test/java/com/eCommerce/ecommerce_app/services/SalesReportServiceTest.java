@@ -0,0 +1,140 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Order;
+import com.eCommerce.ecommerce_app.entities.OrderItem;
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.respositories.ProductDailySalesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesReportServiceTest {
+
+    private static final String DELETE_SQL = "delete from product_daily_sales where sales_date between ? and ?";
+
+    @Mock
+    private ProductDailySalesRepository productDailySalesRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SalesReportService salesReportService;
+
+    @BeforeEach
+    void setUp() {
+        salesReportService = new SalesReportService(productDailySalesRepository, jdbcTemplate, transactionManager, 2, 7, 100);
+    }
+
+    @Test
+    void flush_ShouldMergeAccumulatedDeltasPerProductAndDay() {
+        salesReportService.record(order(item(1L, 2, "20.00", "24.60"), item(2L, 1, "5.00", "6.15")));
+        salesReportService.record(order(item(1L, 3, "30.00", "36.90")));
+
+        assertEquals(2, salesReportService.flush());
+
+        List<Object[]> rows = capturedRows();
+        Object[] first = rows.stream().filter(row -> row[0].equals(1L)).findFirst().orElseThrow();
+        assertEquals(Date.valueOf(LocalDate.now()), first[1]);
+        assertEquals(5L, first[2]);
+        assertEquals(new BigDecimal("50.00"), first[3]);
+        assertEquals(new BigDecimal("61.50"), first[4]);
+        assertEquals(0, salesReportService.flush());
+    }
+
+    @Test
+    void flush_ShouldKeepDeltasWhenWriteFails() {
+        salesReportService.record(order(item(1L, 2, "20.00", "24.60")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new RuntimeException("database down"))
+                .thenReturn(new int[]{1});
+
+        assertEquals(0, salesReportService.flush());
+        assertEquals(1, salesReportService.flush());
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void rebuild_ShouldRecomputeClosedDaysInParallelPartitions() {
+        LocalDate from = LocalDate.now().minusDays(20);
+        when(jdbcTemplate.update(eq(DELETE_SQL), any(Date.class), any(Date.class))).thenReturn(2);
+        when(jdbcTemplate.update(startsWith("insert"), any(Timestamp.class), any(Timestamp.class))).thenReturn(4);
+
+        int rows = salesReportService.rebuild(from, LocalDate.now().plusDays(5));
+
+        assertEquals(12, rows);
+        verify(jdbcTemplate).update(DELETE_SQL, Date.valueOf(from), Date.valueOf(from.plusDays(6)));
+        verify(jdbcTemplate).update(DELETE_SQL, Date.valueOf(from.plusDays(7)), Date.valueOf(from.plusDays(13)));
+        verify(jdbcTemplate).update(DELETE_SQL, Date.valueOf(from.plusDays(14)),
+                Date.valueOf(LocalDate.now().minusDays(1)));
+        verify(jdbcTemplate, times(3)).update(eq(DELETE_SQL), any(Date.class), any(Date.class));
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositivePartitionDays() {
+        assertThrows(IllegalArgumentException.class, () -> new SalesReportService(productDailySalesRepository,
+                jdbcTemplate, transactionManager, 2, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new SalesReportService(productDailySalesRepository,
+                jdbcTemplate, transactionManager, 0, 7, 100));
+    }
+
+    @Test
+    void rebuild_ShouldSkipDaysThatAreStillOpen() {
+        assertEquals(0, salesReportService.rebuild(LocalDate.now(), LocalDate.now()));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void productSales_ShouldCapLimit() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(productDailySalesRepository.findProductTotals(from, to, PageRequest.of(0, 100))).thenReturn(List.of());
+
+        assertTrue(salesReportService.productSales(from, to, 5000).isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedRows() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Order order(OrderItem... items) {
+        Order order = new Order();
+        order.setOrderDate(LocalDateTime.now());
+        order.setOrderItems(List.of(items));
+        return order;
+    }
+
+    private static OrderItem item(Long productId, int quantity, String net, String gross) {
+        OrderItem item = new OrderItem();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        item.setNetPrice(Money.of(new BigDecimal(net)));
+        item.setGrossPrice(Money.of(new BigDecimal(gross)));
+        return item;
+    }
+}
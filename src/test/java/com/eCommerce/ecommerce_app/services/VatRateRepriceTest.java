@@ -0,0 +1,68 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.Product;
+import com.eCommerce.ecommerce_app.entities.VatRate;
+import com.eCommerce.ecommerce_app.money.Money;
+import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.VatRateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VatRateRepriceTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private VatRateRepository vatRateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void changeVatRate_ShouldKeepStockChangedWhileRepricing() {
+        BigDecimal oldRate = new BigDecimal("23.00");
+        BigDecimal newRate = new BigDecimal("25.00");
+        vatRateRepository.save(new VatRate(null, oldRate));
+        Product lamp = productRepository.save(new Product(null, "Lamp", new BigDecimal("0.99"), oldRate,
+                new BigDecimal("1.22"), 10));
+        Product mug = productRepository.save(new Product(null, "Mug", new BigDecimal("0.02"), oldRate,
+                new BigDecimal("0.02"), 5));
+
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ProductRepository racingRepository = mock(ProductRepository.class, delegatesTo(productRepository));
+        doAnswer(invocation -> {
+            concurrent.executeWithoutResult(status -> productRepository.reserveStock(lamp.getId(), 4));
+            return productRepository.repriceByVat(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4));
+        }).when(racingRepository).repriceByVat(any(), any(), anyLong(), anyLong(), anyLong());
+        VatRateService vatRateService = new VatRateService(vatRateRepository, racingRepository, transactionManager, 500);
+
+        int repriced = vatRateService.changeVatRate(oldRate, newRate);
+
+        assertEquals(2, repriced);
+        Product repricedLamp = productRepository.findById(lamp.getId()).orElseThrow();
+        assertEquals(6, repricedLamp.getQuantity());
+        assertEquals(0, newRate.compareTo(repricedLamp.getVat()));
+        assertEquals(Money.of(new BigDecimal("0.99")).withVat(newRate).toBigDecimal(), repricedLamp.getPriceGorss());
+        Product repricedMug = productRepository.findById(mug.getId()).orElseThrow();
+        assertEquals(5, repricedMug.getQuantity());
+        assertEquals(Money.of(new BigDecimal("0.02")).withVat(newRate).toBigDecimal(), repricedMug.getPriceGorss());
+    }
+}
@@ -0,0 +1,98 @@
+package com.eCommerce.ecommerce_app.services;
+
+import com.eCommerce.ecommerce_app.entities.VatRate;
+import com.eCommerce.ecommerce_app.exceptions.VatRateAlreadyExistsException;
+import com.eCommerce.ecommerce_app.exceptions.VatRateNotFoundException;
+import com.eCommerce.ecommerce_app.respositories.ProductRepository;
+import com.eCommerce.ecommerce_app.respositories.VatRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VatRateServiceTest {
+
+    @Mock
+    private VatRateRepository vatRateRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VatRateService vatRateService;
+
+    @BeforeEach
+    void setUp() {
+        vatRateService = new VatRateService(vatRateRepository, productRepository, transactionManager, 500);
+    }
+
+    @Test
+    void grossMultiplier_ShouldReturnSameMultiplierForEquivalentRates() {
+        assertEquals(12300L, vatRateService.grossMultiplier(new BigDecimal("23")));
+        assertEquals(12300L, vatRateService.grossMultiplier(new BigDecimal("23.00")));
+        assertEquals(10750L, vatRateService.grossMultiplier(new BigDecimal("7.5")));
+    }
+
+    @Test
+    void addVatRate_ShouldThrowException_WhenRateAlreadyExists() {
+        when(vatRateRepository.existsByRate(BigDecimal.valueOf(23))).thenReturn(true);
+
+        assertThrows(VatRateAlreadyExistsException.class, () -> vatRateService.addVatRate(BigDecimal.valueOf(23)));
+
+        verify(vatRateRepository, never()).save(any());
+    }
+
+    @Test
+    void changeVatRate_ShouldRepriceProductsInIdRangeBatches() {
+        BigDecimal oldRate = BigDecimal.valueOf(23);
+        BigDecimal newRate = BigDecimal.valueOf(25);
+        VatRate vatRate = new VatRate(1L, oldRate);
+
+        when(vatRateRepository.findByRate(oldRate)).thenReturn(Optional.of(vatRate));
+        when(vatRateRepository.existsByRate(newRate)).thenReturn(false);
+        when(productRepository.findMinIdByVat(oldRate)).thenReturn(1L);
+        when(productRepository.findMaxIdByVat(oldRate)).thenReturn(1200L);
+        when(productRepository.repriceByVat(oldRate, newRate, 12500L, 1L, 500L)).thenReturn(2);
+        when(productRepository.repriceByVat(oldRate, newRate, 12500L, 501L, 1000L)).thenReturn(0);
+        when(productRepository.repriceByVat(oldRate, newRate, 12500L, 1001L, 1200L)).thenReturn(1);
+
+        int repriced = vatRateService.changeVatRate(oldRate, newRate);
+
+        assertEquals(3, repriced);
+        verify(vatRateRepository).save(argThat(rate -> rate.getRate().equals(newRate)));
+    }
+
+    @Test
+    void changeVatRate_ShouldKeepTheRate_WhenNewRateEqualsOldRate() {
+        VatRate vatRate = new VatRate(1L, new BigDecimal("23"));
+        when(vatRateRepository.findByRate(new BigDecimal("23"))).thenReturn(Optional.of(vatRate));
+
+        int repriced = vatRateService.changeVatRate(new BigDecimal("23"), new BigDecimal("23.00"));
+
+        assertEquals(0, repriced);
+        verifyNoInteractions(productRepository);
+        verify(vatRateRepository, never()).delete(any());
+        verify(vatRateRepository, never()).save(any());
+    }
+
+    @Test
+    void changeVatRate_ShouldThrowException_WhenOldRateIsUnknown() {
+        when(vatRateRepository.findByRate(any())).thenReturn(Optional.empty());
+
+        assertThrows(VatRateNotFoundException.class,
+                () -> vatRateService.changeVatRate(BigDecimal.ONE, BigDecimal.TEN));
+
+        verifyNoInteractions(productRepository);
+    }
+}
@@ -0,0 +1,82 @@
+package com.eCommerce.ecommerce_app.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingTopKTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_000L * 60 * MINUTE;
+
+    @Test
+    void spaceSaving_ShouldKeepHeavyHittersAndBoundTheirError() {
+        SpaceSaving summary = new SpaceSaving(3);
+        for (int round = 0; round < 50; round++) {
+            summary.offer(1L, 3);
+            summary.offer(2L, 2);
+            summary.offer(100L + round, 1);
+        }
+
+        List<Trend> top = summary.snapshot().top(2);
+
+        assertEquals(List.of(1L, 2L), top.stream().map(Trend::productId).toList());
+        assertTrue(top.get(0).units() >= 150);
+        assertTrue(top.get(0).units() - top.get(0).maxOvercount() <= 150);
+        assertEquals(3, summary.size());
+    }
+
+    @Test
+    void top_ShouldOnlyCountSalesInsideTheWindow() {
+        SlidingTopK window = new SlidingTopK(10, 4, START);
+        window.offer(1L, 50);
+        for (int minute = 1; minute <= 10; minute++) {
+            window.advance(START + minute * MINUTE);
+            window.advance(START + minute * MINUTE + 1_000L);
+            window.offer(2L, 5);
+        }
+        long now = START + 10 * MINUTE + 2_000L;
+
+        assertEquals(List.of(new Trend(2L, 25, 0)), window.top(5, 10, now));
+        assertEquals(List.of(new Trend(1L, 50, 0), new Trend(2L, 50, 0)), window.top(60, 10, now));
+    }
+
+    @Test
+    void top_ShouldRollMinutesIntoHoursForTheDailyWindow() {
+        SlidingTopK window = new SlidingTopK(10, 4, START);
+        for (int minute = 0; minute < 3 * 60; minute++) {
+            window.advance(START + minute * MINUTE);
+            window.advance(START + minute * MINUTE + 1_000L);
+            window.offer(minute < 60 ? 1L : 2L, 1);
+        }
+        long now = START + 3 * 60 * MINUTE - 1_000L;
+
+        assertEquals(List.of(new Trend(2L, 60, 0)), window.top(60, 10, now));
+        assertEquals(List.of(new Trend(2L, 120, 0), new Trend(1L, 60, 0)), window.top(1440, 10, now));
+    }
+
+    @Test
+    void top_ShouldIncludeTheMinuteThatIsStillDraining() {
+        SlidingTopK window = new SlidingTopK(10, 4, START);
+        window.offer(7L, 4);
+        window.advance(START + MINUTE);
+
+        assertEquals(List.of(new Trend(7L, 4, 0)), window.top(5, 10, START + MINUTE));
+    }
+
+    @Test
+    void trackedCounters_ShouldStayBoundedByCapacity() {
+        SlidingTopK window = new SlidingTopK(5, 2, START);
+        for (int minute = 0; minute < 2 * 24 * 60; minute += 7) {
+            window.advance(START + minute * MINUTE);
+            window.advance(START + minute * MINUTE + 1_000L);
+            for (long item = 0; item < 100; item++) {
+                window.offer(item, 1);
+            }
+        }
+
+        assertTrue(window.trackedCounters() <= 5 * (60 + 24 + 2));
+    }
+}